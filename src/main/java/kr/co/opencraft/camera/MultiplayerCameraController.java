@@ -0,0 +1,78 @@
+package kr.co.opencraft.camera;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector3;
+import kr.co.opencraft.entity.MovementSimulator;
+import kr.co.opencraft.entity.OpenCraftPlayer;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.network.MovementPredictor;
+import kr.co.voxelient.camera.FPSCamera;
+import kr.co.voxelient.input.InputHandler;
+import kr.co.voxelite.physics.PhysicsSystem;
+
+/**
+ * Multiplayer camera controller that moves the player in fixed ticks through
+ * {@link MovementPredictor}, so every step can be replayed after a server correction.
+ *
+ * Ticks rarely line up with frames, so the camera is placed between the positions before
+ * and after the latest tick by the fraction of a tick left in the accumulator.
+ */
+public class MultiplayerCameraController extends OpenCraftCameraController {
+    // Caps catch-up after a hitch so a long frame does not run hundreds of ticks
+    private static final float MAX_CATCH_UP_SECONDS = 0.25f;
+
+    private final MovementPredictor movementPredictor;
+    private final Vector3 previousTickPosition = new Vector3();
+    private final Vector3 eyePosition = new Vector3();
+    private float tickAccumulator;
+    private boolean jumpRequested;
+    private boolean hasPreviousTick;
+
+    public MultiplayerCameraController(
+        FPSCamera camera,
+        OpenCraftPlayer player,
+        PhysicsSystem physicsSystem,
+        InputHandler inputHandler,
+        MovementPredictor movementPredictor
+    ) {
+        super(camera, player, physicsSystem, inputHandler);
+        this.movementPredictor = movementPredictor;
+    }
+
+    @Override
+    public void update(float delta) {
+        handleMouseLook();
+
+        OpenCraftPlayer player = getOpenCraftPlayer();
+        // Latched until the next tick, which may not run on the frame Space goes down
+        if (!player.isFlyMode() && Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+            jumpRequested = true;
+        }
+
+        tickAccumulator += delta;
+        if (tickAccumulator > MAX_CATCH_UP_SECONDS) {
+            // Time beyond the cap is dropped, not simulated; count it so hitches show up
+            int droppedTicks = (int) ((tickAccumulator - MAX_CATCH_UP_SECONDS) / MovementSimulator.TICK_SECONDS);
+            OpenCraftMetrics.MOVEMENT_TICKS_DROPPED.add(droppedTicks);
+            tickAccumulator -= droppedTicks * MovementSimulator.TICK_SECONDS;
+        }
+        if (!hasPreviousTick) {
+            previousTickPosition.set(player.getPosition());
+            hasPreviousTick = true;
+        }
+        while (tickAccumulator >= MovementSimulator.TICK_SECONDS) {
+            tickAccumulator -= MovementSimulator.TICK_SECONDS;
+            previousTickPosition.set(player.getPosition());
+            movementPredictor.predict(player, sampleMovementKeys(jumpRequested), getYawDegrees(), getPitchDegrees());
+            jumpRequested = false;
+        }
+
+        updateCameraPosition();
+        float alpha = tickAccumulator / MovementSimulator.TICK_SECONDS;
+        eyePosition.set(player.getEyePosition()).sub(player.getPosition())
+            .add(previousTickPosition).lerp(player.getEyePosition(), alpha);
+        camera.setPosition(eyePosition);
+        camera.update();
+    }
+}
@@ -2,7 +2,10 @@ package kr.co.opencraft.camera;
 
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
+import kr.co.opencraft.entity.InputCommand;
+import kr.co.opencraft.entity.MovementSimulator;
 import kr.co.voxelient.camera.CameraController;
 import kr.co.voxelient.camera.FPSCamera;
 import kr.co.voxelient.input.InputHandler;
@@ -15,15 +18,34 @@ import kr.co.opencraft.entity.OpenCraftPlayer;
  */
 public class OpenCraftCameraController extends CameraController {
     private final OpenCraftPlayer openCraftPlayer;
+    private final MovementSimulator movementSimulator;
 
     public OpenCraftCameraController(FPSCamera camera, OpenCraftPlayer player, PhysicsSystem physicsSystem, InputHandler inputHandler) {
         super(camera, player, physicsSystem, inputHandler);
         this.openCraftPlayer = player;
+        this.movementSimulator = MovementSimulator.of(physicsSystem);
     }
 
     @Override
     public void update(float delta) {
-        // Handle mouse look
+        handleMouseLook();
+
+        // Jump only on the frame Space goes down; in fly mode Space ascends instead
+        boolean jump = !openCraftPlayer.isFlyMode() && Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+        InputCommand command = InputCommand.of(
+            0,
+            sampleMovementKeys(jump),
+            getYawDegrees(),
+            getPitchDegrees(),
+            openCraftPlayer.isFlyMode()
+        );
+        movementSimulator.apply(openCraftPlayer, command, moveSpeed, delta);
+
+        updateCameraPosition();
+        camera.update();
+    }
+
+    protected void handleMouseLook() {
         if (inputHandler.isMouseLocked()) {
             int deltaX = inputHandler.getMouseDeltaX();
             int deltaY = inputHandler.getMouseDeltaY();
@@ -32,101 +54,50 @@ public class OpenCraftCameraController extends CameraController {
             camera.addYaw(deltaYaw);
             camera.addPitch(deltaPitch);
         }
+    }
 
-        Vector3 direction = camera.getDirection();
-        Vector3 moveDir = new Vector3();
-
-        if (openCraftPlayer.isFlyMode()) {
-            // === FLY MODE ===
-            // Horizontal movement based on camera direction (no Y component)
-            Vector3 horizontalDir = new Vector3(direction);
-            horizontalDir.y = 0;  // Remove Y component for horizontal movement
-            horizontalDir.nor();
-            
-            if (Gdx.input.isKeyPressed(Input.Keys.W)) {
-                moveDir.add(horizontalDir);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.S)) {
-                moveDir.sub(horizontalDir);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-                Vector3 right = new Vector3();
-                Vector3 up = new Vector3(0, 1, 0);
-                right.set(horizontalDir).crs(up).nor();
-                moveDir.sub(right);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-                Vector3 right = new Vector3();
-                Vector3 up = new Vector3(0, 1, 0);
-                right.set(horizontalDir).crs(up).nor();
-                moveDir.add(right);
-            }
-            
-            // Vertical movement in fly mode (Space/Shift only)
-            if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
-                moveDir.y += 1f;  // Ascend
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
-                moveDir.y -= 1f;  // Descend
-            }
-            
-            if (moveDir.len() > 0.001f) {
-                moveDir.nor().scl(OpenCraftPlayer.FLY_SPEED);
-                player.getVelocity().set(moveDir);
-            } else {
-                player.getVelocity().set(0, 0, 0);
-            }
-            
-            // Fly mode with collision detection (gravity disabled via gravityEnabled flag)
-            physicsSystem.update(player, delta);
-        } else {
-            // === NORMAL MODE ===
-            // Handle jump
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-                physicsSystem.tryJump(player);
-            }
-            
-            // Horizontal movement only
-            Vector3 horizontalDir = new Vector3(direction);
-            horizontalDir.y = 0;
-            horizontalDir.nor();
-
-            if (Gdx.input.isKeyPressed(Input.Keys.W)) {
-                moveDir.add(horizontalDir);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.S)) {
-                moveDir.sub(horizontalDir);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-                Vector3 right = new Vector3();
-                Vector3 up = new Vector3(0, 1, 0);
-                right.set(horizontalDir).crs(up).nor();
-                moveDir.sub(right);
-            }
-            if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-                Vector3 right = new Vector3();
-                Vector3 up = new Vector3(0, 1, 0);
-                right.set(horizontalDir).crs(up).nor();
-                moveDir.add(right);
-            }
+    /**
+     * Held movement keys as {@link InputCommand} bits.
+     */
+    protected int sampleMovementKeys(boolean jump) {
+        int keys = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
+            keys |= InputCommand.FORWARD;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.S)) {
+            keys |= InputCommand.BACK;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+            keys |= InputCommand.LEFT;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+            keys |= InputCommand.RIGHT;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
+            keys |= InputCommand.ASCEND;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
+            keys |= InputCommand.DESCEND;
+        }
+        if (jump) {
+            keys |= InputCommand.JUMP;
+        }
+        return keys;
+    }
 
-            if (moveDir.len() > 0.001f) {
-                moveDir.nor().scl(moveSpeed);
-                player.getVelocity().x = moveDir.x;
-                player.getVelocity().z = moveDir.z;
-            } else {
-                player.getVelocity().x = 0;
-                player.getVelocity().z = 0;
-            }
+    /**
+     * Horizontal look angle, 0 along +X and increasing towards +Z.
+     */
+    protected float getYawDegrees() {
+        Vector3 direction = camera.getDirection();
+        return MathUtils.atan2(direction.z, direction.x) * MathUtils.radiansToDegrees;
+    }
 
-            // Physics update (gravity, collision, etc.)
-            physicsSystem.update(player, delta);
-        }
-        
-        updateCameraPosition();
-        camera.update();
+    protected float getPitchDegrees() {
+        Vector3 direction = camera.getDirection();
+        return (float) Math.toDegrees(Math.asin(MathUtils.clamp(direction.y, -1f, 1f)));
     }
-    
+
     public OpenCraftPlayer getOpenCraftPlayer() {
         return openCraftPlayer;
     }
@@ -0,0 +1,42 @@
+package kr.co.opencraft.entity;
+
+/**
+ * One tick of player input: held movement keys, look direction and fly mode.
+ *
+ * Yaw and pitch are kept quantized to 16 bits, the precision the wire format carries,
+ * so the client predicts with exactly the values the server simulates.
+ */
+public record InputCommand(int sequence, int keys, short yawBits, short pitchBits, boolean fly) {
+    public static final int FORWARD = 1;
+    public static final int BACK = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int JUMP = 1 << 4;
+    public static final int ASCEND = 1 << 5;
+    public static final int DESCEND = 1 << 6;
+    public static final int KEY_MASK = 0x7F;
+
+    private static final float DEGREES_PER_STEP = 360f / 65536f;
+
+    public static InputCommand of(int sequence, int keys, float yawDegrees, float pitchDegrees, boolean fly) {
+        return new InputCommand(sequence, keys & KEY_MASK, quantize(yawDegrees), quantize(pitchDegrees), fly);
+    }
+
+    public boolean isPressed(int key) {
+        return (keys & key) != 0;
+    }
+
+    public float getYawDegrees() {
+        return yawBits * DEGREES_PER_STEP;
+    }
+
+    public float getPitchDegrees() {
+        return pitchBits * DEGREES_PER_STEP;
+    }
+
+    // Wraps into [-180, 180) first; +180 folds onto -180, the same direction
+    static short quantize(float degrees) {
+        float wrapped = ((degrees % 360f) + 540f) % 360f - 180f;
+        return (short) Math.round(wrapped / DEGREES_PER_STEP);
+    }
+}
@@ -0,0 +1,103 @@
+package kr.co.opencraft.entity;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import kr.co.voxelite.entity.Player;
+import kr.co.voxelite.physics.PhysicsSystem;
+
+/**
+ * Turns an {@link InputCommand} into player velocity and steps physics.
+ *
+ * This is the single movement code path: the single player camera controller runs it
+ * with the frame delta, and multiplayer prediction runs it at a fixed tick so unacknowledged
+ * commands can be replayed from the server state.
+ */
+public final class MovementSimulator {
+    public static final float TICK_SECONDS = 1f / 60f;
+
+    private static final Vector3 UP = new Vector3(0f, 1f, 0f);
+
+    private final Physics physics;
+    private final Vector3 forward = new Vector3();
+    private final Vector3 right = new Vector3();
+    private final Vector3 moveDir = new Vector3();
+
+    public MovementSimulator(Physics physics) {
+        this.physics = physics;
+    }
+
+    public static MovementSimulator of(PhysicsSystem physicsSystem) {
+        return new MovementSimulator(new Physics() {
+            @Override
+            public void update(Player player, float delta) {
+                physicsSystem.update(player, delta);
+            }
+
+            @Override
+            public void tryJump(Player player) {
+                physicsSystem.tryJump(player);
+            }
+        });
+    }
+
+    public void apply(OpenCraftPlayer player, InputCommand command, float walkSpeed, float delta) {
+        if (player.isFlyMode() != command.fly()) {
+            player.setFlyMode(command.fly());
+        }
+
+        float yaw = command.getYawDegrees() * MathUtils.degreesToRadians;
+        forward.set(MathUtils.cos(yaw), 0f, MathUtils.sin(yaw));
+        right.set(forward).crs(UP).nor();
+        moveDir.setZero();
+        if (command.isPressed(InputCommand.FORWARD)) {
+            moveDir.add(forward);
+        }
+        if (command.isPressed(InputCommand.BACK)) {
+            moveDir.sub(forward);
+        }
+        if (command.isPressed(InputCommand.LEFT)) {
+            moveDir.sub(right);
+        }
+        if (command.isPressed(InputCommand.RIGHT)) {
+            moveDir.add(right);
+        }
+
+        Vector3 velocity = player.getVelocity();
+        if (player.isFlyMode()) {
+            if (command.isPressed(InputCommand.ASCEND)) {
+                moveDir.y += 1f;
+            }
+            if (command.isPressed(InputCommand.DESCEND)) {
+                moveDir.y -= 1f;
+            }
+            if (moveDir.len() > 0.001f) {
+                velocity.set(moveDir.nor().scl(OpenCraftPlayer.FLY_SPEED));
+            } else {
+                velocity.setZero();
+            }
+        } else {
+            if (command.isPressed(InputCommand.JUMP)) {
+                physics.tryJump(player);
+            }
+            if (moveDir.len() > 0.001f) {
+                moveDir.nor().scl(walkSpeed);
+                velocity.x = moveDir.x;
+                velocity.z = moveDir.z;
+            } else {
+                velocity.x = 0f;
+                velocity.z = 0f;
+            }
+        }
+
+        physics.update(player, delta);
+    }
+
+    /**
+     * The parts of {@link PhysicsSystem} movement needs, so tests can supply their own world.
+     */
+    public interface Physics {
+        void update(Player player, float delta);
+
+        void tryJump(Player player);
+    }
+}
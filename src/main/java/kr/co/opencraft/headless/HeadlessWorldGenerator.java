@@ -0,0 +1,144 @@
+package kr.co.opencraft.headless;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import kr.co.opencraft.world.WorldSeedStore;
+import kr.co.opencraft.world.pregen.PregenerationJob;
+import kr.co.opencraft.world.store.RegionChunkStore;
+
+/**
+ * GL 없이 월드를 사전 생성하는 커맨드라인 진입점 (CI/빌드 서버용)
+ *
+ * <pre>
+ * ./gradlew generateWorld --args="--world saves/world1 --seed 42 --radius 64 --threads 8"
+ * </pre>
+ */
+public final class HeadlessWorldGenerator {
+    private static final String USAGE =
+        "usage: generateWorld --world <path> --radius <chunks> [--seed <long>] [--threads <n>] [--center <x>,<z>]";
+    private static final long REPORT_INTERVAL_MS = 1000L;
+
+    private HeadlessWorldGenerator() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * @return process exit code: 0 on success, 1 on generation failure, 2 on bad arguments
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+
+        try {
+            long seed = options.seed == null
+                ? WorldSeedStore.loadOrCreateSeed(options.worldPath)
+                : WorldSeedStore.loadOrCreateSeed(options.worldPath, options.seed);
+            if (options.seed != null && seed != options.seed) {
+                err.println("World " + options.worldPath + " already uses seed " + seed);
+                return 2;
+            }
+
+            out.printf("[Headless] world=%s seed=%d center=%d,%d radius=%d threads=%d chunks=%d%n",
+                options.worldPath, seed, options.centerX, options.centerZ, options.radius, options.threads,
+                PregenerationJob.chunkCount(options.radius));
+
+            PregenerationJob.Progress result;
+            try (RegionChunkStore store = RegionChunkStore.open(options.worldPath);
+                 PregenerationJob job = new PregenerationJob(
+                     seed, store, options.centerX, options.centerZ, options.radius, options.threads)) {
+                job.start();
+                while (!job.awaitCompletion(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    PregenerationJob.Progress progress = job.getProgress();
+                    out.printf("[Headless] %d/%d chunks (%.1f%%) %.0f chunks/s%n",
+                        progress.completed(), progress.total(), progress.fraction() * 100f, progress.chunksPerSecond());
+                }
+                result = job.getProgress();
+            }
+
+            long regionBytes = directorySize(Path.of(options.worldPath).resolve(RegionChunkStore.DIRECTORY));
+            out.printf("[Headless] done: generated=%d skipped=%d failed=%d in %.1fs, %.0f chunks/s, %.1f MB on disk%n",
+                result.generated(), result.skipped(), result.failed(), result.elapsedMillis() / 1000.0,
+                result.chunksPerSecond(), regionBytes / (1024.0 * 1024.0));
+            return result.failed() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            err.println("[Headless] " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0L;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            long total = 0L;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+
+    private static final class Options {
+        private String worldPath;
+        private Long seed;
+        private int radius = -1;
+        private int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        private int centerX;
+        private int centerZ;
+
+        private static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("missing value for " + name);
+                }
+                String value = args[++i];
+                try {
+                    switch (name) {
+                        case "--world" -> options.worldPath = value;
+                        case "--seed" -> options.seed = Long.parseLong(value);
+                        case "--radius" -> options.radius = Integer.parseInt(value);
+                        case "--threads" -> options.threads = Integer.parseInt(value);
+                        case "--center" -> {
+                            String[] parts = value.split(",");
+                            if (parts.length != 2) {
+                                throw new IllegalArgumentException("--center expects <x>,<z>");
+                            }
+                            options.centerX = Integer.parseInt(parts[0].trim());
+                            options.centerZ = Integer.parseInt(parts[1].trim());
+                        }
+                        default -> throw new IllegalArgumentException("unknown option " + name);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("invalid number for " + name + ": " + value);
+                }
+            }
+
+            if (options.worldPath == null || options.radius < 0) {
+                throw new IllegalArgumentException("--world and --radius are required");
+            }
+            if (options.threads <= 0) {
+                throw new IllegalArgumentException("--threads must be positive");
+            }
+            return options;
+        }
+    }
+}
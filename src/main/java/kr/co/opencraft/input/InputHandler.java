@@ -6,6 +6,7 @@ import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.math.Vector3;
 import kr.co.opencraft.entity.OpenCraftPlayer;
 import kr.co.opencraft.ui.Hotbar;
+import kr.co.opencraft.world.section.SectionTracker;
 import kr.co.voxelient.engine.VoxelientEngine;
 import kr.co.voxelite.physics.RaycastHit;
 
@@ -16,15 +17,17 @@ public class InputHandler extends InputAdapter {
     private final VoxelientEngine engine;
     private final OpenCraftPlayer player;
     private final Hotbar hotbar;
+    private final SectionTracker sectionTracker;
     
     // Double-tap detection for fly mode toggle
     private static final float DOUBLE_TAP_TIME = 0.3f;  // 300ms window
     private float lastSpaceTapTime = -1f;
     private float timeSinceLastTap = 0f;
-    public InputHandler(VoxelientEngine engine, OpenCraftPlayer player, Hotbar hotbar) {
+    public InputHandler(VoxelientEngine engine, OpenCraftPlayer player, Hotbar hotbar, SectionTracker sectionTracker) {
         this.engine = engine;
         this.player = player;
         this.hotbar = hotbar;
+        this.sectionTracker = sectionTracker;
     }
     
     /**
@@ -155,6 +158,7 @@ public class InputHandler extends InputAdapter {
         Vector3 selectedBlock = engine.getSelectedBlock();
         if (selectedBlock != null) {
             engine.removeBlock(selectedBlock);
+            sectionTracker.onBlockChanged(selectedBlock);
         }
     }
     
@@ -169,6 +173,7 @@ public class InputHandler extends InputAdapter {
             
             if (!wouldCollideWithPlayer(placePos, selectedBlockType)) {
                 engine.addBlock(placePos, selectedBlockType);
+                sectionTracker.onBlockChanged(placePos);
             } else {
                 System.out.println("Cannot place block: would collide with player");
             }
@@ -20,12 +20,23 @@ public class MultiplayerInputHandler {
     private final VoxelientEngine engine;
     private final OpenCraftPlayer player;
     private final MultiplayerClient multiplayerClient;
+    private final BlockEditPredictor blockEditPredictor;
     private int selectedBlockType = DEFAULT_PLACEMENT_BLOCK;
 
     public MultiplayerInputHandler(VoxelientEngine engine, OpenCraftPlayer player, MultiplayerClient multiplayerClient) {
+        this(engine, player, multiplayerClient, (position, blockType) -> { });
+    }
+
+    public MultiplayerInputHandler(
+        VoxelientEngine engine,
+        OpenCraftPlayer player,
+        MultiplayerClient multiplayerClient,
+        BlockEditPredictor blockEditPredictor
+    ) {
         this.engine = engine;
         this.player = player;
         this.multiplayerClient = multiplayerClient;
+        this.blockEditPredictor = blockEditPredictor;
     }
 
     public void handleInput() {
@@ -69,6 +80,7 @@ public class MultiplayerInputHandler {
     private void handleBlockDestruction() {
         Vector3 selectedBlock = engine.getSelectedBlock();
         if (selectedBlock != null) {
+            blockEditPredictor.predict(selectedBlock, BlockTypes.AIR);
             multiplayerClient.send(new BreakBlockRequestPacket(selectedBlock));
         }
     }
@@ -84,6 +96,7 @@ public class MultiplayerInputHandler {
             return;
         }
 
+        blockEditPredictor.predict(placePos, selectedBlockType);
         multiplayerClient.send(new PlaceBlockRequestPacket(placePos, selectedBlockType));
     }
 
@@ -91,4 +104,12 @@ public class MultiplayerInputHandler {
         return engine.getCoreEngine().getWorld().getBlockManager().isSolid(blockType)
             && player.collidesWithBlock(blockPos);
     }
+
+    /**
+     * 서버 확인을 기다리지 않고 요청을 보내기 직전에 로컬 월드에 편집을 미리 적용
+     */
+    @FunctionalInterface
+    public interface BlockEditPredictor {
+        void predict(Vector3 position, int blockType);
+    }
 }
@@ -0,0 +1,58 @@
+package kr.co.opencraft.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Appends snapshots to a CSV file, one row per metric per interval, so sessions from
+ * several machines can be concatenated and compared in a spreadsheet.
+ */
+public final class CsvMetricsWriter {
+    static final String HEADER = "timestamp_ms,metric,type,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms";
+
+    private final Path file;
+
+    public CsvMetricsWriter(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void append(MetricsSnapshot snapshot) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        boolean writeHeader = !Files.exists(file) || Files.size(file) == 0;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (writeHeader) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            for (HistogramSnapshot histogram : snapshot.histograms()) {
+                writer.write(String.format(Locale.ROOT, "%d,%s,histogram,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    snapshot.timestampMillis(), histogram.name(), histogram.count(),
+                    histogram.mean() / 1_000_000.0,
+                    HistogramSnapshot.toMillis(histogram.p50()),
+                    HistogramSnapshot.toMillis(histogram.p95()),
+                    HistogramSnapshot.toMillis(histogram.p99()),
+                    HistogramSnapshot.toMillis(histogram.max())));
+                writer.newLine();
+            }
+            for (Map.Entry<String, Long> counter : snapshot.counters().entrySet()) {
+                writer.write(snapshot.timestampMillis() + "," + counter.getKey() + ",counter," + counter.getValue() + ",,,,,");
+                writer.newLine();
+            }
+        }
+    }
+}
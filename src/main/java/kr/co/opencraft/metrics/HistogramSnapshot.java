@@ -0,0 +1,19 @@
+package kr.co.opencraft.metrics;
+
+/**
+ * Point-in-time view of a {@link LatencyHistogram}. All times are nanoseconds.
+ */
+public record HistogramSnapshot(String name, long count, double mean, long p50, long p95, long p99, long max) {
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Compact console form, e.g. {@code frame n=300 p50=6.1 p95=9.8 p99=15.2 max=31.0ms}.
+     */
+    public String format() {
+        return String.format("%s n=%d p50=%.1f p95=%.1f p99=%.1f max=%.1fms",
+            name, count, toMillis(p50), toMillis(p95), toMillis(p99), toMillis(max));
+    }
+}
@@ -0,0 +1,119 @@
+package kr.co.opencraft.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram in nanoseconds, HDR-style: every power of two is split
+ * into 32 linear sub-buckets, so any recorded value is off by at most about 3%.
+ *
+ * Recording is one array increment plus two adders and never allocates or locks.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} value.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public HistogramSnapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Snapshot for interval reporting. Values recorded while the reset runs may land in
+     * either interval, which is fine for percentiles.
+     */
+    HistogramSnapshot snapshot(boolean reset) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = reset ? buckets.getAndSet(i, 0L) : buckets.get(i);
+            total += counts[i];
+        }
+        long sumValue = reset ? sum.sumThenReset() : sum.sum();
+        long maxValue = reset ? max.getAndSet(0L) : max.get();
+        if (reset) {
+            count.reset();
+        }
+
+        return new HistogramSnapshot(
+            name,
+            total,
+            total == 0 ? 0.0 : (double) sumValue / total,
+            percentile(counts, total, 0.50, maxValue),
+            percentile(counts, total, 0.95, maxValue),
+            percentile(counts, total, 0.99, maxValue),
+            maxValue
+        );
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketLowerBound(int index) {
+        int group = index >>> SUB_BUCKET_BITS;
+        int subBucket = index & (SUB_BUCKETS - 1);
+        if (group == 0) {
+            return subBucket;
+        }
+        return (long) (SUB_BUCKETS + subBucket) << (group - 1);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long lower = bucketLowerBound(i);
+                long upper = i + 1 < counts.length ? bucketLowerBound(i + 1) - 1 : Long.MAX_VALUE;
+                return Math.min(maxValue, lower + (upper - lower) / 2);
+            }
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.opencraft.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named counters and histograms. Look them up once and keep the reference; the hot path
+ * only touches the returned instance.
+ */
+public final class MetricsRegistry {
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public MetricsSnapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Snapshot covering everything since the previous call, then starts a new interval.
+     */
+    public MetricsSnapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private MetricsSnapshot snapshot(boolean reset) {
+        Map<String, Long> counterValues = new TreeMap<>();
+        for (Counter counter : counters.values()) {
+            counterValues.put(counter.getName(), reset ? counter.getAndReset() : counter.get());
+        }
+
+        List<HistogramSnapshot> histogramValues = new ArrayList<>(histograms.size());
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogramValues.add(histogram.snapshot(reset));
+        }
+        histogramValues.sort(Comparator.comparing(HistogramSnapshot::name));
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, List.copyOf(histogramValues));
+    }
+}
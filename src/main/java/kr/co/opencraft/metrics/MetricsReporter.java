@@ -0,0 +1,91 @@
+package kr.co.opencraft.metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+/**
+ * Turns the registry into one interval report every few seconds: a console summary of the
+ * tail latencies and, when {@code -Dopencraft.metrics.csv=<file>} is set, a CSV append.
+ *
+ * Call {@link #tick(long)} once per frame from the render thread.
+ */
+public final class MetricsReporter {
+    public static final String CSV_PROPERTY = "opencraft.metrics.csv";
+    private static final long DEFAULT_INTERVAL_NANOS = 5_000_000_000L;
+    private static final String[] CONSOLE_METRICS = {
+        "frame.total", "frame.update", "frame.render", "chunk.generate", "net.packet.apply", "save.region.write"
+    };
+
+    private final MetricsRegistry registry;
+    private final CsvMetricsWriter csvWriter;
+    private final PrintStream out;
+    private final boolean console;
+    private final long intervalNanos;
+    private long intervalStartNanos;
+
+    public MetricsReporter(boolean console) {
+        this(OpenCraftMetrics.REGISTRY, csvWriterFromProperty(), System.out, console, DEFAULT_INTERVAL_NANOS);
+    }
+
+    MetricsReporter(MetricsRegistry registry, CsvMetricsWriter csvWriter, PrintStream out, boolean console, long intervalNanos) {
+        this.registry = registry;
+        this.csvWriter = csvWriter;
+        this.out = out;
+        this.console = console;
+        this.intervalNanos = intervalNanos;
+        this.intervalStartNanos = System.nanoTime();
+    }
+
+    /**
+     * @return the snapshot if this call closed an interval, otherwise null
+     */
+    public MetricsSnapshot tick(long nowNanos) {
+        if (nowNanos - intervalStartNanos < intervalNanos) {
+            return null;
+        }
+        intervalStartNanos = nowNanos;
+        return report();
+    }
+
+    /**
+     * Closes the current interval immediately, e.g. when leaving the world.
+     */
+    public MetricsSnapshot report() {
+        if (!console && csvWriter == null) {
+            return null;
+        }
+
+        MetricsSnapshot snapshot = registry.snapshotAndReset();
+        if (console) {
+            StringBuilder line = new StringBuilder("[PERF]");
+            for (String name : CONSOLE_METRICS) {
+                HistogramSnapshot histogram = snapshot.histogram(name);
+                if (histogram != null && histogram.count() > 0) {
+                    line.append(' ').append(histogram.format()).append(';');
+                }
+            }
+            long slowFrames = snapshot.counter(OpenCraftMetrics.SLOW_FRAMES.getName());
+            Runtime runtime = Runtime.getRuntime();
+            line.append(" slow=").append(slowFrames)
+                .append(" mem=").append((runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024)).append("MB");
+            out.println(line);
+        }
+        if (csvWriter != null) {
+            try {
+                csvWriter.append(snapshot);
+            } catch (IOException e) {
+                out.println("[PERF] Failed to write " + csvWriter.getFile() + ": " + e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    private static CsvMetricsWriter csvWriterFromProperty() {
+        String path = System.getProperty(CSV_PROPERTY);
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        return new CsvMetricsWriter(Path.of(path));
+    }
+}
@@ -0,0 +1,23 @@
+package kr.co.opencraft.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every counter and histogram of a registry captured at one moment.
+ */
+public record MetricsSnapshot(long timestampMillis, Map<String, Long> counters, List<HistogramSnapshot> histograms) {
+
+    public HistogramSnapshot histogram(String name) {
+        for (HistogramSnapshot histogram : histograms) {
+            if (histogram.name().equals(name)) {
+                return histogram;
+            }
+        }
+        return null;
+    }
+
+    public long counter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+}
@@ -0,0 +1,38 @@
+package kr.co.opencraft.metrics;
+
+/**
+ * Process-wide registry and the metrics the client records. Names are dotted so related
+ * rows sort together in the CSV dump.
+ */
+public final class OpenCraftMetrics {
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    public static final LatencyHistogram FRAME_TOTAL = REGISTRY.histogram("frame.total");
+    public static final LatencyHistogram FRAME_UPDATE = REGISTRY.histogram("frame.update");
+    public static final LatencyHistogram FRAME_INPUT = REGISTRY.histogram("frame.input");
+    public static final LatencyHistogram FRAME_RENDER = REGISTRY.histogram("frame.render");
+    public static final Counter SLOW_FRAMES = REGISTRY.counter("frame.slow");
+
+    public static final LatencyHistogram CHUNK_GENERATE = REGISTRY.histogram("chunk.generate");
+    public static final LatencyHistogram CHUNK_LOAD = REGISTRY.histogram("chunk.load");
+    public static final Counter CHUNK_FROM_COLD = REGISTRY.counter("chunk.source.cold");
+    public static final Counter CHUNK_FROM_CACHE = REGISTRY.counter("chunk.source.cache");
+    public static final Counter CHUNK_FROM_STORE = REGISTRY.counter("chunk.source.store");
+    public static final Counter CHUNK_FROM_GENERATOR = REGISTRY.counter("chunk.source.generator");
+
+    public static final LatencyHistogram LOD_MESH_BUILD = REGISTRY.histogram("mesh.lod.build");
+    public static final LatencyHistogram LOD_MESH_UPLOAD = REGISTRY.histogram("mesh.lod.upload");
+
+    public static final LatencyHistogram PACKET_APPLY = REGISTRY.histogram("net.packet.apply");
+    public static final LatencyHistogram PACKET_APPLY_FRAME = REGISTRY.histogram("net.packet.apply_frame");
+    public static final Counter PACKETS_APPLIED = REGISTRY.counter("net.packet.applied");
+    public static final Counter MOVEMENT_TICKS_DROPPED = REGISTRY.counter("net.movement.ticks_dropped");
+
+    public static final LatencyHistogram SAVE_REGION_WRITE = REGISTRY.histogram("save.region.write");
+    public static final LatencyHistogram SAVE_REGION_FLUSH = REGISTRY.histogram("save.region.flush");
+    public static final LatencyHistogram SAVE_REGION_COMPACT = REGISTRY.histogram("save.region.compact");
+    public static final LatencyHistogram SAVE_COLD_PARK = REGISTRY.histogram("save.cold.park");
+
+    private OpenCraftMetrics() {
+    }
+}
@@ -0,0 +1,64 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One chunk column generated from noise, with the time spent in each generation phase.
+ */
+@Name("opencraft.ChunkGeneration")
+@Label("Chunk Generation")
+@Category({"OpenCraft", "World"})
+@Description("Chunk column generated by TerrainGenerator")
+@StackTrace(false)
+public class ChunkGenerationEvent extends Event {
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Density Fill")
+    @Timespan
+    long densityNanos;
+
+    @Label("Surface")
+    @Timespan
+    long surfaceNanos;
+
+    @Label("Caves")
+    @Timespan
+    long caveNanos;
+
+    @Label("Feature Collection")
+    @Timespan
+    long featureNanos;
+
+    @Label("Population")
+    @Timespan
+    long populateNanos;
+
+    /**
+     * Commits the event if a recording wants it; the phase arguments are plain deltas the
+     * generator measures anyway, so a disabled event costs one check.
+     */
+    public void complete(int chunkX, int chunkZ, long densityNanos, long surfaceNanos, long caveNanos,
+                         long featureNanos, long populateNanos) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.densityNanos = densityNanos;
+        this.surfaceNanos = surfaceNanos;
+        this.caveNanos = caveNanos;
+        this.featureNanos = featureNanos;
+        this.populateNanos = populateNanos;
+        commit();
+    }
+}
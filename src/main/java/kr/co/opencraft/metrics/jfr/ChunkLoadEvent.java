@@ -0,0 +1,42 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A chunk handed to the engine, and which storage tier ended up serving it.
+ */
+@Name("opencraft.ChunkLoad")
+@Label("Chunk Load")
+@Category({"OpenCraft", "World"})
+@Description("Chunk filled for the engine from the cold arena, cache, region store or generator")
+@StackTrace(false)
+public class ChunkLoadEvent extends Event {
+    public static final String SOURCE_COLD = "cold";
+    public static final String SOURCE_CACHE = "cache";
+    public static final String SOURCE_STORE = "store";
+    public static final String SOURCE_GENERATOR = "generator";
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Source")
+    String source;
+
+    public void complete(int chunkX, int chunkZ, String source) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.source = source;
+        commit();
+    }
+}
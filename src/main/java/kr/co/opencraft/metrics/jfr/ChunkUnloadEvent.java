@@ -0,0 +1,47 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A chunk dropped from the section tracker, either because the player left its range or
+ * because the server unloaded it.
+ */
+@Name("opencraft.ChunkUnload")
+@Label("Chunk Unload")
+@Category({"OpenCraft", "World"})
+@Description("Chunk evicted from the loaded set")
+@StackTrace(false)
+public class ChunkUnloadEvent extends Event {
+    public static final String REASON_OUT_OF_RANGE = "out of range";
+    public static final String REASON_SERVER = "server";
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Distance")
+    @Description("Chebyshev distance in chunks from the player, -1 when unknown")
+    int distance;
+
+    @Label("Reason")
+    String reason;
+
+    public static void emit(int chunkX, int chunkZ, int distance, String reason) {
+        ChunkUnloadEvent event = new ChunkUnloadEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.chunkX = chunkX;
+        event.chunkZ = chunkZ;
+        event.distance = distance;
+        event.reason = reason;
+        event.commit();
+    }
+}
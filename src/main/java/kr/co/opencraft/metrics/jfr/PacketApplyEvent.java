@@ -0,0 +1,29 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One server packet applied to the client world on the render thread.
+ */
+@Name("opencraft.PacketApply")
+@Label("Packet Apply")
+@Category({"OpenCraft", "Network"})
+@Description("Incoming packet applied by MultiplayerGameScreen")
+@StackTrace(false)
+public class PacketApplyEvent extends Event {
+    @Label("Packet Type")
+    String packetType;
+
+    public void complete(Class<?> packetType) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.packetType = packetType.getSimpleName();
+        commit();
+    }
+}
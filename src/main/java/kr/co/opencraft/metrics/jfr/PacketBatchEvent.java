@@ -0,0 +1,33 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Every packet drained in one frame, so a spike can be told apart from a flood.
+ */
+@Name("opencraft.PacketBatch")
+@Label("Packet Batch")
+@Category({"OpenCraft", "Network"})
+@Description("Packets drained from the inbound queue in one frame")
+@StackTrace(false)
+public class PacketBatchEvent extends Event {
+    @Label("Packets")
+    int packetCount;
+
+    @Label("Chunk Packets")
+    int chunkPacketCount;
+
+    public void complete(int packetCount, int chunkPacketCount) {
+        if (packetCount == 0 || !shouldCommit()) {
+            return;
+        }
+        this.packetCount = packetCount;
+        this.chunkPacketCount = chunkPacketCount;
+        commit();
+    }
+}
@@ -0,0 +1,49 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chunk data written out of the live world: a region file write, flush or compaction, or
+ * a chunk parked in the off-heap arena.
+ */
+@Name("opencraft.WorldSave")
+@Label("World Save")
+@Category({"OpenCraft", "World"})
+@Description("Chunk data persisted to a region file or parked off-heap")
+@StackTrace(false)
+public class WorldSaveEvent extends Event {
+    public static final String OPERATION_REGION_WRITE = "region write";
+    public static final String OPERATION_REGION_FLUSH = "region flush";
+    public static final String OPERATION_REGION_COMPACT = "region compact";
+    public static final String OPERATION_COLD_PARK = "cold park";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    public void complete(String operation, int chunkX, int chunkZ, long bytes) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.bytes = bytes;
+        commit();
+    }
+}
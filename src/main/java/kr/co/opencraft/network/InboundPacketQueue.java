@@ -0,0 +1,247 @@
+package kr.co.opencraft.network;
+
+import io.netty.channel.Channel;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import kr.co.voxeliver.network.protocol.Packet;
+
+/**
+ * Netty 이벤트 루프(생산자)와 게임 스레드(소비자) 사이의 고정 크기 수신 큐
+ *
+ * 두 개의 레인으로 나뉨 (레인은 {@link PacketDispatcher.Target}으로 정해짐):
+ * <ul>
+ *   <li>control: 플레이어 상태/입장/퇴장처럼 작고 지연에 민감한 패킷. 항상 먼저 꺼냄</li>
+ *   <li>world: 청크 데이터, 청크 언로드, 블록 업데이트. 서로 순서가 중요하므로 한 레인에 둠</li>
+ * </ul>
+ *
+ * 어느 레인이든 high watermark에 닿으면 채널 autoRead를 끄고, 두 레인 모두 low watermark
+ * 아래로 내려가면 다시 켬. autoRead 전환은 항상 이벤트 루프에서 일어나므로 경합이 없음.
+ */
+public final class InboundPacketQueue {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int WORLD_HIGH_WATERMARK = 256;
+    private static final int WORLD_LOW_WATERMARK = 64;
+    private static final int CONTROL_HIGH_WATERMARK = 1024;
+    private static final int CONTROL_LOW_WATERMARK = 256;
+
+    private final Lane control;
+    private final Lane world;
+    private final AtomicBoolean resumeScheduled = new AtomicBoolean();
+    private final AtomicLong pauseCount = new AtomicLong();
+    private volatile Channel channel;
+    private volatile boolean readingPaused;
+
+    public InboundPacketQueue() {
+        this(
+            new Lane(DEFAULT_CAPACITY, CONTROL_HIGH_WATERMARK, CONTROL_LOW_WATERMARK),
+            new Lane(DEFAULT_CAPACITY, WORLD_HIGH_WATERMARK, WORLD_LOW_WATERMARK)
+        );
+    }
+
+    /**
+     * 두 레인에 같은 크기와 watermark를 적용 (테스트용)
+     */
+    InboundPacketQueue(int capacity, int highWatermark, int lowWatermark) {
+        this(new Lane(capacity, highWatermark, lowWatermark), new Lane(capacity, highWatermark, lowWatermark));
+    }
+
+    private InboundPacketQueue(Lane control, Lane world) {
+        this.control = control;
+        this.world = world;
+    }
+
+    /**
+     * autoRead를 조절할 채널을 연결
+     */
+    void bind(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 이벤트 루프에서 호출
+     *
+     * @return 레인이 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(Packet packet, boolean controlLane) {
+        Lane lane = controlLane ? control : world;
+        if (!lane.offer(packet, System.nanoTime())) {
+            return false;
+        }
+        if (lane.size() >= lane.highWatermark && !readingPaused) {
+            Channel boundChannel = channel;
+            if (boundChannel != null) {
+                readingPaused = true;
+                pauseCount.incrementAndGet();
+                boundChannel.config().setAutoRead(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 게임 스레드에서 호출. control 레인을 먼저 비움.
+     * 빈 큐를 poll해도 재개 조건을 확인하므로, 멈춘 직후 이미 비워진 경우에도 읽기가 재개됨
+     */
+    public Packet poll() {
+        Packet packet = control.poll();
+        if (packet == null) {
+            packet = world.poll();
+        }
+        if (readingPaused && isDrained() && resumeScheduled.compareAndSet(false, true)) {
+            scheduleResume();
+        }
+        return packet;
+    }
+
+    private void scheduleResume() {
+        Channel boundChannel = channel;
+        if (boundChannel == null) {
+            resumeScheduled.set(false);
+            return;
+        }
+        try {
+            boundChannel.eventLoop().execute(this::resumeIfDrained);
+        } catch (RejectedExecutionException e) {
+            // 연결 종료 후 이벤트 루프가 내려간 경우
+            resumeScheduled.set(false);
+        }
+    }
+
+    private void resumeIfDrained() {
+        resumeScheduled.set(false);
+        Channel boundChannel = channel;
+        if (readingPaused && isDrained() && boundChannel != null) {
+            readingPaused = false;
+            boundChannel.config().setAutoRead(true);
+        }
+    }
+
+    private boolean isDrained() {
+        return control.size() <= control.lowWatermark && world.size() <= world.lowWatermark;
+    }
+
+    /**
+     * 게임 스레드에서 호출
+     */
+    public void clear() {
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    public int size() {
+        return control.size() + world.size();
+    }
+
+    public int getControlDepth() {
+        return control.size();
+    }
+
+    public int getWorldDepth() {
+        return world.size();
+    }
+
+    public boolean isReadingPaused() {
+        return readingPaused;
+    }
+
+    public long getPauseCount() {
+        return pauseCount.get();
+    }
+
+    /**
+     * 게임 스레드에서 호출
+     *
+     * @return 가장 오래 기다린 패킷의 대기 시간, 비어 있으면 0
+     */
+    public long getOldestAgeNanos(long nowNanos) {
+        long oldest = Long.MAX_VALUE;
+        long controlHead = control.peekEnqueueNanos();
+        long worldHead = world.peekEnqueueNanos();
+        if (controlHead >= 0L) {
+            oldest = controlHead;
+        }
+        if (worldHead >= 0L) {
+            oldest = Math.min(oldest, worldHead);
+        }
+        return oldest == Long.MAX_VALUE ? 0L : Math.max(0L, nowNanos - oldest);
+    }
+
+    /**
+     * 슬롯별 시퀀스 번호를 쓰는 bounded MPSC 링 버퍼 (Vyukov 방식).
+     * 생산자는 tail을 CAS로 확보하고, 소비자는 하나뿐이라 head를 그냥 씀.
+     */
+    private static final class Lane {
+        private final Packet[] packets;
+        private final long[] enqueueNanos;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        private final int mask;
+        private final int highWatermark;
+        private final int lowWatermark;
+        private volatile long head;
+
+        private Lane(int capacity, int highWatermark, int lowWatermark) {
+            if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+                throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+            }
+            if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > capacity) {
+                throw new IllegalArgumentException("expected 0 <= low < high <= capacity");
+            }
+            this.packets = new Packet[capacity];
+            this.enqueueNanos = new long[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = capacity - 1;
+            this.highWatermark = highWatermark;
+            this.lowWatermark = lowWatermark;
+        }
+
+        private boolean offer(Packet packet, long nowNanos) {
+            while (true) {
+                long position = tail.get();
+                int index = (int) (position & mask);
+                long available = sequences.get(index) - position;
+                if (available < 0L) {
+                    return false;
+                }
+                if (available == 0L && tail.compareAndSet(position, position + 1)) {
+                    packets[index] = packet;
+                    enqueueNanos[index] = nowNanos;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+        }
+
+        private Packet poll() {
+            long position = head;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                return null;
+            }
+            Packet packet = packets[index];
+            packets[index] = null;
+            sequences.set(index, position + packets.length);
+            head = position + 1;
+            return packet;
+        }
+
+        private long peekEnqueueNanos() {
+            long position = head;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                return -1L;
+            }
+            return enqueueNanos[index];
+        }
+
+        private int size() {
+            return (int) Math.max(0L, tail.get() - head);
+        }
+    }
+}
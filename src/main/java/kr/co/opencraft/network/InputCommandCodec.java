@@ -0,0 +1,88 @@
+package kr.co.opencraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.opencraft.entity.InputCommand;
+
+/**
+ * 입력 커맨드 인코딩
+ *
+ * 커맨드 하나는 시퀀스(int), 키 7비트와 비행 플래그 1비트(byte), yaw(short), pitch(short)
+ * 순서의 {@value #ENCODED_BYTES}바이트. 위치 세 개를 float로 보내는 MovePacket 본문(시퀀스 포함 16바이트)보다 작음.
+ *
+ * MOVE 데이터그램에는 연속된 커맨드 묶음을 실음: 개수(varint)와 첫 시퀀스 뒤에 커맨드마다
+ * {@value #BATCH_ENTRY_BYTES}바이트. 나머지 시퀀스는 1씩 증가하므로 보내지 않음.
+ */
+public final class InputCommandCodec {
+    public static final int ENCODED_BYTES = 9;
+    public static final int BATCH_ENTRY_BYTES = 5;
+    // 한 데이터그램에 싣는 최대 커맨드 수. 잘못된 개수로 큰 리스트를 만들지 않도록 디코드에서도 확인
+    public static final int MAX_BATCH_COMMANDS = 64;
+    private static final int FLY_FLAG = 0x80;
+
+    private InputCommandCodec() {
+    }
+
+    public static void encode(InputCommand command, ByteBuf out) {
+        out.writeInt(command.sequence());
+        writeBody(command, out);
+    }
+
+    public static InputCommand decode(ByteBuf in) {
+        return readBody(in.readInt(), in);
+    }
+
+    /**
+     * @param commands 시퀀스가 1씩 증가하는 커맨드, 최대 {@value #MAX_BATCH_COMMANDS}개
+     */
+    public static void encodeBatch(List<InputCommand> commands, ByteBuf out) {
+        if (commands.size() > MAX_BATCH_COMMANDS) {
+            throw new IllegalArgumentException("too many commands: " + commands.size());
+        }
+        MovementStateCodec.writeVarInt(out, commands.size());
+        if (commands.isEmpty()) {
+            return;
+        }
+        int firstSequence = commands.get(0).sequence();
+        out.writeInt(firstSequence);
+        for (int i = 0; i < commands.size(); i++) {
+            InputCommand command = commands.get(i);
+            if (command.sequence() != firstSequence + i) {
+                throw new IllegalArgumentException("commands must be consecutive, got " + command.sequence()
+                    + " after " + (firstSequence + i - 1));
+            }
+            writeBody(command, out);
+        }
+    }
+
+    public static List<InputCommand> decodeBatch(ByteBuf in) {
+        int count = MovementStateCodec.readVarInt(in);
+        if (count < 0 || count > MAX_BATCH_COMMANDS) {
+            throw new CorruptedFrameException("bad command count: " + count);
+        }
+        if (count == 0) {
+            return List.of();
+        }
+        int firstSequence = in.readInt();
+        List<InputCommand> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(readBody(firstSequence + i, in));
+        }
+        return commands;
+    }
+
+    private static void writeBody(InputCommand command, ByteBuf out) {
+        out.writeByte(command.keys() | (command.fly() ? FLY_FLAG : 0));
+        out.writeShort(command.yawBits());
+        out.writeShort(command.pitchBits());
+    }
+
+    private static InputCommand readBody(int sequence, ByteBuf in) {
+        int flags = in.readUnsignedByte();
+        short yawBits = in.readShort();
+        short pitchBits = in.readShort();
+        return new InputCommand(sequence, flags & InputCommand.KEY_MASK, yawBits, pitchBits, (flags & FLY_FLAG) != 0);
+    }
+}
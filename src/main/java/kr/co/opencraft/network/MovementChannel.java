@@ -0,0 +1,268 @@
+package kr.co.opencraft.network;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import kr.co.opencraft.entity.InputCommand;
+
+/**
+ * 이동/플레이어 상태 전용 UDP 보조 채널
+ *
+ * TCP 로그인 뒤 HELLO(플레이어 ID, nonce)를 보내고, 서버가 같은 nonce로 HELLO_ACK를 돌려주면
+ * 활성화됨. 응답이 없거나 수신이 {@value #SILENCE_TIMEOUT_MILLIS}ms 끊기면 비활성으로 보고
+ * 이동 계열 트래픽은 다시 TCP로 감. 블록, 청크 같은 신뢰성이 필요한 트래픽은 항상 TCP.
+ *
+ * 데이터그램은 유실과 역순 도착을 허용함. 엔티티마다 더 최신 sequence만 받아들이고,
+ * 게임 스레드는 {@link #drainStates}로 엔티티별 최신 상태 하나씩만 꺼냄.
+ * 받는 상태는 {@link MovementStateDecoder}로 풀며 디코더 상태는 모두 이벤트 루프에서만 다룸.
+ *
+ * MOVE는 위치가 아니라 서버가 아직 확인하지 않은 입력 커맨드 묶음({@link InputCommandCodec})을 실음.
+ * 서버는 이미 적용한 시퀀스를 건너뛰므로, MOVE 하나를 잃어도 다음 MOVE에 같은 커맨드가 다시 실려 옴.
+ * 로컬 플레이어 STATE의 sequence는 서버가 마지막으로 적용한 커맨드 시퀀스.
+ *
+ * 받은 상태의 확인은 MOVE에 붙여 보내고, 가만히 있어 MOVE가 드물 때는 남은 확인을
+ * {@value #ACK_INTERVAL_MILLIS}ms마다 ACK로 따로 보냄. 그래야 서버의 delta 기준이 오래되지 않음.
+ */
+public final class MovementChannel implements AutoCloseable {
+    static final int TYPE_HELLO = 1;
+    static final int TYPE_HELLO_ACK = 2;
+    static final int TYPE_MOVE = 3;
+    static final int TYPE_STATE = 4;
+    static final int TYPE_ACK = 5;
+
+    static final long SILENCE_TIMEOUT_MILLIS = 3_000L;
+    private static final long HELLO_RETRY_MILLIS = 250L;
+    // 20Hz. 60Hz 상태 기준으로 확인 간격이 MAX_BASELINE_AGE 틱보다 훨씬 짧음
+    static final long ACK_INTERVAL_MILLIS = 50L;
+
+    private final EventLoopGroup group;
+    private final InetSocketAddress server;
+    private final int playerId;
+    private final NetworkStats stats;
+    private final long nonce = ThreadLocalRandom.current().nextLong();
+    private final CompletableFuture<Boolean> negotiated = new CompletableFuture<>();
+    private final Map<Integer, MovementState> latestStates = new ConcurrentHashMap<>();
+
+    // 이벤트 루프 전용
+    private final MovementStateDecoder stateDecoder = new MovementStateDecoder();
+    private final Map<Integer, Integer> highestSequences = new HashMap<>();
+    private final Map<Integer, Integer> pendingAcks = new HashMap<>();
+
+    private volatile Channel channel;
+    private volatile long lastReceiveNanos;
+    private volatile ScheduledFuture<?> ackTask;
+
+    public MovementChannel(EventLoopGroup group, InetSocketAddress server, int playerId, NetworkStats stats) {
+        this.group = group;
+        this.server = server;
+        this.playerId = playerId;
+        this.stats = stats;
+    }
+
+    /**
+     * 로컬 포트를 열고 HELLO를 주기적으로 다시 보냄
+     *
+     * @return 서버가 응답하면 true, 제한 시간 안에 응답이 없으면 false로 완료됨
+     */
+    public CompletableFuture<Boolean> negotiate(Duration timeout) {
+        Bootstrap bootstrap = new Bootstrap()
+            .group(group)
+            .channel(NioDatagramChannel.class)
+            .handler(new DatagramHandler());
+        bootstrap.bind(0).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                System.err.println("[MovementChannel] UDP bind failed, staying on TCP: " + future.cause());
+                negotiated.complete(false);
+                return;
+            }
+            channel = future.channel();
+            long deadline = System.nanoTime() + timeout.toNanos();
+            sendHello(deadline);
+        });
+        return negotiated;
+    }
+
+    private void sendHello(long deadlineNanos) {
+        Channel boundChannel = channel;
+        if (negotiated.isDone() || boundChannel == null || !boundChannel.isOpen()) {
+            return;
+        }
+        if (System.nanoTime() - deadlineNanos >= 0L) {
+            negotiated.complete(false);
+            return;
+        }
+
+        ByteBuf hello = boundChannel.alloc().buffer(16);
+        hello.writeByte(TYPE_HELLO);
+        MovementStateCodec.writeVarInt(hello, playerId);
+        hello.writeLong(nonce);
+        write(boundChannel, hello);
+        boundChannel.eventLoop().schedule(() -> sendHello(deadlineNanos), HELLO_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 협상이 끝났고 최근에 서버에서 데이터그램을 받았으면 true
+     */
+    public boolean isActive() {
+        return negotiated.getNow(false)
+            && channel != null
+            && channel.isOpen()
+            && System.nanoTime() - lastReceiveNanos < TimeUnit.MILLISECONDS.toNanos(SILENCE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 게임 스레드에서 호출. 재전송하지 않으며, 유실된 커맨드는 확인될 때까지 다음 MOVE에 다시 실림
+     *
+     * @param commands 확인되지 않은 연속 커맨드, 오래된 순서
+     */
+    public void send(List<InputCommand> commands) {
+        Channel boundChannel = channel;
+        if (boundChannel == null || !negotiated.getNow(false) || commands.isEmpty()) {
+            return;
+        }
+        List<InputCommand> batch = List.copyOf(commands);
+        boundChannel.eventLoop().execute(() -> writeMove(boundChannel, batch));
+    }
+
+    private void writeMove(Channel boundChannel, List<InputCommand> commands) {
+        ByteBuf move = boundChannel.alloc().buffer(16 + commands.size() * InputCommandCodec.BATCH_ENTRY_BYTES);
+        move.writeByte(TYPE_MOVE);
+        InputCommandCodec.encodeBatch(commands, move);
+        writeAcks(move);
+        write(boundChannel, move);
+    }
+
+    private void flushAcks(Channel boundChannel) {
+        if (pendingAcks.isEmpty() || !boundChannel.isOpen()) {
+            return;
+        }
+        ByteBuf ack = boundChannel.alloc().buffer(16);
+        ack.writeByte(TYPE_ACK);
+        writeAcks(ack);
+        write(boundChannel, ack);
+    }
+
+    /**
+     * 받은 상태를 확인해서 서버가 그 상태를 delta 기준으로 쓰게 함
+     */
+    private void writeAcks(ByteBuf out) {
+        MovementStateCodec.writeVarInt(out, pendingAcks.size());
+        for (Map.Entry<Integer, Integer> ack : pendingAcks.entrySet()) {
+            MovementStateCodec.writeVarInt(out, ack.getKey());
+            MovementStateCodec.writeVarInt(out, ack.getValue());
+        }
+        pendingAcks.clear();
+    }
+
+    private void write(Channel boundChannel, ByteBuf content) {
+        if (stats != null) {
+            stats.recordDatagramOut(content.readableBytes());
+        }
+        boundChannel.writeAndFlush(new DatagramPacket(content, server));
+    }
+
+    /**
+     * 게임 스레드에서 호출. 마지막 호출 이후 갱신된 엔티티마다 최신 상태 하나씩 넘김
+     */
+    public void drainStates(Consumer<MovementState> consumer) {
+        // 키별 remove로 꺼내야 이벤트 루프가 그 사이 넣은 더 최신 상태를 잃지 않음
+        for (Integer entityId : latestStates.keySet()) {
+            MovementState state = latestStates.remove(entityId);
+            if (state != null) {
+                consumer.accept(state);
+            }
+        }
+    }
+
+    public int getLocalPort() {
+        Channel boundChannel = channel;
+        return boundChannel == null ? -1 : ((InetSocketAddress) boundChannel.localAddress()).getPort();
+    }
+
+    @Override
+    public void close() {
+        negotiated.complete(false);
+        ScheduledFuture<?> task = ackTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        Channel boundChannel = channel;
+        if (boundChannel != null) {
+            boundChannel.close().awaitUninterruptibly();
+            channel = null;
+        }
+        latestStates.clear();
+    }
+
+    private void handleDatagram(ByteBuf content) {
+        int type = content.readUnsignedByte();
+        if (type == TYPE_HELLO_ACK) {
+            if (content.readLong() == nonce && !negotiated.isDone()) {
+                lastReceiveNanos = System.nanoTime();
+                Channel boundChannel = channel;
+                ackTask = boundChannel.eventLoop().scheduleAtFixedRate(
+                    () -> flushAcks(boundChannel), ACK_INTERVAL_MILLIS, ACK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                negotiated.complete(true);
+            }
+            return;
+        }
+        if (type != TYPE_STATE || !negotiated.getNow(false)) {
+            return;
+        }
+
+        lastReceiveNanos = System.nanoTime();
+        int count = MovementStateCodec.readVarInt(content);
+        for (int i = 0; i < count; i++) {
+            MovementState state = stateDecoder.decode(content);
+            if (state != null) {
+                acceptState(state);
+            }
+        }
+    }
+
+    private void acceptState(MovementState state) {
+        Integer highest = highestSequences.get(state.entityId());
+        if (highest != null && state.sequence() < highest) {
+            return;
+        }
+        highestSequences.put(state.entityId(), state.sequence());
+        pendingAcks.put(state.entityId(), state.sequence());
+        latestStates.put(state.entityId(), state);
+    }
+
+    private final class DatagramHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
+            // 다른 주소에서 온 데이터그램은 무시
+            if (!server.equals(packet.sender())) {
+                return;
+            }
+            if (stats != null) {
+                stats.recordDatagramIn(packet.content().readableBytes());
+            }
+            try {
+                handleDatagram(packet.content());
+            } catch (IndexOutOfBoundsException | CorruptedFrameException e) {
+                // 잘린 데이터그램은 버림. 다음 상태가 덮음
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package kr.co.opencraft.network;
+
+import com.badlogic.gdx.math.Vector3;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import kr.co.opencraft.entity.InputCommand;
+import kr.co.opencraft.entity.MovementSimulator;
+import kr.co.opencraft.entity.OpenCraftPlayer;
+
+/**
+ * 로컬 플레이어 이동 예측과 서버 상태 기준 재시뮬레이션
+ *
+ * 고정 틱마다 입력 커맨드를 만들어 바로 적용하고, 서버가 확인하지 않은 커맨드를 보관함.
+ * 서버 상태가 오면 확인된 커맨드를 버리고, 그 시점의 예측 위치가 서버 위치와 다를 때만
+ * 서버 위치에서 남은 커맨드를 {@link MovementSimulator}로 다시 돌림.
+ * 위치 차이를 더하는 방식과 달리 벽 근처처럼 충돌 결과가 달라져도 어긋남이 쌓이지 않음.
+ *
+ * 게임 스레드에서만 사용.
+ */
+public final class MovementPredictor {
+    // 서버가 응답하지 않을 때 보관할 최대 틱 수 (60Hz 기준 10초)
+    private static final int MAX_PENDING_TICKS = 600;
+    private static final float CORRECTION_EPSILON = 0.01f;
+
+    private final MovementSimulator simulator;
+    private final float walkSpeed;
+    private final ArrayDeque<PredictedTick> pending = new ArrayDeque<>();
+    private PredictedTick lastAcknowledged;
+    private int nextSequence = 1;
+    private long correctionCount;
+    private int lastReplayedTicks;
+
+    public MovementPredictor(MovementSimulator simulator, float walkSpeed) {
+        this.simulator = simulator;
+        this.walkSpeed = walkSpeed;
+    }
+
+    /**
+     * 한 틱({@link MovementSimulator#TICK_SECONDS})의 입력을 적용하고 기록함
+     */
+    public InputCommand predict(OpenCraftPlayer player, int keys, float yawDegrees, float pitchDegrees) {
+        InputCommand command = InputCommand.of(nextSequence++, keys, yawDegrees, pitchDegrees, player.isFlyMode());
+        simulator.apply(player, command, walkSpeed, MovementSimulator.TICK_SECONDS);
+        if (pending.size() == MAX_PENDING_TICKS) {
+            pending.pollFirst();
+        }
+        pending.addLast(new PredictedTick(command, new Vector3(player.getPosition()), new Vector3(player.getVelocity())));
+        return command;
+    }
+
+    /**
+     * @return 서버 위치가 예측과 달라 플레이어를 옮겼으면 true
+     */
+    public boolean reconcile(OpenCraftPlayer player, int acknowledgedSequence, Vector3 serverPosition) {
+        // TCP와 UDP로 함께 받을 때 늦게 도착한 오래된 상태는 무시
+        if (lastAcknowledged != null && acknowledgedSequence < lastAcknowledged.command.sequence()) {
+            return false;
+        }
+        while (!pending.isEmpty() && pending.peekFirst().command.sequence() <= acknowledgedSequence) {
+            lastAcknowledged = pending.pollFirst();
+        }
+
+        boolean predicted = lastAcknowledged != null
+            && lastAcknowledged.command.sequence() == acknowledgedSequence
+            && lastAcknowledged.position.epsilonEquals(serverPosition, CORRECTION_EPSILON);
+        if (predicted) {
+            lastReplayedTicks = 0;
+            return false;
+        }
+
+        // 서버는 속도를 보내지 않으므로 확인된 틱의 예측 속도에서 이어감
+        Vector3 velocity = lastAcknowledged != null
+            ? lastAcknowledged.velocity
+            : new Vector3(player.getVelocity());
+        player.setPosition(serverPosition);
+        player.getVelocity().set(velocity);
+        if (lastAcknowledged != null) {
+            lastAcknowledged.position.set(serverPosition);
+        }
+
+        for (PredictedTick tick : pending) {
+            simulator.apply(player, tick.command, walkSpeed, MovementSimulator.TICK_SECONDS);
+            tick.position.set(player.getPosition());
+            tick.velocity.set(player.getVelocity());
+        }
+        correctionCount++;
+        lastReplayedTicks = pending.size();
+        return true;
+    }
+
+    /**
+     * 서버가 아직 확인하지 않은 커맨드 중 최근 것부터 최대 {@code maxCommands}개를 오래된 순서로 돌려줌.
+     * 매 MOVE에 다시 실어 보내므로 데이터그램 하나를 잃어도 다음 MOVE가 빈 틱을 채움
+     */
+    public List<InputCommand> getUnacknowledgedCommands(int maxCommands) {
+        int count = Math.min(maxCommands, pending.size());
+        List<InputCommand> commands = new ArrayList<>(count);
+        Iterator<PredictedTick> newestFirst = pending.descendingIterator();
+        for (int i = 0; i < count; i++) {
+            commands.add(newestFirst.next().command);
+        }
+        Collections.reverse(commands);
+        return commands;
+    }
+
+    /**
+     * @return 가장 최근에 만든 커맨드의 시퀀스, 아직 없으면 0
+     */
+    public int getLatestSequence() {
+        return nextSequence - 1;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getCorrectionCount() {
+        return correctionCount;
+    }
+
+    public int getLastReplayedTicks() {
+        return lastReplayedTicks;
+    }
+
+    private record PredictedTick(InputCommand command, Vector3 position, Vector3 velocity) {
+    }
+}
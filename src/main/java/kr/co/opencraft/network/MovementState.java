@@ -0,0 +1,11 @@
+package kr.co.opencraft.network;
+
+/**
+ * 한 엔티티의 이동 상태
+ *
+ * 클라이언트가 보내는 상태의 sequence는 마지막 입력 커맨드 시퀀스이고, 서버가 보내는 로컬 플레이어
+ * 상태의 sequence는 서버가 처리한 마지막 커맨드 시퀀스(확인 시퀀스)임.
+ * 다른 플레이어 상태의 sequence는 서버 틱이며, 더 큰 값이 최신임.
+ */
+public record MovementState(int entityId, int sequence, float x, float y, float z, float yaw, float pitch) {
+}
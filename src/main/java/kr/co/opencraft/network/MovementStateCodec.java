@@ -0,0 +1,212 @@
+package kr.co.opencraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.CorruptedFrameException;
+
+/**
+ * 이동 상태 프레임 형식
+ *
+ * 첫 바이트의 상위 2비트가 형식, 하위 5비트가 delta 프레임의 변경 마스크:
+ * <ul>
+ *   <li>LEGACY: MovePacket/PlayerStatePacket과 같은 float 좌표. 압축을 협상하지 않은 상대용</li>
+ *   <li>KEYFRAME: 축마다 16블록 칸 번호(zigzag varint)와 칸 안의 1/4096 고정소수점 u16, yaw/pitch 각 1바이트</li>
+ *   <li>DELTA: 상대가 확인한 기준 상태와의 고정소수점 차이를 zigzag varint로, 바뀐 값만 씀.
+ *   sequence는 기준 sequence 하위 8비트와 기준에서 몇 틱 뒤인지를 각 1바이트로 보내므로
+ *   sequence 크기와 상관없이 2바이트</li>
+ * </ul>
+ * 고정소수점 값끼리 차이를 내므로 delta가 이어져도 오차가 쌓이지 않음.
+ */
+public final class MovementStateCodec {
+    static final int FORMAT_LEGACY = 0;
+    static final int FORMAT_KEYFRAME = 1;
+    static final int FORMAT_DELTA = 2;
+
+    static final int CHANGED_X = 1;
+    static final int CHANGED_Y = 1 << 1;
+    static final int CHANGED_Z = 1 << 2;
+    static final int CHANGED_YAW = 1 << 3;
+    static final int CHANGED_PITCH = 1 << 4;
+
+    // 기준 상태를 찾는 데 쓰는 sequence 하위 비트. 받는 쪽 기록 크기의 배수여야 함
+    static final int BASELINE_SEQUENCE_MASK = 0xFF;
+
+    static final int FRACTION_BITS = 12;
+    private static final float SCALE = 1 << FRACTION_BITS;
+    // 칸 크기 16블록 = 고정소수점 16비트
+    private static final int CELL_BITS = FRACTION_BITS + 4;
+    private static final float ANGLE_STEPS_PER_DEGREE = 256f / 360f;
+
+    private MovementStateCodec() {
+    }
+
+    static int format(int header) {
+        return header >>> 6;
+    }
+
+    static int header(int format, int changedMask) {
+        return format << 6 | changedMask;
+    }
+
+    static Quantized quantize(MovementState state) {
+        return new Quantized(
+            state.sequence(),
+            Math.round((double) state.x() * SCALE),
+            Math.round((double) state.y() * SCALE),
+            Math.round((double) state.z() * SCALE),
+            (byte) Math.round(state.yaw() * ANGLE_STEPS_PER_DEGREE),
+            (byte) Math.round(state.pitch() * ANGLE_STEPS_PER_DEGREE)
+        );
+    }
+
+    static MovementState toState(int entityId, Quantized q) {
+        return new MovementState(
+            entityId,
+            q.sequence(),
+            (float) (q.x() / (double) SCALE),
+            (float) (q.y() / (double) SCALE),
+            (float) (q.z() / (double) SCALE),
+            q.yaw() / ANGLE_STEPS_PER_DEGREE,
+            q.pitch() / ANGLE_STEPS_PER_DEGREE
+        );
+    }
+
+    static void writeLegacy(MovementState state, ByteBuf out) {
+        out.writeByte(header(FORMAT_LEGACY, 0));
+        writeVarInt(out, state.entityId());
+        out.writeInt(state.sequence());
+        out.writeFloat(state.x());
+        out.writeFloat(state.y());
+        out.writeFloat(state.z());
+        out.writeFloat(state.yaw());
+        out.writeFloat(state.pitch());
+    }
+
+    static MovementState readLegacy(int entityId, ByteBuf in) {
+        return new MovementState(entityId, in.readInt(), in.readFloat(), in.readFloat(), in.readFloat(),
+            in.readFloat(), in.readFloat());
+    }
+
+    static void writeKeyframe(int entityId, Quantized q, ByteBuf out) {
+        out.writeByte(header(FORMAT_KEYFRAME, 0));
+        writeVarInt(out, entityId);
+        writeVarInt(out, q.sequence());
+        writeAxis(out, q.x());
+        writeAxis(out, q.y());
+        writeAxis(out, q.z());
+        out.writeByte(q.yaw());
+        out.writeByte(q.pitch());
+    }
+
+    static Quantized readKeyframe(ByteBuf in) {
+        int sequence = readVarInt(in);
+        long x = readAxis(in);
+        long y = readAxis(in);
+        long z = readAxis(in);
+        return new Quantized(sequence, x, y, z, in.readByte(), in.readByte());
+    }
+
+    static void writeDelta(int entityId, Quantized q, Quantized baseline, ByteBuf out) {
+        int changed = (q.x() != baseline.x() ? CHANGED_X : 0)
+            | (q.y() != baseline.y() ? CHANGED_Y : 0)
+            | (q.z() != baseline.z() ? CHANGED_Z : 0)
+            | (q.yaw() != baseline.yaw() ? CHANGED_YAW : 0)
+            | (q.pitch() != baseline.pitch() ? CHANGED_PITCH : 0);
+        out.writeByte(header(FORMAT_DELTA, changed));
+        writeVarInt(out, entityId);
+        // 보내는 쪽이 기준 나이를 MAX_BASELINE_AGE 이하로 유지하므로 1바이트에 들어감
+        out.writeByte(baseline.sequence() & BASELINE_SEQUENCE_MASK);
+        out.writeByte(q.sequence() - baseline.sequence());
+        if ((changed & CHANGED_X) != 0) {
+            writeVarLong(out, zigZag(q.x() - baseline.x()));
+        }
+        if ((changed & CHANGED_Y) != 0) {
+            writeVarLong(out, zigZag(q.y() - baseline.y()));
+        }
+        if ((changed & CHANGED_Z) != 0) {
+            writeVarLong(out, zigZag(q.z() - baseline.z()));
+        }
+        if ((changed & CHANGED_YAW) != 0) {
+            out.writeByte(q.yaw());
+        }
+        if ((changed & CHANGED_PITCH) != 0) {
+            out.writeByte(q.pitch());
+        }
+    }
+
+    static Quantized readDeltaBody(int sequence, int changed, Quantized baseline, ByteBuf in) {
+        long x = (changed & CHANGED_X) != 0 ? baseline.x() + unZigZag(readVarLong(in)) : baseline.x();
+        long y = (changed & CHANGED_Y) != 0 ? baseline.y() + unZigZag(readVarLong(in)) : baseline.y();
+        long z = (changed & CHANGED_Z) != 0 ? baseline.z() + unZigZag(readVarLong(in)) : baseline.z();
+        byte yaw = (changed & CHANGED_YAW) != 0 ? in.readByte() : baseline.yaw();
+        byte pitch = (changed & CHANGED_PITCH) != 0 ? in.readByte() : baseline.pitch();
+        return new Quantized(sequence, x, y, z, yaw, pitch);
+    }
+
+    /**
+     * delta 본문을 건너뜀 (기준 상태가 없어 적용할 수 없을 때)
+     */
+    static void skipDeltaBody(int changed, ByteBuf in) {
+        for (int axis = CHANGED_X; axis <= CHANGED_Z; axis <<= 1) {
+            if ((changed & axis) != 0) {
+                readVarLong(in);
+            }
+        }
+        in.skipBytes(((changed & CHANGED_YAW) != 0 ? 1 : 0) + ((changed & CHANGED_PITCH) != 0 ? 1 : 0));
+    }
+
+    private static void writeAxis(ByteBuf out, long value) {
+        writeVarLong(out, zigZag(value >> CELL_BITS));
+        out.writeShort((int) (value & 0xFFFF));
+    }
+
+    private static long readAxis(ByteBuf in) {
+        long cell = unZigZag(readVarLong(in));
+        return cell << CELL_BITS | in.readUnsignedShort();
+    }
+
+    static void writeVarInt(ByteBuf out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    static int readVarInt(ByteBuf in) {
+        long value = readVarLong(in);
+        if (value > 0xFFFFFFFFL) {
+            throw new CorruptedFrameException("varint too long");
+        }
+        return (int) value;
+    }
+
+    static void writeVarLong(ByteBuf out, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(ByteBuf in) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptedFrameException("varlong too long");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * 고정소수점으로 바꾼 상태. 양쪽이 이 값을 기준 상태로 보관함
+     */
+    record Quantized(int sequence, long x, long y, long z, byte yaw, byte pitch) {
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.opencraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 받는 쪽의 이동 상태 디코더. LEGACY, KEYFRAME, DELTA 형식을 모두 읽음
+ *
+ * 엔티티마다 최근에 받은 상태를 보관해 delta의 기준으로 씀. 기준 상태가 없는 delta는
+ * 건너뛰고 null을 돌려줌 (보낸 쪽은 확인을 못 받았으므로 곧 keyframe을 보냄).
+ * 한 연결에서 한 스레드만 사용.
+ */
+public final class MovementStateDecoder {
+    private final Map<Integer, MovementStateCodec.Quantized[]> received = new HashMap<>();
+    private long missingBaselineCount;
+
+    /**
+     * @return 읽은 상태, 기준 상태가 없어 적용할 수 없는 delta면 null
+     */
+    public MovementState decode(ByteBuf in) {
+        int header = in.readUnsignedByte();
+        int entityId = MovementStateCodec.readVarInt(in);
+        switch (MovementStateCodec.format(header)) {
+            case MovementStateCodec.FORMAT_LEGACY:
+                return MovementStateCodec.readLegacy(entityId, in);
+            case MovementStateCodec.FORMAT_KEYFRAME: {
+                MovementStateCodec.Quantized state = MovementStateCodec.readKeyframe(in);
+                remember(entityId, state);
+                return MovementStateCodec.toState(entityId, state);
+            }
+            case MovementStateCodec.FORMAT_DELTA: {
+                int baselineLowBits = in.readUnsignedByte();
+                int age = in.readUnsignedByte();
+                int changed = header & 0x1F;
+                MovementStateCodec.Quantized baseline = findByLowBits(entityId, baselineLowBits);
+                if (baseline == null) {
+                    MovementStateCodec.skipDeltaBody(changed, in);
+                    missingBaselineCount++;
+                    return null;
+                }
+                MovementStateCodec.Quantized state = MovementStateCodec.readDeltaBody(baseline.sequence() + age, changed, baseline, in);
+                remember(entityId, state);
+                return MovementStateCodec.toState(entityId, state);
+            }
+            default:
+                throw new CorruptedFrameException("Unknown movement state format: " + MovementStateCodec.format(header));
+        }
+    }
+
+    public void forget(int entityId) {
+        received.remove(entityId);
+    }
+
+    /**
+     * @return 기준 상태가 없어 버린 delta 프레임 수
+     */
+    public long getMissingBaselineCount() {
+        return missingBaselineCount;
+    }
+
+    private void remember(int entityId, MovementStateCodec.Quantized state) {
+        MovementStateCodec.Quantized[] history = received.computeIfAbsent(
+            entityId,
+            ignored -> new MovementStateCodec.Quantized[MovementStateEncoder.HISTORY_SIZE]
+        );
+        history[Math.floorMod(state.sequence(), history.length)] = state;
+    }
+
+    /**
+     * 기록 크기가 하위 비트 범위를 나누므로 칸은 하위 비트만으로 정해짐. 그 칸이 더 최근 상태로
+     * 덮였으면 하위 비트가 달라 null. 256틱 넘게 늦게 도착한 프레임만 구분하지 못함
+     */
+    private MovementStateCodec.Quantized findByLowBits(int entityId, int lowBits) {
+        MovementStateCodec.Quantized[] history = received.get(entityId);
+        if (history == null) {
+            return null;
+        }
+        MovementStateCodec.Quantized state = history[Math.floorMod(lowBits, history.length)];
+        return state != null && (state.sequence() & MovementStateCodec.BASELINE_SEQUENCE_MASK) == lowBits ? state : null;
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.opencraft.network;
+
+import io.netty.buffer.ByteBuf;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보내는 쪽의 이동 상태 인코더
+ *
+ * 엔티티마다 최근에 보낸 상태를 보관하다가, 상대가 확인한 상태를 기준으로 delta 프레임을 만듦.
+ * 확인된 기준이 없거나 너무 오래됐으면 keyframe을 보냄. 한 연결에서 한 스레드만 사용.
+ */
+public final class MovementStateEncoder {
+    static final int HISTORY_SIZE = 32;
+    // 기록은 sequence % HISTORY_SIZE 칸에 두므로, 이보다 오래된 기준은 받는 쪽에서 이미 덮였을 수 있음
+    static final int MAX_BASELINE_AGE = HISTORY_SIZE - 1;
+
+    private final boolean compact;
+    private final Map<Integer, History> entities = new HashMap<>();
+
+    /**
+     * @param compact false면 압축을 협상하지 않은 상대를 위해 LEGACY 형식만 씀
+     */
+    public MovementStateEncoder(boolean compact) {
+        this.compact = compact;
+    }
+
+    public void encode(MovementState state, ByteBuf out) {
+        if (!compact) {
+            MovementStateCodec.writeLegacy(state, out);
+            return;
+        }
+
+        MovementStateCodec.Quantized quantized = MovementStateCodec.quantize(state);
+        History history = entities.computeIfAbsent(state.entityId(), ignored -> new History());
+        MovementStateCodec.Quantized baseline = history.acknowledged;
+        if (baseline != null
+            && quantized.sequence() > baseline.sequence()
+            && quantized.sequence() - baseline.sequence() <= MAX_BASELINE_AGE) {
+            MovementStateCodec.writeDelta(state.entityId(), quantized, baseline, out);
+        } else {
+            MovementStateCodec.writeKeyframe(state.entityId(), quantized, out);
+        }
+        history.remember(quantized);
+    }
+
+    /**
+     * 상대가 받은 상태를 다음 delta의 기준으로 삼음. 보관 기록에 없거나 더 오래된 확인은 무시
+     */
+    public void acknowledge(int entityId, int sequence) {
+        History history = entities.get(entityId);
+        if (history == null) {
+            return;
+        }
+        MovementStateCodec.Quantized sent = history.find(sequence);
+        if (sent != null && (history.acknowledged == null || sequence > history.acknowledged.sequence())) {
+            history.acknowledged = sent;
+        }
+    }
+
+    public void forget(int entityId) {
+        entities.remove(entityId);
+    }
+
+    private static final class History {
+        private final MovementStateCodec.Quantized[] sent = new MovementStateCodec.Quantized[HISTORY_SIZE];
+        private MovementStateCodec.Quantized acknowledged;
+
+        private void remember(MovementStateCodec.Quantized state) {
+            sent[Math.floorMod(state.sequence(), HISTORY_SIZE)] = state;
+        }
+
+        private MovementStateCodec.Quantized find(int sequence) {
+            MovementStateCodec.Quantized state = sent[Math.floorMod(sequence, HISTORY_SIZE)];
+            return state != null && state.sequence() == sequence ? state : null;
+        }
+    }
+}
@@ -6,11 +6,14 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import java.net.InetSocketAddress;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import kr.co.opencraft.entity.InputCommand;
 import kr.co.voxeliver.network.protocol.Packet;
 import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
 import kr.co.voxeliver.network.protocol.impl.LoginRequestPacket;
@@ -18,14 +21,20 @@ import kr.co.voxeliver.network.protocol.impl.PingPacket;
 
 public class MultiplayerClient implements AutoCloseable {
     private static final float KEEP_ALIVE_INTERVAL_SECONDS = 5f;
+    // 기본은 꺼져 있음. -Dopencraft.udp=true로 켜고, -Dopencraft.udp.port로 서버 UDP 포트를 지정 (기본은 TCP 포트)
+    private static final boolean MOVEMENT_CHANNEL_ENABLED = Boolean.parseBoolean(System.getProperty("opencraft.udp", "false"));
+    private static final Duration MOVEMENT_CHANNEL_NEGOTIATION_TIMEOUT = Duration.ofSeconds(2);
 
     private final String host;
     private final int port;
     private final CompletableFuture<LoginAcceptedPacket> loginFuture = new CompletableFuture<>();
-    private final ConcurrentLinkedQueue<Packet> inboundPackets = new ConcurrentLinkedQueue<>();
+    private final InboundPacketQueue inboundPackets = new InboundPacketQueue();
+    private final NetworkStats stats = new NetworkStats(inboundPackets);
+    private final PacketDispatcher dispatcher = MultiplayerPacketHandler.createDispatcher(loginFuture, stats);
 
     private EventLoopGroup eventLoopGroup;
     private Channel channel;
+    private MovementChannel movementChannel;
     private float keepAliveAccumulator;
 
     public MultiplayerClient(String host, int port) {
@@ -46,11 +55,27 @@ public class MultiplayerClient implements AutoCloseable {
         Bootstrap bootstrap = new Bootstrap();
         bootstrap.group(eventLoopGroup)
             .channel(NioSocketChannel.class)
-            .handler(new MultiplayerClientInitializer(loginFuture, inboundPackets));
+            .handler(new MultiplayerClientInitializer(loginFuture, inboundPackets, stats, dispatcher));
 
         channel = bootstrap.connect(host, port).sync().channel();
         channel.writeAndFlush(new LoginRequestPacket(username)).sync();
-        return loginFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        LoginAcceptedPacket accepted = loginFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        openMovementChannel(accepted.getPlayerId());
+        return accepted;
+    }
+
+    /**
+     * 로그인 직후 UDP 보조 채널 협상을 시작함. 결과를 기다리지 않으며, 서버가 응답하지 않으면 TCP만 씀
+     */
+    private void openMovementChannel(int playerId) {
+        if (!MOVEMENT_CHANNEL_ENABLED) {
+            return;
+        }
+        int udpPort = Integer.getInteger("opencraft.udp.port", port);
+        movementChannel = new MovementChannel(eventLoopGroup, new InetSocketAddress(host, udpPort), playerId, stats);
+        movementChannel.negotiate(MOVEMENT_CHANNEL_NEGOTIATION_TIMEOUT).thenAccept(active -> System.out.println(
+            "[MultiplayerClient] " + (active ? "Movement side channel active on UDP " + udpPort : "No UDP side channel, movement stays on TCP")
+        ));
     }
 
     public void update(float delta) {
@@ -72,6 +97,32 @@ public class MultiplayerClient implements AutoCloseable {
         channel.writeAndFlush(packet);
     }
 
+    /**
+     * @return 이동/플레이어 상태를 UDP로 주고받는 중이면 true
+     */
+    public boolean isMovementChannelActive() {
+        return movementChannel != null && movementChannel.isActive();
+    }
+
+    /**
+     * 확인되지 않은 입력 커맨드를 UDP MOVE로 보냄. 채널이 없으면 아무것도 하지 않으므로
+     * 호출하는 쪽은 {@link #isMovementChannelActive()}가 false일 때 TCP MovePacket을 씀
+     */
+    public void sendCommands(List<InputCommand> commands) {
+        if (movementChannel != null) {
+            movementChannel.send(commands);
+        }
+    }
+
+    /**
+     * 게임 스레드에서 호출. UDP로 받은 엔티티별 최신 이동 상태를 넘김
+     */
+    public void pollMovementStates(Consumer<MovementState> consumer) {
+        if (movementChannel != null) {
+            movementChannel.drainStates(consumer);
+        }
+    }
+
     public boolean isConnected() {
         return channel != null && channel.isActive();
     }
@@ -80,11 +131,27 @@ public class MultiplayerClient implements AutoCloseable {
         return inboundPackets.poll();
     }
 
+    /**
+     * 게임 스레드 패킷 핸들러를 연결하고 {@link #pollPacket()}으로 꺼낸 패킷을 처리하는 데 사용
+     */
+    public PacketDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public NetworkStats getNetworkStats() {
+        return stats;
+    }
+
     @Override
     public void close() {
         keepAliveAccumulator = 0f;
         inboundPackets.clear();
 
+        if (movementChannel != null) {
+            movementChannel.close();
+            movementChannel = null;
+        }
+
         if (channel != null) {
             channel.close().awaitUninterruptibly();
             channel = null;
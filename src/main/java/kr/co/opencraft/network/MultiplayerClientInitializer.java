@@ -3,26 +3,49 @@ package kr.co.opencraft.network;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import kr.co.voxeliver.network.protocol.Packet;
 import kr.co.voxeliver.network.codec.PacketDecoder;
 import kr.co.voxeliver.network.codec.PacketEncoder;
 import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
 
 public class MultiplayerClientInitializer extends ChannelInitializer<SocketChannel> {
     private final CompletableFuture<LoginAcceptedPacket> loginFuture;
-    private final ConcurrentLinkedQueue<Packet> inboundPackets;
+    private final InboundPacketQueue inboundPackets;
+    private final NetworkStats stats;
+    private final PacketDispatcher dispatcher;
 
-    public MultiplayerClientInitializer(CompletableFuture<LoginAcceptedPacket> loginFuture, ConcurrentLinkedQueue<Packet> inboundPackets) {
+    public MultiplayerClientInitializer(CompletableFuture<LoginAcceptedPacket> loginFuture, InboundPacketQueue inboundPackets) {
+        this(loginFuture, inboundPackets, new NetworkStats(inboundPackets));
+    }
+
+    public MultiplayerClientInitializer(
+        CompletableFuture<LoginAcceptedPacket> loginFuture,
+        InboundPacketQueue inboundPackets,
+        NetworkStats stats
+    ) {
+        this(loginFuture, inboundPackets, stats, MultiplayerPacketHandler.createDispatcher(loginFuture, stats));
+    }
+
+    public MultiplayerClientInitializer(
+        CompletableFuture<LoginAcceptedPacket> loginFuture,
+        InboundPacketQueue inboundPackets,
+        NetworkStats stats,
+        PacketDispatcher dispatcher
+    ) {
         this.loginFuture = loginFuture;
         this.inboundPackets = inboundPackets;
+        this.stats = stats;
+        this.dispatcher = dispatcher;
     }
 
     @Override
     protected void initChannel(SocketChannel ch) {
+        PacketStatsHandler packetStats = new PacketStatsHandler(stats);
         ch.pipeline()
+            .addLast(new TrafficStatsHandler(stats))
             .addLast(new PacketDecoder())
-            .addLast(new MultiplayerPacketHandler(loginFuture, inboundPackets))
-            .addLast(new PacketEncoder());
+            .addLast(packetStats)
+            .addLast(new MultiplayerPacketHandler(loginFuture, inboundPackets, dispatcher))
+            .addLast(new PacketEncoder())
+            .addLast(packetStats);
     }
 }
@@ -2,8 +2,9 @@ package kr.co.opencraft.network;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import kr.co.voxeliver.network.protocol.Packet;
 import kr.co.voxeliver.network.protocol.impl.BlockUpdatePacket;
 import kr.co.voxeliver.network.protocol.impl.ChunkDataPacket;
@@ -16,35 +17,73 @@ import kr.co.voxeliver.network.protocol.impl.PingPacket;
 
 public class MultiplayerPacketHandler extends SimpleChannelInboundHandler<Packet> {
     private final CompletableFuture<LoginAcceptedPacket> loginFuture;
-    private final ConcurrentLinkedQueue<Packet> inboundPackets;
+    private final InboundPacketQueue inboundPackets;
+    private final PacketDispatcher dispatcher;
+    private final Set<Class<?>> reportedUnknownTypes = ConcurrentHashMap.newKeySet();
 
-    public MultiplayerPacketHandler(CompletableFuture<LoginAcceptedPacket> loginFuture, ConcurrentLinkedQueue<Packet> inboundPackets) {
+    public MultiplayerPacketHandler(CompletableFuture<LoginAcceptedPacket> loginFuture, InboundPacketQueue inboundPackets) {
+        this(loginFuture, inboundPackets, new NetworkStats(inboundPackets));
+    }
+
+    public MultiplayerPacketHandler(
+        CompletableFuture<LoginAcceptedPacket> loginFuture,
+        InboundPacketQueue inboundPackets,
+        NetworkStats stats
+    ) {
+        this(loginFuture, inboundPackets, createDispatcher(loginFuture, stats));
+    }
+
+    public MultiplayerPacketHandler(
+        CompletableFuture<LoginAcceptedPacket> loginFuture,
+        InboundPacketQueue inboundPackets,
+        PacketDispatcher dispatcher
+    ) {
         this.loginFuture = loginFuture;
         this.inboundPackets = inboundPackets;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 클라이언트가 받는 패킷의 경로 테이블. 게임 스레드 핸들러는 MultiplayerGameScreen이 연결함
+     */
+    public static PacketDispatcher createDispatcher(CompletableFuture<LoginAcceptedPacket> loginFuture, NetworkStats stats) {
+        return new PacketDispatcher()
+            .route(LoginAcceptedPacket.class, PacketDispatcher.Target.EVENT_LOOP, loginFuture::complete)
+            .route(PingPacket.class, PacketDispatcher.Target.EVENT_LOOP, ping -> stats.recordPingEcho(System.nanoTime()))
+            .route(ChunkDataPacket.class, PacketDispatcher.Target.GAME_THREAD)
+            .route(ChunkUnloadPacket.class, PacketDispatcher.Target.GAME_THREAD)
+            .route(BlockUpdatePacket.class, PacketDispatcher.Target.GAME_THREAD)
+            .route(PlayerJoinedPacket.class, PacketDispatcher.Target.GAME_THREAD_CONTROL)
+            .route(PlayerStatePacket.class, PacketDispatcher.Target.GAME_THREAD_CONTROL)
+            .route(PlayerLeftPacket.class, PacketDispatcher.Target.GAME_THREAD_CONTROL);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        inboundPackets.bind(ctx.channel());
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, Packet packet) {
-        if (packet instanceof LoginAcceptedPacket loginAcceptedPacket) {
-            loginFuture.complete(loginAcceptedPacket);
+        int id = dispatcher.idOf(packet);
+        if (id == PacketDispatcher.UNKNOWN) {
+            if (reportedUnknownTypes.add(packet.getClass())) {
+                System.out.println("[MultiplayerClient] Unhandled packet: " + packet.getClass().getSimpleName());
+            }
             return;
         }
 
-        if (packet instanceof PingPacket) {
+        PacketDispatcher.Target target = dispatcher.targetOf(id);
+        if (target == PacketDispatcher.Target.EVENT_LOOP) {
+            dispatcher.dispatch(packet);
             return;
         }
 
-        if (packet instanceof ChunkDataPacket
-            || packet instanceof ChunkUnloadPacket
-            || packet instanceof BlockUpdatePacket
-            || packet instanceof PlayerJoinedPacket
-            || packet instanceof PlayerStatePacket
-            || packet instanceof PlayerLeftPacket) {
-            inboundPackets.offer(packet);
-            return;
+        if (!inboundPackets.offer(packet, target == PacketDispatcher.Target.GAME_THREAD_CONTROL)) {
+            // 읽기를 멈춘 뒤에도 한 번의 read 분량을 넘게 쌓였다면 메모리를 지키기 위해 연결을 끊음
+            System.err.println("[MultiplayerClient] Inbound queue overflow, disconnecting");
+            ctx.close();
         }
-
-        System.out.println("[MultiplayerClient] Unhandled packet: " + packet.getClass().getSimpleName());
     }
 
     @Override
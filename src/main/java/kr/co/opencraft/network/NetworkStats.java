@@ -0,0 +1,262 @@
+package kr.co.opencraft.network;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 멀티플레이 연결의 지연 시간과 트래픽 통계
+ *
+ * RTT는 클라이언트가 보낸 PingPacket과 서버가 돌려준 PingPacket을 순서대로 짝지어 측정함.
+ * 평활 RTT와 지터는 TCP(RFC 6298)와 같은 EWMA(1/8, 1/4)를 쓰고, 최소/최대는 최근
+ * {@value #RTT_WINDOW}개 샘플 기준.
+ *
+ * Netty 이벤트 루프에서 기록하고 렌더 스레드에서 읽음.
+ */
+public final class NetworkStats {
+    static final int RTT_WINDOW = 16;
+    private static final long PING_TIMEOUT_NANOS = 30_000_000_000L;
+    private static final double RTT_ALPHA = 1.0 / 8.0;
+    private static final double JITTER_BETA = 1.0 / 4.0;
+
+    private final ArrayDeque<Long> outstandingPings = new ArrayDeque<>();
+    private final long[] rttWindow = new long[RTT_WINDOW];
+    private int rttWindowNext;
+    private int rttSamples;
+    private long lastRttNanos = -1L;
+    private double smoothedRttNanos = -1.0;
+    private double jitterNanos;
+
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder packetsIn = new LongAdder();
+    private final LongAdder packetsOut = new LongAdder();
+    private final LongAdder datagramsIn = new LongAdder();
+    private final LongAdder datagramsOut = new LongAdder();
+    private final LongAdder datagramBytesIn = new LongAdder();
+    private final LongAdder datagramBytesOut = new LongAdder();
+    private final Map<Class<?>, TypeCounters> byType = new ConcurrentHashMap<>();
+    private long unattributedInboundBytes;
+    private Class<?> pendingOutboundType;
+
+    private final InboundPacketQueue inboundQueue;
+
+    public NetworkStats(InboundPacketQueue inboundQueue) {
+        this.inboundQueue = inboundQueue;
+    }
+
+    synchronized void recordPingSent(long nowNanos) {
+        while (!outstandingPings.isEmpty() && nowNanos - outstandingPings.peekFirst() > PING_TIMEOUT_NANOS) {
+            outstandingPings.pollFirst();
+        }
+        outstandingPings.addLast(nowNanos);
+    }
+
+    /**
+     * 서버가 먼저 보낸 핑처럼 짝이 없는 응답은 무시함
+     */
+    synchronized void recordPingEcho(long nowNanos) {
+        Long sentNanos = outstandingPings.pollFirst();
+        if (sentNanos == null) {
+            return;
+        }
+
+        long rtt = Math.max(0L, nowNanos - sentNanos);
+        lastRttNanos = rtt;
+        rttWindow[rttWindowNext] = rtt;
+        rttWindowNext = (rttWindowNext + 1) % RTT_WINDOW;
+        rttSamples++;
+        if (smoothedRttNanos < 0.0) {
+            smoothedRttNanos = rtt;
+            jitterNanos = rtt / 2.0;
+        } else {
+            jitterNanos += JITTER_BETA * (Math.abs(smoothedRttNanos - rtt) - jitterNanos);
+            smoothedRttNanos += RTT_ALPHA * (rtt - smoothedRttNanos);
+        }
+    }
+
+    void recordBytesIn(int bytes) {
+        bytesIn.add(bytes);
+        synchronized (this) {
+            unattributedInboundBytes += bytes;
+        }
+    }
+
+    /**
+     * 수신 바이트는 디코딩 전에만 보이므로, 직전 패킷 이후 도착한 바이트를 이번 패킷 몫으로 봄.
+     * 한 번의 read에서 여러 패킷이 나오면 첫 패킷에 몰리는 근사치임 (총합은 정확함).
+     */
+    void recordPacketIn(Class<?> type) {
+        long bytes;
+        synchronized (this) {
+            bytes = unattributedInboundBytes;
+            unattributedInboundBytes = 0L;
+        }
+        packetsIn.increment();
+        TypeCounters counters = counters(type);
+        counters.packetsIn.increment();
+        counters.bytesIn.add(bytes);
+    }
+
+    /**
+     * 인코더 직전에 호출. 같은 이벤트 루프 호출 안에서 이어지는 {@link #recordBytesOut}이 이 타입으로 집계됨.
+     */
+    void recordPacketOut(Class<?> type) {
+        packetsOut.increment();
+        counters(type).packetsOut.increment();
+        pendingOutboundType = type;
+    }
+
+    void recordBytesOut(int bytes) {
+        bytesOut.add(bytes);
+        Class<?> type = pendingOutboundType;
+        if (type != null) {
+            counters(type).bytesOut.add(bytes);
+        }
+    }
+
+    /**
+     * UDP 보조 채널 트래픽은 TCP 합계와 따로 셈
+     */
+    void recordDatagramIn(int bytes) {
+        datagramsIn.increment();
+        datagramBytesIn.add(bytes);
+    }
+
+    void recordDatagramOut(int bytes) {
+        datagramsOut.increment();
+        datagramBytesOut.add(bytes);
+    }
+
+    private TypeCounters counters(Class<?> type) {
+        return byType.computeIfAbsent(type, ignored -> new TypeCounters());
+    }
+
+    /**
+     * @return 평활 RTT(ms), 아직 샘플이 없으면 -1
+     */
+    public synchronized double getRttMillis() {
+        return smoothedRttNanos < 0.0 ? -1.0 : smoothedRttNanos / 1_000_000.0;
+    }
+
+    public synchronized double getJitterMillis() {
+        return smoothedRttNanos < 0.0 ? -1.0 : jitterNanos / 1_000_000.0;
+    }
+
+    public synchronized double getLastRttMillis() {
+        return lastRttNanos < 0L ? -1.0 : lastRttNanos / 1_000_000.0;
+    }
+
+    public synchronized double getMinRttMillis() {
+        int count = Math.min(rttSamples, RTT_WINDOW);
+        if (count == 0) {
+            return -1.0;
+        }
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, rttWindow[i]);
+        }
+        return min / 1_000_000.0;
+    }
+
+    public synchronized double getMaxRttMillis() {
+        int count = Math.min(rttSamples, RTT_WINDOW);
+        if (count == 0) {
+            return -1.0;
+        }
+        long max = 0L;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, rttWindow[i]);
+        }
+        return max / 1_000_000.0;
+    }
+
+    public synchronized int getRttSampleCount() {
+        return rttSamples;
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getPacketsIn() {
+        return packetsIn.sum();
+    }
+
+    public long getPacketsOut() {
+        return packetsOut.sum();
+    }
+
+    public long getDatagramsIn() {
+        return datagramsIn.sum();
+    }
+
+    public long getDatagramsOut() {
+        return datagramsOut.sum();
+    }
+
+    public long getDatagramBytesIn() {
+        return datagramBytesIn.sum();
+    }
+
+    public long getDatagramBytesOut() {
+        return datagramBytesOut.sum();
+    }
+
+    public int getInboundQueueDepth() {
+        return inboundQueue.size();
+    }
+
+    /**
+     * 게임 스레드에서 호출
+     *
+     * @return 가장 오래 대기 중인 수신 패킷의 대기 시간(ms), 큐가 비어 있으면 0
+     */
+    public double getOldestInboundAgeMillis(long nowNanos) {
+        return inboundQueue.getOldestAgeNanos(nowNanos) / 1_000_000.0;
+    }
+
+    /**
+     * @return 큐가 high watermark에 닿아 소켓 읽기를 멈춘 횟수
+     */
+    public long getReadPauseCount() {
+        return inboundQueue.getPauseCount();
+    }
+
+    public boolean isReadingPaused() {
+        return inboundQueue.isReadingPaused();
+    }
+
+    /**
+     * @return 패킷 클래스 단순 이름 순으로 정렬된 타입별 통계
+     */
+    public Map<String, PacketTypeStats> getPacketTypeStats() {
+        Map<String, PacketTypeStats> stats = new TreeMap<>();
+        for (Map.Entry<Class<?>, TypeCounters> entry : byType.entrySet()) {
+            TypeCounters counters = entry.getValue();
+            stats.put(entry.getKey().getSimpleName(), new PacketTypeStats(
+                counters.packetsIn.sum(),
+                counters.bytesIn.sum(),
+                counters.packetsOut.sum(),
+                counters.bytesOut.sum()
+            ));
+        }
+        return stats;
+    }
+
+    public record PacketTypeStats(long packetsIn, long bytesIn, long packetsOut, long bytesOut) {
+    }
+
+    private static final class TypeCounters {
+        private final LongAdder packetsIn = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder packetsOut = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+    }
+}
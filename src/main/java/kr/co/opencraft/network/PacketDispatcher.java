@@ -0,0 +1,138 @@
+package kr.co.opencraft.network;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import kr.co.voxeliver.network.protocol.Packet;
+
+/**
+ * 패킷 클래스별 처리 위치와 핸들러를 담는 테이블
+ *
+ * 클래스마다 밀집 인덱스를 하나 부여하고, 조회 결과는 {@link ClassValue}에 캐시하므로
+ * 패킷 하나당 비용은 캐시 조회와 배열 접근 한 번씩임.
+ *
+ * 경로({@link #route})는 첫 조회 전에 모두 선언해야 함. 게임 스레드 핸들러는 화면이 만들어질 때
+ * {@link #bind}로 나중에 연결할 수 있음.
+ */
+public final class PacketDispatcher {
+    public static final int UNKNOWN = -1;
+
+    /**
+     * 패킷이 처리되는 스레드
+     */
+    public enum Target {
+        /** Netty 이벤트 루프에서 즉시 처리 (로그인 응답, 핑 등) */
+        EVENT_LOOP,
+        /** 게임 스레드, world 레인 (서로 순서가 중요한 월드 변경) */
+        GAME_THREAD,
+        /** 게임 스레드, control 레인 (작고 지연에 민감한 패킷) */
+        GAME_THREAD_CONTROL
+    }
+
+    @FunctionalInterface
+    public interface Handler<T extends Packet> {
+        void handle(T packet);
+    }
+
+    private final Map<Class<?>, Integer> ids = new HashMap<>();
+    private final ClassValue<Integer> routeIds = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+    private volatile Target[] targets = new Target[0];
+    private volatile Handler<Packet>[] handlers = newHandlerArray(0);
+    private volatile boolean frozen;
+
+    /**
+     * 핸들러는 나중에 {@link #bind}로 연결
+     */
+    public synchronized <T extends Packet> PacketDispatcher route(Class<T> type, Target target) {
+        return route(type, target, null);
+    }
+
+    public synchronized <T extends Packet> PacketDispatcher route(Class<T> type, Target target, Handler<? super T> handler) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(target, "target");
+        if (frozen) {
+            throw new IllegalStateException("Routes must be declared before the first dispatch: " + type.getSimpleName());
+        }
+        if (ids.containsKey(type)) {
+            throw new IllegalArgumentException("Route already declared for " + type.getSimpleName());
+        }
+
+        int id = targets.length;
+        ids.put(type, id);
+        targets = Arrays.copyOf(targets, id + 1);
+        targets[id] = target;
+        Handler<Packet>[] resized = Arrays.copyOf(handlers, id + 1);
+        resized[id] = cast(handler);
+        handlers = resized;
+        return this;
+    }
+
+    /**
+     * 이미 선언된 경로에 핸들러를 연결하거나 교체
+     */
+    public synchronized <T extends Packet> PacketDispatcher bind(Class<T> type, Handler<? super T> handler) {
+        Integer id = ids.get(type);
+        if (id == null) {
+            throw new IllegalArgumentException("No route declared for " + type.getSimpleName());
+        }
+        Handler<Packet>[] updated = handlers.clone();
+        updated[id] = cast(handler);
+        handlers = updated;
+        return this;
+    }
+
+    /**
+     * @return 패킷 클래스의 밀집 인덱스, 경로가 없으면 {@link #UNKNOWN}
+     */
+    public int idOf(Packet packet) {
+        return routeIds.get(packet.getClass());
+    }
+
+    public Target targetOf(int id) {
+        return targets[id];
+    }
+
+    /**
+     * @return 연결된 핸들러가 있어 처리했으면 true
+     */
+    public boolean dispatch(Packet packet) {
+        int id = idOf(packet);
+        if (id == UNKNOWN) {
+            return false;
+        }
+        Handler<Packet> handler = handlers[id];
+        if (handler == null) {
+            return false;
+        }
+        handler.handle(packet);
+        return true;
+    }
+
+    // 하위 클래스는 가장 가까운 상위 클래스의 경로를 따름
+    private synchronized int resolve(Class<?> type) {
+        frozen = true;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Integer id = ids.get(current);
+            if (id != null) {
+                return id;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Handler<Packet> cast(Handler<?> handler) {
+        return (Handler<Packet>) handler;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Handler<Packet>[] newHandlerArray(int length) {
+        return (Handler<Packet>[]) new Handler<?>[length];
+    }
+}
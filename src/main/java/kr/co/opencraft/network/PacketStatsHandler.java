@@ -0,0 +1,42 @@
+package kr.co.opencraft.network;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import kr.co.voxeliver.network.protocol.Packet;
+import kr.co.voxeliver.network.protocol.impl.PingPacket;
+
+/**
+ * 디코딩된 패킷을 타입별로 셈
+ *
+ * 같은 인스턴스를 디코더 뒤(수신)와 인코더 뒤(송신, 파이프라인 끝) 두 곳에 추가함.
+ * 송신 핑은 실제로 소켓에 쓰이는 이벤트 루프 시점에 RTT 기준 시각으로 기록됨.
+ */
+@ChannelHandler.Sharable
+public class PacketStatsHandler extends ChannelDuplexHandler {
+    private final NetworkStats stats;
+
+    public PacketStatsHandler(NetworkStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof Packet) {
+            stats.recordPacketIn(msg.getClass());
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof Packet) {
+            stats.recordPacketOut(msg.getClass());
+            if (msg instanceof PingPacket) {
+                stats.recordPingSent(System.nanoTime());
+            }
+        }
+        super.write(ctx, msg, promise);
+    }
+}
@@ -0,0 +1,146 @@
+package kr.co.opencraft.network;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * 서버 확인을 기다리는 낙관적 블록 편집 기록
+ *
+ * 프로토콜에는 요청 시퀀스도 거절 패킷도 없으므로, 서버 응답은 위치와 결과 블록으로 짝지음:
+ * <ul>
+ *   <li>같은 위치의 BlockUpdatePacket 결과가 예측과 같으면 확인</li>
+ *   <li>결과가 다르면 거절(또는 다른 플레이어의 변경)로 보고 서버 값을 따름</li>
+ *   <li>제한 시간 안에 아무 응답이 없으면 거절로 보고 편집 전 값으로 되돌림</li>
+ * </ul>
+ *
+ * 한 위치에 여러 편집이 대기 중이면 보낸 순서대로 쌓고, 되돌릴 때는 서버가 마지막으로 확인한 값으로 돌아감.
+ * 게임 스레드에서만 사용.
+ */
+public final class PendingBlockEdits {
+    private final Map<Long, Position> positions = new HashMap<>();
+
+    /**
+     * 로컬에 예측 적용한 편집을 기록
+     *
+     * @param previousType 편집 직전 로컬 월드의 블록 (공기면 BlockTypes.AIR)
+     */
+    public void record(int x, int y, int z, int previousType, int predictedType, long nowNanos) {
+        positions.computeIfAbsent(key(x, y, z), ignored -> new Position(x, y, z, previousType))
+            .edits.addLast(new Edit(predictedType, nowNanos));
+    }
+
+    /**
+     * 서버의 블록 변경을 기록과 맞춰봄
+     *
+     * @return 월드에 서버 값을 적용해야 하면 true. 예측이 맞았거나 같은 위치에 더 최근 예측이
+     *     남아 있어 화면이 이미 올바르면 false (불필요한 리메시를 하지 않음)
+     */
+    public boolean reconcile(int x, int y, int z, int serverType) {
+        long key = key(x, y, z);
+        Position position = positions.get(key);
+        if (position == null) {
+            return true;
+        }
+
+        // 서버는 요청 순서대로 처리하므로, 일치하는 편집보다 앞선 편집은 거절된 것
+        int matched = 0;
+        int index = 0;
+        for (Edit edit : position.edits) {
+            index++;
+            if (edit.predictedType == serverType) {
+                matched = index;
+                break;
+            }
+        }
+
+        if (matched == 0) {
+            positions.remove(key);
+            return true;
+        }
+
+        for (int i = 0; i < matched; i++) {
+            position.edits.pollFirst();
+        }
+        position.confirmedType = serverType;
+        if (position.edits.isEmpty()) {
+            positions.remove(key);
+        }
+        return false;
+    }
+
+    /**
+     * 가장 오래된 편집이 제한 시간을 넘긴 위치를 모두 거절 처리함.
+     *
+     * @return 되돌릴 위치와 블록 (서버가 마지막으로 확인한 값)
+     */
+    public List<Rollback> expire(long nowNanos, long timeoutNanos) {
+        List<Rollback> rollbacks = null;
+        Iterator<Position> iterator = positions.values().iterator();
+        while (iterator.hasNext()) {
+            Position position = iterator.next();
+            if (nowNanos - position.edits.peekFirst().sentNanos < timeoutNanos) {
+                continue;
+            }
+            if (rollbacks == null) {
+                rollbacks = new ArrayList<>();
+            }
+            rollbacks.add(new Rollback(position.x, position.y, position.z, position.confirmedType));
+            iterator.remove();
+        }
+        return rollbacks == null ? List.of() : rollbacks;
+    }
+
+    /**
+     * 언로드된 청크의 기록은 버림. 다시 받는 청크 데이터가 서버 상태이므로 되돌릴 필요가 없음
+     */
+    public void discardChunk(int chunkX, int chunkZ) {
+        positions.values().removeIf(position ->
+            Math.floorDiv(position.x, Chunk.CHUNK_SIZE) == chunkX
+                && Math.floorDiv(position.z, Chunk.CHUNK_SIZE) == chunkZ);
+    }
+
+    public void clear() {
+        positions.clear();
+    }
+
+    /**
+     * @return 확인을 기다리는 위치 수
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    public boolean isPending(int x, int y, int z) {
+        return positions.containsKey(key(x, y, z));
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+    }
+
+    public record Rollback(int x, int y, int z, int blockType) {
+    }
+
+    private static final class Position {
+        private final int x;
+        private final int y;
+        private final int z;
+        private final ArrayDeque<Edit> edits = new ArrayDeque<>();
+        private int confirmedType;
+
+        private Position(int x, int y, int z, int confirmedType) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.confirmedType = confirmedType;
+        }
+    }
+
+    private record Edit(int predictedType, long sentNanos) {
+    }
+}
@@ -0,0 +1,33 @@
+package kr.co.opencraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * 파이프라인 맨 앞(소켓 쪽)에서 실제 송수신 바이트를 셈
+ */
+public class TrafficStatsHandler extends ChannelDuplexHandler {
+    private final NetworkStats stats;
+
+    public TrafficStatsHandler(NetworkStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ByteBuf buffer) {
+            stats.recordBytesIn(buffer.readableBytes());
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf buffer) {
+            stats.recordBytesOut(buffer.readableBytes());
+        }
+        super.write(ctx, msg, promise);
+    }
+}
@@ -0,0 +1,248 @@
+package kr.co.opencraft.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.ChunkLoadPolicy;
+import kr.co.opencraft.world.lod.LodChunk;
+import kr.co.opencraft.world.lod.LodTerrainCache;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelient.camera.FPSCamera;
+
+/**
+ * Draws the LOD ring between the full-detail render distance and the LOD distance as
+ * one flat-shaded mesh.
+ *
+ * The pass runs after the voxel renderer with depth pinned to the far plane, so it
+ * only fills pixels the full-detail terrain left as sky. Chunks are written far to
+ * near, which keeps nearer hills in front without depth writes.
+ *
+ * The vertex array is filled on a background thread; the render thread only uploads
+ * the finished array. One array is shared and only one build runs at a time, so the
+ * builder never writes while the render thread reads it.
+ */
+public class DistantTerrainRenderer {
+    private static final int FLOATS_PER_VERTEX = 4;
+    private static final int VERTICES_PER_CHUNK = LodChunk.CELLS * LodChunk.CELLS * 6;
+    private static final int REBUILD_INTERVAL_FRAMES = 30;
+
+    private static final String VERTEX_SHADER = """
+        attribute vec4 a_position;
+        attribute vec4 a_color;
+        uniform mat4 u_projTrans;
+        varying vec4 v_color;
+        void main() {
+            v_color = a_color;
+            gl_Position = u_projTrans * a_position;
+        }
+        """;
+    private static final String FRAGMENT_SHADER = """
+        #ifdef GL_ES
+        precision mediump float;
+        #endif
+        varying vec4 v_color;
+        void main() {
+            gl_FragColor = v_color;
+        }
+        """;
+
+    private final LodTerrainCache lodTerrain;
+    private final ChunkLoadPolicy loadPolicy;
+    private final PerspectiveCamera lodCamera = new PerspectiveCamera();
+    private final ShaderProgram shader;
+    private final Mesh mesh;
+    private final float[] vertices;
+    private final Color color = new Color();
+    private final ExecutorService meshBuilder;
+    private final AtomicReference<BuiltMesh> builtMesh = new AtomicReference<>();
+    private int vertexCount;
+    private int builtChunkX = Integer.MIN_VALUE;
+    private int builtChunkZ = Integer.MIN_VALUE;
+    private int builtVersion = -1;
+    private int framesSinceRebuild;
+    private boolean buildInFlight;
+
+    public DistantTerrainRenderer(LodTerrainCache lodTerrain, ChunkLoadPolicy loadPolicy) {
+        this.lodTerrain = lodTerrain;
+        this.loadPolicy = loadPolicy;
+
+        int lodDiameter = loadPolicy.getLodDistance() * 2 + 1;
+        int maxVertices = lodDiameter * lodDiameter * VERTICES_PER_CHUNK;
+        vertices = new float[maxVertices * FLOATS_PER_VERTEX];
+        mesh = new Mesh(false, maxVertices, 0, VertexAttribute.Position(), VertexAttribute.ColorPacked());
+        meshBuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opencraft-lod-mesh");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        ShaderProgram.pedantic = false;
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new IllegalStateException("LOD shader failed to compile: " + shader.getLog());
+        }
+    }
+
+    public void render(FPSCamera camera) {
+        if (loadPolicy.getLodDistance() <= loadPolicy.getVisibleDistance()) {
+            return;
+        }
+
+        PerspectiveCamera source = camera.getCamera();
+        int playerChunkX = Math.floorDiv(MathUtils.floor(source.position.x), Chunk.CHUNK_SIZE);
+        int playerChunkZ = Math.floorDiv(MathUtils.floor(source.position.z), Chunk.CHUNK_SIZE);
+        rebuildIfNeeded(playerChunkX, playerChunkZ);
+        if (vertexCount == 0) {
+            return;
+        }
+
+        lodCamera.fieldOfView = source.fieldOfView;
+        lodCamera.viewportWidth = source.viewportWidth;
+        lodCamera.viewportHeight = source.viewportHeight;
+        lodCamera.position.set(source.position);
+        lodCamera.direction.set(source.direction);
+        lodCamera.up.set(source.up);
+        lodCamera.near = source.far * 0.5f;
+        lodCamera.far = (loadPolicy.getLodDistance() + 2) * Chunk.CHUNK_SIZE * 1.5f;
+        lodCamera.update();
+
+        Gdx.gl.glEnable(GL20.GL_DEPTH_TEST);
+        Gdx.gl.glDepthFunc(GL20.GL_LEQUAL);
+        Gdx.gl.glDepthMask(false);
+        Gdx.gl.glDepthRangef(1f, 1f);
+        Gdx.gl.glEnable(GL20.GL_CULL_FACE);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", lodCamera.combined);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, vertexCount);
+
+        Gdx.gl.glDisable(GL20.GL_CULL_FACE);
+        Gdx.gl.glDepthRangef(0f, 1f);
+        Gdx.gl.glDepthMask(true);
+        Gdx.gl.glDepthFunc(GL20.GL_LESS);
+    }
+
+    private void rebuildIfNeeded(int playerChunkX, int playerChunkZ) {
+        BuiltMesh built = builtMesh.getAndSet(null);
+        if (built != null) {
+            buildInFlight = false;
+            long uploadStart = System.nanoTime();
+            mesh.setVertices(vertices, 0, built.floatCount());
+            vertexCount = built.floatCount() / FLOATS_PER_VERTEX;
+            OpenCraftMetrics.LOD_MESH_UPLOAD.recordSince(uploadStart);
+        }
+
+        framesSinceRebuild++;
+        boolean moved = playerChunkX != builtChunkX || playerChunkZ != builtChunkZ;
+        boolean newData = lodTerrain.getVersion() != builtVersion && framesSinceRebuild >= REBUILD_INTERVAL_FRAMES;
+        if ((!moved && !newData) || buildInFlight) {
+            return;
+        }
+        if (moved) {
+            lodTerrain.retarget(playerChunkX, playerChunkZ, loadPolicy.getVisibleDistance(), loadPolicy.getLodDistance());
+        }
+
+        builtChunkX = playerChunkX;
+        builtChunkZ = playerChunkZ;
+        builtVersion = lodTerrain.getVersion();
+        framesSinceRebuild = 0;
+        buildInFlight = true;
+        meshBuilder.execute(() -> builtMesh.set(new BuiltMesh(buildVertices(playerChunkX, playerChunkZ))));
+    }
+
+    /**
+     * Runs on the mesh builder thread.
+     *
+     * @return number of floats written
+     */
+    private int buildVertices(int playerChunkX, int playerChunkZ) {
+        long buildStart = System.nanoTime();
+        int offset = 0;
+        for (int distance = loadPolicy.getLodDistance(); distance > loadPolicy.getVisibleDistance(); distance--) {
+            for (int dx = -distance; dx <= distance; dx++) {
+                for (int dz = -distance; dz <= distance; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != distance) {
+                        continue;
+                    }
+                    LodChunk chunk = lodTerrain.getOrRequest(playerChunkX + dx, playerChunkZ + dz);
+                    if (chunk != null) {
+                        offset = appendChunk(chunk, offset);
+                    }
+                }
+            }
+        }
+        OpenCraftMetrics.LOD_MESH_BUILD.recordSince(buildStart);
+        return offset;
+    }
+
+    private int appendChunk(LodChunk chunk, int offset) {
+        float originX = chunk.getChunkX() * Chunk.CHUNK_SIZE;
+        float originZ = chunk.getChunkZ() * Chunk.CHUNK_SIZE;
+
+        for (int cellX = 0; cellX < LodChunk.CELLS; cellX++) {
+            for (int cellZ = 0; cellZ < LodChunk.CELLS; cellZ++) {
+                float x0 = originX + cellX * LodChunk.CELL_SIZE;
+                float z0 = originZ + cellZ * LodChunk.CELL_SIZE;
+                float x1 = x0 + LodChunk.CELL_SIZE;
+                float z1 = z0 + LodChunk.CELL_SIZE;
+                float y00 = chunk.getCornerHeight(cellX, cellZ) + 1f;
+                float y10 = chunk.getCornerHeight(cellX + 1, cellZ) + 1f;
+                float y01 = chunk.getCornerHeight(cellX, cellZ + 1) + 1f;
+                float y11 = chunk.getCornerHeight(cellX + 1, cellZ + 1) + 1f;
+
+                // Cheap directional shading from the cell slope.
+                float slope = Math.abs(y10 - y00) + Math.abs(y01 - y00);
+                float light = MathUtils.clamp(1f - slope * 0.06f, 0.55f, 1f);
+                float packed = shade(chunk.getCellBlock(cellX, cellZ), light);
+
+                offset = putVertex(offset, x0, y00, z0, packed);
+                offset = putVertex(offset, x0, y01, z1, packed);
+                offset = putVertex(offset, x1, y10, z0, packed);
+                offset = putVertex(offset, x1, y10, z0, packed);
+                offset = putVertex(offset, x0, y01, z1, packed);
+                offset = putVertex(offset, x1, y11, z1, packed);
+            }
+        }
+        return offset;
+    }
+
+    private int putVertex(int offset, float x, float y, float z, float packedColor) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = z;
+        vertices[offset + 3] = packedColor;
+        return offset + FLOATS_PER_VERTEX;
+    }
+
+    private float shade(int blockType, float light) {
+        switch (blockType) {
+            case BlockTypes.GRASS -> color.set(0.36f, 0.6f, 0.25f, 1f);
+            case BlockTypes.DIRT -> color.set(0.47f, 0.33f, 0.22f, 1f);
+            case BlockTypes.WATER -> color.set(0.2f, 0.35f, 0.75f, 1f);
+            case BlockTypes.ORIGIN_STONE -> color.set(0.5f, 0.5f, 0.52f, 1f);
+            default -> color.set(0.45f, 0.45f, 0.45f, 1f);
+        }
+        color.mul(light, light, light, 1f);
+        return color.toFloatBits();
+    }
+
+    public void dispose() {
+        meshBuilder.shutdownNow();
+        mesh.dispose();
+        shader.dispose();
+    }
+
+    private record BuiltMesh(int floatCount) {
+    }
+}
@@ -1,11 +1,18 @@
 package kr.co.opencraft.screen;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
 import kr.co.opencraft.engine.OpenCraftGame;
 import kr.co.opencraft.input.InputHandler;
+import kr.co.opencraft.metrics.MetricsReporter;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.render.DistantTerrainRenderer;
 import kr.co.opencraft.ui.Hotbar;
 import kr.co.opencraft.ui.HotbarRenderer;
+import kr.co.opencraft.ui.PerformanceOverlay;
 import kr.co.voxelite.engine.VoxeliteEngine;
 import kr.co.voxelient.engine.VoxelientEngine;
 import kr.co.opencraft.entity.OpenCraftPlayer;
@@ -14,21 +21,50 @@ import kr.co.opencraft.world.BlockRenderLayerProvider;
 import kr.co.opencraft.world.BlockTextureProvider;
 import kr.co.opencraft.world.BlockTypes;
 import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.SinglePlayerWorld;
+import kr.co.opencraft.world.pregen.PregenerationJob;
+import kr.co.opencraft.world.pregen.PregenerationThrottle;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.opencraft.world.section.SectionTracker;
+import kr.co.voxelite.world.Chunk;
 import kr.co.voxelite.util.PerformanceLogger;
+import java.util.List;
 
 public class GameScreen implements Screen {
+    private static final long SLOW_FRAME_NANOS = PerformanceLogger.SLOW_FRAME_MS * 1_000_000L;
+
     private final OpenCraftGame game;
     private final VoxeliteEngine coreEngine;
+    private final SinglePlayerWorld world;
+    private final SectionTracker sectionTracker;
+    private final long loadStartNanos;
+    private final Vector3 heldPosition = new Vector3();
+    private final MetricsReporter metricsReporter = new MetricsReporter(PerformanceLogger.ENABLED);
+    private final PerformanceOverlay performanceOverlay = new PerformanceOverlay(this::appendOverlayLines);
+    private final PregenerationThrottle pregenerationThrottle = new PregenerationThrottle();
     private OpenCraftPlayer player;
     private VoxelientEngine clientEngine;
     private InputHandler inputHandler;
     private OpenCraftCameraController cameraController;
     private HotbarRenderer hotbarRenderer;
+    private DistantTerrainRenderer distantTerrainRenderer;
+    private boolean groundReady;
+    private boolean firstFrameLogged;
+
+    public GameScreen(OpenCraftGame game, VoxeliteEngine engine, OpenCraftPlayer player, SinglePlayerWorld world) {
+        this(game, engine, player, world, System.nanoTime());
+    }
 
-    public GameScreen(OpenCraftGame game, VoxeliteEngine engine, OpenCraftPlayer player) {
+    /**
+     * @param loadStartNanos 로딩 시작 시각, 게임 진입까지 걸린 시간 측정용
+     */
+    public GameScreen(OpenCraftGame game, VoxeliteEngine engine, OpenCraftPlayer player, SinglePlayerWorld world, long loadStartNanos) {
         this.game = game;
         this.coreEngine = engine;
         this.player = player;
+        this.world = world;
+        this.sectionTracker = world.getSectionTracker();
+        this.loadStartNanos = loadStartNanos;
     }
 
     @Override
@@ -56,9 +92,11 @@ public class GameScreen implements Screen {
         clientEngine.initialize(width, height);
 
         Hotbar hotbar = new Hotbar(OpenCraftBlockRegistry.blocks(), BlockTypes.ORIGIN_STONE);
-        inputHandler = new InputHandler(clientEngine, player, hotbar);
+        inputHandler = new InputHandler(clientEngine, player, hotbar, sectionTracker);
         hotbarRenderer = new HotbarRenderer(hotbar, "texture/block-trees.png");
+        distantTerrainRenderer = new DistantTerrainRenderer(world.getLodTerrain(), world.getLoadPolicy());
         Gdx.input.setInputProcessor(inputHandler);
+        heldPosition.set(player.getPosition());
         
         cameraController = new OpenCraftCameraController(
             clientEngine.getCamera(),
@@ -75,34 +113,103 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        long frameStart = PerformanceLogger.now();
+        long frameStart = System.nanoTime();
         
         clientEngine.update(delta);
-        long afterUpdate = PerformanceLogger.now();
+        holdUntilGroundLoaded();
+        world.getStreamer().update(
+            Math.floorDiv(MathUtils.floor(player.getPosition().x), Chunk.CHUNK_SIZE),
+            Math.floorDiv(MathUtils.floor(player.getPosition().z), Chunk.CHUNK_SIZE)
+        );
+        long afterUpdate = System.nanoTime();
         
         inputHandler.handleInput(delta);  // Pass delta for timing
-        long afterInput = PerformanceLogger.now();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            performanceOverlay.toggle();
+        }
+        long afterInput = System.nanoTime();
         
         clientEngine.render();
+        distantTerrainRenderer.render(clientEngine.getCamera());
         hotbarRenderer.render(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        long afterRender = PerformanceLogger.now();
+        performanceOverlay.render(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        long afterRender = System.nanoTime();
+
+        long frameNanos = afterRender - frameStart;
+        performanceOverlay.recordFrame(frameNanos);
+        OpenCraftMetrics.FRAME_TOTAL.record(frameNanos);
+        OpenCraftMetrics.FRAME_UPDATE.record(afterUpdate - frameStart);
+        OpenCraftMetrics.FRAME_INPUT.record(afterInput - afterUpdate);
+        OpenCraftMetrics.FRAME_RENDER.record(afterRender - afterInput);
+        boolean slow = frameNanos >= SLOW_FRAME_NANOS;
+        if (slow) {
+            OpenCraftMetrics.SLOW_FRAMES.increment();
+        }
+        // 최근 프레임 중 느린 프레임이 몰리면 백그라운드 사전 생성을 잠시 멈춤
+        PregenerationJob pregeneration = world.getPregeneration();
+        if (pregeneration != null) {
+            pregeneration.setThrottled(pregenerationThrottle.recordFrame(slow));
+        }
         
-        int frame = PerformanceLogger.tickFrame();
-        if (PerformanceLogger.ENABLED) {
-            long totalMs = afterRender - frameStart;
-            long updateMs = afterUpdate - frameStart;
-            long inputMs = afterInput - afterUpdate;
-            long renderMs = afterRender - afterInput;
-            int fps = Gdx.graphics.getFramesPerSecond();
-            boolean slow = totalMs >= PerformanceLogger.SLOW_FRAME_MS;
-            boolean interval = (frame % PerformanceLogger.LOG_INTERVAL) == 0;
-            if (slow || interval) {
-                Runtime rt = Runtime.getRuntime();
-                long usedMB = (rt.totalMemory() - rt.freeMemory()) / (1024 * 1024);
-                System.out.printf("[PERF][Frame] total=%dms update=%dms input=%dms render=%dms delta=%.3f fps=%d mem=%dMB%s%n",
-                    totalMs, updateMs, inputMs, renderMs, delta, fps, usedMB, slow ? " [SLOW]" : "");
-            }
+        if (!firstFrameLogged) {
+            firstFrameLogged = true;
+            System.out.printf("[GameScreen] First in-world frame %dms after loading started%n", elapsedSinceLoadMs());
+        }
+        metricsReporter.tick(afterRender);
+    }
+
+    /**
+     * 스트리밍 시작 직후에는 발밑 청크가 아직 적용되지 않았을 수 있으므로, 그 청크가 들어올 때까지 플레이어를 고정
+     *
+     * 싱글 플레이의 모든 청크는 ChunkStreamer를 거쳐 추적되므로 발밑 청크도 언젠가 반드시 추적됨.
+     * 추적된 기둥이 비어 있으면 설 곳이 없으므로 바로 고정을 풂.
+     */
+    private void holdUntilGroundLoaded() {
+        if (groundReady) {
+            return;
+        }
+
+        int x = MathUtils.floor(heldPosition.x);
+        int z = MathUtils.floor(heldPosition.z);
+        if (!sectionTracker.isTracked(Math.floorDiv(x, Chunk.CHUNK_SIZE), Math.floorDiv(z, Chunk.CHUNK_SIZE))) {
+            player.setPosition(heldPosition);
+            player.getVelocity().setZero();
+            return;
+        }
+
+        int surfaceY = sectionTracker.getSurfaceY(x, z);
+        if (surfaceY == ChunkHeightmap.NONE) {
+            groundReady = true;
+            System.err.println("[GameScreen] No ground under spawn, releasing player");
+            return;
+        }
+
+        groundReady = true;
+        if (player.getPosition().y < surfaceY + 1) {
+            player.setPosition(new Vector3(player.getPosition().x, surfaceY + 1, player.getPosition().z));
+        }
+        System.out.printf("[GameScreen] Ground under spawn ready %dms after loading started%n", elapsedSinceLoadMs());
+    }
+
+    private void appendOverlayLines(List<String> lines) {
+        lines.add(String.format("FPS: %d", Gdx.graphics.getFramesPerSecond()));
+        lines.add(String.format("Chunks: %d / %d loaded, %d cold, cache hit %.0f%%",
+            sectionTracker.getTrackedChunkCount(), world.getLoadPolicy().getMaxLoadedChunks(),
+            world.getColdChunks().size(), world.getGeneratedCache().getHitRate() * 100f));
+
+        PregenerationJob pregeneration = world.getPregeneration();
+        int pregenQueued = 0;
+        if (pregeneration != null) {
+            PregenerationJob.Progress pregen = pregeneration.getProgress();
+            pregenQueued = pregen.total() - pregen.completed();
         }
+        lines.add(String.format("Queues: stream %d, pregen %d%s, lod %d",
+            world.getStreamer().getPendingCount(), pregenQueued,
+            pregenerationThrottle.isThrottled() ? " (paused)" : "", world.getLodTerrain().getPendingCount()));
+    }
+
+    private long elapsedSinceLoadMs() {
+        return (System.nanoTime() - loadStartNanos) / 1_000_000;
     }
 
     @Override
@@ -131,11 +238,17 @@ public class GameScreen implements Screen {
         if (hotbarRenderer != null) {
             hotbarRenderer.dispose();
         }
+        performanceOverlay.dispose();
+        if (distantTerrainRenderer != null) {
+            distantTerrainRenderer.dispose();
+        }
         if (clientEngine != null) {
             clientEngine.dispose();
         }
         if (coreEngine != null) {
             coreEngine.dispose();
         }
+        world.close();
+        metricsReporter.report();
     }
 }
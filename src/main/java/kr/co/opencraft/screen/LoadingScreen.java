@@ -12,9 +12,17 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import kr.co.opencraft.engine.OpenCraftGame;
 import kr.co.opencraft.world.BlockTypes;
 import kr.co.opencraft.world.*;
+import kr.co.opencraft.world.cache.GeneratedChunkCache;
+import kr.co.opencraft.world.cache.OffHeapChunkArena;
+import kr.co.opencraft.world.lod.LodTerrainCache;
+import kr.co.opencraft.world.pregen.PregenerationJob;
+import kr.co.opencraft.world.section.SectionTracker;
+import kr.co.opencraft.world.store.RegionChunkStore;
 import kr.co.voxelite.engine.VoxeliteEngine;
 import kr.co.opencraft.entity.OpenCraftPlayer;
 import com.badlogic.gdx.math.Vector3;
+import java.nio.file.Path;
+import java.util.UUID;
 
 public class LoadingScreen implements Screen {
 
@@ -25,13 +33,26 @@ public class LoadingScreen implements Screen {
     
     private static final float BAR_WIDTH = 400f;
     private static final float BAR_HEIGHT = 30f;
-    private static final float MIN_LOADING_TIME = 1f; // 최소 로딩 시간 1초
+    private static final int LOD_CACHE_CAPACITY = 12_000; // LOD 링 전체(97x97)를 담을 수 있는 크기
+    private static final long GENERATED_CACHE_BYTES = 48L << 20; // 압축된 생성 결과, 힙 바이트 배열로 보관
+    private static final int COLD_SLAB_BYTES = 1 << 20;  // 시야 밖 청크 보관용 off-heap 슬랩 크기
+    private static final int COLD_SLAB_COUNT = 16;
+    private static final int REQUIRED_CHUNK_RADIUS = 1; // 스폰 청크 + 바로 인접한 링만 기다림, 나머지는 게임 중 스트리밍
+    // 사전 생성은 -Dopencraft.pregen=true 일 때만 켬. 게임과 코어를 나눠 쓰므로 스레드는 최대 2개
+    private static final boolean PREGEN_ENABLED = Boolean.parseBoolean(System.getProperty("opencraft.pregen", "false"));
+    private static final int PREGEN_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 4));
+    private static final int STREAM_THREADS = Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() / 2));
 
     private volatile float progress = 0f;
+    private volatile int availableChunks;
+    private volatile int requiredChunks;
     private volatile boolean loadingComplete = false;
+    private volatile PregenerationJob pregeneration;
+    private Label loadingLabel;
     private VoxeliteEngine engine;
     private OpenCraftPlayer player;
-    private float elapsedTime = 0f;
+    private SinglePlayerWorld world;
+    private long loadStartNanos;
 
     public LoadingScreen(OpenCraftGame game) {
         this.game = game;
@@ -40,12 +61,13 @@ public class LoadingScreen implements Screen {
     @Override
     public void show() {
         System.out.println("LoadingScreen show");
+        loadStartNanos = System.nanoTime();
 
         stage = new Stage(new ScreenViewport());
         skin = new Skin(Gdx.files.classpath("texture/uiskin.json"));
         shapeRenderer = new ShapeRenderer();
 
-        Label loadingLabel = new Label("Building terrain...", skin);
+        loadingLabel = new Label("Preparing world...", skin);
         loadingLabel.setFontScale(1.5f);
 
         Table table = new Table();
@@ -58,75 +80,108 @@ public class LoadingScreen implements Screen {
         // 백그라운드 스레드에서 월드 생성
         new Thread(() -> {
             try {
-                long startTime = System.currentTimeMillis();
-                
-                progress = 0.2f;
-                
                 // === 읽기 쉬운 애플리케이션 코드 ===
                 
                 // 1. 월드 설정
                 String worldPath = "saves/world1";
                 long seed = WorldSeedStore.loadOrCreateSeed(worldPath);
                 
-                // 2. 지형 생성 정책 (애플리케이션이 결정)
-                TerrainGeneratorAdapter generatorAdapter = new TerrainGeneratorAdapter(seed);
-                
-                // 3. 청크 로딩 정책 (애플리케이션이 결정)
+                // 2. 청크 로딩 정책 (애플리케이션이 결정)
                 ChunkLoadPolicy loadPolicy = new ChunkLoadPolicy(
                     16, // full-detail visible radius, like Minecraft renderDistanceChunks
                     17, // keep-loaded radius
-                    18  // pregenerate radius
+                    18, // pregenerate radius
+                    48  // distant LOD terrain radius
+                );
+
+                // 3. 지형 생성 정책 (애플리케이션이 결정) + 섹션 단위 메시 상태 추적
+                SectionTracker sectionTracker = new SectionTracker(loadPolicy);
+                LodTerrainCache lodTerrain = new LodTerrainCache(seed, LOD_CACHE_CAPACITY);
+                GeneratedChunkCache generatedCache = new GeneratedChunkCache(GENERATED_CACHE_BYTES);
+                OffHeapChunkArena coldChunks = new OffHeapChunkArena(COLD_SLAB_BYTES, COLD_SLAB_COUNT);
+
+                // 스폰 위치 탐색: 바이옴/저해상도 밀도 격자만으로 건조하고 평평한 청크를 고르고, 그 청크 하나만 생성해 높이를 읽음
+                SpawnLocator.SpawnPoint spawn = new SpawnLocator(seed).locate();
+                System.out.println("[LoadingScreen] Spawn chunk: " + spawn.chunkX() + "," + spawn.chunkZ()
+                    + (spawn.suitable() ? "" : " (fallback)"));
+
+                // 월드 저장소: 편집된 청크와 사전 생성된 청크가 함께 들어가는 리전 파일, 스트리머가 읽음
+                RegionChunkStore chunkStore = RegionChunkStore.open(worldPath);
+                if (PREGEN_ENABLED) {
+                    // 사전 생성: 스폰 주변부터 나선형으로 pregenerateDistance 전체를 같은 저장소에 기록
+                    pregeneration = new PregenerationJob(
+                        seed, chunkStore, spawn.chunkX(), spawn.chunkZ(), loadPolicy.getPregenerateDistance(), PREGEN_THREADS
+                    ).start();
+                }
+                world = new SinglePlayerWorld(
+                    seed, loadPolicy, sectionTracker, lodTerrain,
+                    generatedCache, coldChunks, chunkStore, pregeneration
                 );
-                ChunkLoadPolicyAdapter policyAdapter = new ChunkLoadPolicyAdapter(loadPolicy);
-                
                 // 4. 게임별 플레이어 생성 (fly mode 지원)
-                // 임시 위치로 생성 (엔진이 지형 높이 계산 후 자동 조정)
-                player = new OpenCraftPlayer(new Vector3(0f, 100f, 0f));
+                // 스폰 청크 높이맵에서 읽은 지면 높이에 생성
+                player = new OpenCraftPlayer(new Vector3(spawn.x(), spawn.y(), spawn.z()));
                 
                 // 5. 엔진 생성 (정책 주입 + 커스텀 플레이어)
+                // 청크는 엔진이 직접 로드하지 않고 ChunkStreamer가 넣어줌. 엔진 저장 폴더는 쓰지 않으므로 임시 경로를 줌
                 engine = VoxeliteEngine.builder(player)
-                    .playerStart(0f, 100f, 0f)  // 엔진이 지형 높이 계산 후 조정
-                    .autoCreateGround(true)
+                    .playerStart(spawn.x(), spawn.y(), spawn.z())
+                    .autoCreateGround(false)
                     .worldSeed(seed)
-                    .worldSavePath(worldPath)
-                    .chunkGenerator(generatorAdapter)
-                    .chunkLoadPolicy(policyAdapter)
+                    .worldSavePath(Path.of(
+                        System.getProperty("java.io.tmpdir"),
+                        "opencraft-singleplayer-" + UUID.randomUUID()
+                    ).toString())
+                    .chunkGenerator((chunk, blockType) -> {
+                    })
+                    .chunkLoadPolicy(new ManualChunkLoadPolicy(loadPolicy.getMaxLoadedChunks()))
                     .blockPropertiesProvider(new OpenCraftBlockPropertiesProvider())
-                    .initialChunkRadius(8)    // startup pregen stays modest; runtime loading fills the 16-chunk view
-                    .chunkPreloadRadius(6)    // nearby chunks first, Minecraft-style async expansion after spawn
+                    .initialChunkRadius(0)
+                    .chunkPreloadRadius(0)
                     .defaultGroundBlockType(BlockTypes.GRASS)  // 잔디 블록
                     .build();
 
                 engine.initialize();
+
+                // 6. 스폰 주변부터 청크 스트리밍 시작, 필요한 반경만 준비되면 게임 화면으로 넘어감
+                ChunkStreamer streamer = world.startStreaming(engine, STREAM_THREADS);
+                streamer.request(spawn.chunkX(), spawn.chunkZ());
+                waitForRequiredChunks(streamer, spawn);
                 
                 System.out.println("[LoadingScreen] World created with seed: " + seed);
                 
-                progress = 0.9f;
-                
-                // 최소 로딩 시간 보장
-                long elapsed = System.currentTimeMillis() - startTime;
-                long remaining = (long)(MIN_LOADING_TIME * 1000) - elapsed;
-                if (remaining > 0) {
-                    Thread.sleep(remaining);
-                }
-                
-                progress = 1f;
                 loadingComplete = true;
                 
-                System.out.println("[LoadingScreen] World generation complete");
+                System.out.printf("[LoadingScreen] Spawn area ready in %dms%n",
+                    (System.nanoTime() - loadStartNanos) / 1_000_000);
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }).start();
     }
 
+    /**
+     * 스폰 청크와 인접 링이 모두 로드될 때까지 기다리면서 준비된 청크 수로 진행률을 갱신.
+     * 실제 적용은 GameScreen 첫 프레임에서 이루어짐
+     */
+    private void waitForRequiredChunks(ChunkStreamer streamer, SpawnLocator.SpawnPoint spawn) throws InterruptedException {
+        int required = PregenerationJob.chunkCount(REQUIRED_CHUNK_RADIUS);
+        requiredChunks = required;
+        while (true) {
+            int available = streamer.countAvailable(spawn.chunkX(), spawn.chunkZ(), REQUIRED_CHUNK_RADIUS);
+            availableChunks = available;
+            progress = (float) available / required;
+            if (available >= required) {
+                return;
+            }
+            Thread.sleep(5L);
+        }
+    }
+
     @Override
     public void render(float delta) {
-        elapsedTime += delta;
-        
-        // 로딩 완료 및 최소 시간 경과 시 GameScreen으로 전환
-        if (loadingComplete && elapsedTime >= MIN_LOADING_TIME) {
-            game.setScreen(new GameScreen(game, engine, player));
+        // 스폰 주변만 준비되면 바로 GameScreen으로 전환 (나머지 청크는 우선순위대로 스트리밍)
+        if (loadingComplete) {
+            game.setScreen(new GameScreen(game, engine, player, world, loadStartNanos));
             return;
         }
 
@@ -134,7 +189,18 @@ public class LoadingScreen implements Screen {
         Gdx.gl.glClearColor(0.05f, 0.07f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // 텍스트 렌더링
+        // 텍스트 렌더링: 스폰 주변 청크 준비 현황, 사전 생성이 켜져 있으면 그 진행도 함께 표시
+        int required = requiredChunks;
+        if (required > 0) {
+            String text = String.format("Loading spawn area... %d/%d chunks", availableChunks, required);
+            PregenerationJob job = pregeneration;
+            if (job != null) {
+                PregenerationJob.Progress jobProgress = job.getProgress();
+                text += String.format("%npregenerating %d/%d chunks (%.0f chunks/s)",
+                    jobProgress.completed(), jobProgress.total(), jobProgress.chunksPerSecond());
+            }
+            loadingLabel.setText(text);
+        }
         stage.act(delta);
         stage.draw();
 
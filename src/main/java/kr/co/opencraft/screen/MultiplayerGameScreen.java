@@ -1,22 +1,39 @@
 package kr.co.opencraft.screen;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import kr.co.opencraft.camera.MultiplayerCameraController;
 import kr.co.opencraft.engine.OpenCraftGame;
+import kr.co.opencraft.entity.MovementSimulator;
 import kr.co.opencraft.entity.OpenCraftPlayer;
 import kr.co.opencraft.input.MultiplayerInputHandler;
+import kr.co.opencraft.metrics.MetricsReporter;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.metrics.jfr.ChunkUnloadEvent;
+import kr.co.opencraft.metrics.jfr.PacketApplyEvent;
+import kr.co.opencraft.metrics.jfr.PacketBatchEvent;
+import kr.co.opencraft.network.MovementPredictor;
+import kr.co.opencraft.network.MovementState;
 import kr.co.opencraft.network.MultiplayerClient;
+import kr.co.opencraft.network.NetworkStats;
+import kr.co.opencraft.network.PendingBlockEdits;
 import kr.co.opencraft.render.RemotePlayerRenderer;
 import kr.co.opencraft.render.RemotePlayerState;
+import kr.co.opencraft.ui.PerformanceOverlay;
 import kr.co.opencraft.world.BlockRenderLayerProvider;
 import kr.co.opencraft.world.BlockTextureProvider;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.SectionTracker;
 import kr.co.voxelite.engine.VoxeliteEngine;
+import kr.co.voxelite.world.Chunk;
 import kr.co.voxelite.world.ChunkCoord;
+import kr.co.voxelite.util.PerformanceLogger;
 import kr.co.voxelient.engine.VoxelientEngine;
 import kr.co.voxeliver.network.protocol.impl.BlockUpdatePacket;
 import kr.co.voxeliver.network.protocol.Packet;
@@ -29,6 +46,15 @@ import kr.co.voxeliver.network.protocol.impl.PlayerStatePacket;
 
 public class MultiplayerGameScreen implements Screen {
     private static final float MOVE_SEND_INTERVAL = 1f / 20f;
+    // 가만히 있어도 이 간격으로 보내서 서버 확인이 이어지게 함
+    private static final float IDLE_MOVE_SEND_INTERVAL = 1f;
+    // UDP MOVE 하나에 싣는 미확인 커맨드 수. 20Hz 전송, 60Hz 틱이면 MOVE 네 개에 걸쳐 같은 커맨드가 다시 실림
+    private static final int MAX_COMMANDS_PER_MOVE = 12;
+    private static final float PLAYER_SPEED = 5f;
+    private static final long SLOW_FRAME_NANOS = PerformanceLogger.SLOW_FRAME_MS * 1_000_000L;
+    // 응답 없는 블록 편집을 거절로 보는 시간: RTT의 4배, 최소 750ms
+    private static final long MIN_BLOCK_EDIT_TIMEOUT_NANOS = 750_000_000L;
+    private static final int BLOCK_EDIT_TIMEOUT_RTTS = 4;
 
     private final OpenCraftGame game;
     private final VoxeliteEngine coreEngine;
@@ -37,14 +63,17 @@ public class MultiplayerGameScreen implements Screen {
     private final int localPlayerId;
     private final Map<Integer, RemotePlayerState> remotePlayers = new HashMap<>();
     private final Vector3 lastSentPosition = new Vector3(Float.NaN, Float.NaN, Float.NaN);
-    private final LinkedHashMap<Integer, Vector3> pendingMoveDeltas = new LinkedHashMap<>();
-    private final Vector3 lastMoveSamplePosition = new Vector3(Float.NaN, Float.NaN, Float.NaN);
+    private final PendingBlockEdits pendingBlockEdits = new PendingBlockEdits();
+    private final SectionTracker sectionTracker = new SectionTracker();
+    private final MetricsReporter metricsReporter = new MetricsReporter(PerformanceLogger.ENABLED);
+    private final PerformanceOverlay performanceOverlay = new PerformanceOverlay(this::appendOverlayLines);
 
     private VoxelientEngine clientEngine;
     private MultiplayerInputHandler inputHandler;
     private RemotePlayerRenderer remotePlayerRenderer;
+    private MovementPredictor movementPredictor;
     private float moveSendAccumulator;
-    private int nextMoveSequence = 1;
+    private int lastSentSequence;
 
     public MultiplayerGameScreen(OpenCraftGame game, VoxeliteEngine coreEngine, OpenCraftPlayer player, MultiplayerClient multiplayerClient, int localPlayerId) {
         this.game = game;
@@ -52,6 +81,13 @@ public class MultiplayerGameScreen implements Screen {
         this.player = player;
         this.multiplayerClient = multiplayerClient;
         this.localPlayerId = localPlayerId;
+        multiplayerClient.getDispatcher()
+            .bind(ChunkDataPacket.class, this::applyChunkData)
+            .bind(ChunkUnloadPacket.class, this::applyChunkUnload)
+            .bind(BlockUpdatePacket.class, this::applyBlockUpdate)
+            .bind(PlayerJoinedPacket.class, this::applyPlayerJoined)
+            .bind(PlayerStatePacket.class, this::applyPlayerState)
+            .bind(PlayerLeftPacket.class, packet -> remotePlayers.remove(packet.getPlayerId()));
     }
 
     @Override
@@ -64,15 +100,23 @@ public class MultiplayerGameScreen implements Screen {
             .textureAtlasPath("texture/block.png")
             .textureProvider(new BlockTextureProvider())
             .renderLayerProvider(new BlockRenderLayerProvider())
-            .playerSpeed(5f)
+            .playerSpeed(PLAYER_SPEED)
             .cameraPitch(-20f)
             .cameraFar(144f)
             .updateCoreEngine(false)
             .build();
         clientEngine.initialize(width, height);
-        inputHandler = new MultiplayerInputHandler(clientEngine, player, multiplayerClient);
+        inputHandler = new MultiplayerInputHandler(clientEngine, player, multiplayerClient, this::predictBlockEdit);
         remotePlayerRenderer = new RemotePlayerRenderer();
-        lastMoveSamplePosition.set(player.getPosition());
+
+        movementPredictor = new MovementPredictor(MovementSimulator.of(coreEngine.getPhysics()), PLAYER_SPEED);
+        clientEngine.setCameraController(new MultiplayerCameraController(
+            clientEngine.getCamera(),
+            player,
+            coreEngine.getPhysics(),
+            clientEngine.getInput(),
+            movementPredictor
+        ));
     }
 
     @Override
@@ -82,108 +126,173 @@ public class MultiplayerGameScreen implements Screen {
             return;
         }
 
+        long frameStart = System.nanoTime();
         clientEngine.update(delta);
         inputHandler.handleInput();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            performanceOverlay.toggle();
+        }
         sendLocalMovement(delta);
         multiplayerClient.update(delta);
         applyIncomingPackets();
+        multiplayerClient.pollMovementStates(this::applyMovementState);
+        expirePendingBlockEdits();
         updateRemotePlayers(delta);
+        long afterUpdate = System.nanoTime();
         clientEngine.render();
         remotePlayerRenderer.render(clientEngine.getCamera(), remotePlayers.values());
+        performanceOverlay.render(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        long afterRender = System.nanoTime();
+
+        performanceOverlay.recordFrame(afterRender - frameStart);
+
+        OpenCraftMetrics.FRAME_TOTAL.record(afterRender - frameStart);
+        OpenCraftMetrics.FRAME_UPDATE.record(afterUpdate - frameStart);
+        OpenCraftMetrics.FRAME_RENDER.record(afterRender - afterUpdate);
+        if (afterRender - frameStart >= SLOW_FRAME_NANOS) {
+            OpenCraftMetrics.SLOW_FRAMES.increment();
+        }
+        metricsReporter.tick(afterRender);
     }
 
+    /**
+     * 이동은 카메라 컨트롤러가 고정 틱 커맨드로 예측함. UDP 채널이 있으면 확인되지 않은 입력 커맨드를
+     * 그대로 보내고, 없을 때만 최신 커맨드 시퀀스와 그 결과 위치를 TCP MovePacket으로 보냄.
+     * 서버의 확인 시퀀스는 이 시퀀스까지의 커맨드를 모두 덮음
+     */
     private void sendLocalMovement(float delta) {
         moveSendAccumulator += delta;
-        Vector3 position = new Vector3(player.getPosition());
+        int sequence = movementPredictor.getLatestSequence();
+        if (sequence == lastSentSequence || moveSendAccumulator < MOVE_SEND_INTERVAL) {
+            return;
+        }
+
+        Vector3 position = player.getPosition();
         boolean moved = !position.epsilonEquals(lastSentPosition, 0.001f);
-        if (!moved && moveSendAccumulator < MOVE_SEND_INTERVAL) {
+        if (!moved && moveSendAccumulator < IDLE_MOVE_SEND_INTERVAL) {
             return;
         }
 
-        int sequence = nextMoveSequence++;
-        Vector3 deltaSinceLastSent = new Vector3(position).sub(lastMoveSamplePosition);
-        pendingMoveDeltas.put(sequence, deltaSinceLastSent);
-        multiplayerClient.send(new MovePacket(sequence, position.x, position.y, position.z));
-        lastMoveSamplePosition.set(position);
+        if (multiplayerClient.isMovementChannelActive()) {
+            multiplayerClient.sendCommands(movementPredictor.getUnacknowledgedCommands(MAX_COMMANDS_PER_MOVE));
+        } else {
+            multiplayerClient.send(new MovePacket(sequence, position.x, position.y, position.z));
+        }
         lastSentPosition.set(position);
+        lastSentSequence = sequence;
         moveSendAccumulator = 0f;
     }
 
     private void applyIncomingPackets() {
+        PacketBatchEvent batchEvent = new PacketBatchEvent();
+        batchEvent.begin();
+        long batchStart = System.nanoTime();
+        int applied = 0;
+        int chunkPackets = 0;
         Packet packet;
         while ((packet = multiplayerClient.pollPacket()) != null) {
-            if (packet instanceof ChunkDataPacket chunkDataPacket) {
-                coreEngine.getWorld().applyChunk(chunkDataPacket.toChunk());
-                coreEngine.getPhysics().invalidateCache();
-                continue;
-            }
-
-            if (packet instanceof ChunkUnloadPacket chunkUnloadPacket) {
-                ChunkCoord coord = chunkUnloadPacket.getChunkCoord();
-                coreEngine.getWorld().unloadChunk(coord);
-                coreEngine.getPhysics().invalidateCache();
-                continue;
-            }
-
-            if (packet instanceof BlockUpdatePacket blockUpdatePacket) {
-                applyBlockUpdate(blockUpdatePacket);
-                continue;
+            PacketApplyEvent packetEvent = new PacketApplyEvent();
+            packetEvent.begin();
+            long packetStart = System.nanoTime();
+            multiplayerClient.getDispatcher().dispatch(packet);
+            OpenCraftMetrics.PACKET_APPLY.recordSince(packetStart);
+            packetEvent.complete(packet.getClass());
+            applied++;
+            if (packet instanceof ChunkDataPacket) {
+                chunkPackets++;
             }
+        }
+        if (applied > 0) {
+            OpenCraftMetrics.PACKETS_APPLIED.add(applied);
+            OpenCraftMetrics.PACKET_APPLY_FRAME.recordSince(batchStart);
+        }
+        batchEvent.complete(applied, chunkPackets);
+    }
 
-            if (packet instanceof PlayerJoinedPacket playerJoinedPacket) {
-                if (playerJoinedPacket.getPlayerId() != localPlayerId) {
-                    RemotePlayerState remotePlayer = remotePlayers.computeIfAbsent(
-                        playerJoinedPacket.getPlayerId(),
-                        playerId -> new RemotePlayerState(
-                            playerId,
-                            playerJoinedPacket.getUsername(),
-                            playerJoinedPacket.getPosition()
-                        )
-                    );
-                    remotePlayer.setUsername(playerJoinedPacket.getUsername());
-                    remotePlayer.setTargetPosition(playerJoinedPacket.getPosition());
-                }
-                continue;
-            }
+    private void applyChunkData(ChunkDataPacket chunkDataPacket) {
+        Chunk chunk = chunkDataPacket.toChunk();
+        coreEngine.getWorld().applyChunk(chunk);
+        coreEngine.getPhysics().invalidateCache();
+        sectionTracker.track(chunk);
+    }
 
-            if (packet instanceof PlayerStatePacket playerStatePacket) {
-                applyPlayerState(playerStatePacket);
-                continue;
-            }
+    private void applyChunkUnload(ChunkUnloadPacket chunkUnloadPacket) {
+        ChunkCoord coord = chunkUnloadPacket.getChunkCoord();
+        coreEngine.getWorld().unloadChunk(coord);
+        coreEngine.getPhysics().invalidateCache();
+        sectionTracker.untrack(coord);
+        pendingBlockEdits.discardChunk(coord.x, coord.z);
+        ChunkUnloadEvent.emit(coord.x, coord.z, -1, ChunkUnloadEvent.REASON_SERVER);
+    }
 
-            if (packet instanceof PlayerLeftPacket playerLeftPacket) {
-                remotePlayers.remove(playerLeftPacket.getPlayerId());
-            }
+    private void applyPlayerJoined(PlayerJoinedPacket playerJoinedPacket) {
+        if (playerJoinedPacket.getPlayerId() == localPlayerId) {
+            return;
         }
+        RemotePlayerState remotePlayer = remotePlayers.computeIfAbsent(
+            playerJoinedPacket.getPlayerId(),
+            playerId -> new RemotePlayerState(
+                playerId,
+                playerJoinedPacket.getUsername(),
+                playerJoinedPacket.getPosition()
+            )
+        );
+        remotePlayer.setUsername(playerJoinedPacket.getUsername());
+        remotePlayer.setTargetPosition(playerJoinedPacket.getPosition());
     }
 
     private void applyPlayerState(PlayerStatePacket playerStatePacket) {
-        if (playerStatePacket.getPlayerId() != localPlayerId) {
-            RemotePlayerState remotePlayer = remotePlayers.computeIfAbsent(
-                playerStatePacket.getPlayerId(),
-                playerId -> new RemotePlayerState(playerId, "player-" + playerId, playerStatePacket.getPosition())
-            );
-            remotePlayer.setTargetPosition(playerStatePacket.getPosition());
+        // UDP 보조 채널이 살아 있으면 플레이어 상태는 그쪽으로 받음
+        if (multiplayerClient.isMovementChannelActive()) {
             return;
         }
+        applyPlayerPosition(
+            playerStatePacket.getPlayerId(),
+            playerStatePacket.getAcknowledgedMoveSequence(),
+            playerStatePacket.getPosition()
+        );
+    }
 
-        Iterator<Map.Entry<Integer, Vector3>> iterator = pendingMoveDeltas.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<Integer, Vector3> entry = iterator.next();
-            if (entry.getKey() <= playerStatePacket.getAcknowledgedMoveSequence()) {
-                iterator.remove();
-            }
+    private void applyMovementState(MovementState state) {
+        applyPlayerPosition(state.entityId(), state.sequence(), new Vector3(state.x(), state.y(), state.z()));
+    }
+
+    private void applyPlayerPosition(int playerId, int acknowledgedMoveSequence, Vector3 position) {
+        if (playerId != localPlayerId) {
+            RemotePlayerState remotePlayer = remotePlayers.computeIfAbsent(
+                playerId,
+                id -> new RemotePlayerState(id, "player-" + id, position)
+            );
+            remotePlayer.setTargetPosition(position);
+            return;
         }
 
-        Vector3 reconciledPosition = playerStatePacket.getPosition();
-        for (Vector3 delta : pendingMoveDeltas.values()) {
-            reconciledPosition.add(delta);
+        boolean corrected = movementPredictor.reconcile(player, acknowledgedMoveSequence, position);
+        if (corrected) {
+            clientEngine.getCamera().setPosition(player.getEyePosition());
+            clientEngine.getCamera().update();
         }
+    }
 
-        player.setPosition(reconciledPosition);
-        clientEngine.getCamera().setPosition(player.getEyePosition());
-        clientEngine.getCamera().update();
-        lastMoveSamplePosition.set(player.getPosition());
+    private void appendOverlayLines(List<String> lines) {
+        lines.add(String.format("FPS: %d  remote players: %d", Gdx.graphics.getFramesPerSecond(), remotePlayers.size()));
+        lines.add(String.format("Chunks: %d loaded", sectionTracker.getTrackedChunkCount()));
+        NetworkStats stats = multiplayerClient.getNetworkStats();
+        lines.add(String.format("Queues: inbound %d packets (oldest %.0fms, reads paused %d%s)",
+            stats.getInboundQueueDepth(), stats.getOldestInboundAgeMillis(System.nanoTime()),
+            stats.getReadPauseCount(), stats.isReadingPaused() ? " now" : ""));
+        lines.add(String.format("RTT: %.0fms (jitter %.0f, min %.0f, max %.0f), %d move ticks / %d block edits awaiting ack",
+            stats.getRttMillis(), stats.getJitterMillis(), stats.getMinRttMillis(), stats.getMaxRttMillis(),
+            movementPredictor.getPendingCount(), pendingBlockEdits.size()));
+        lines.add(String.format("Prediction: %d corrections (last replayed %d ticks)",
+            movementPredictor.getCorrectionCount(), movementPredictor.getLastReplayedTicks()));
+        lines.add(String.format("Traffic: in %.1f MB / %d packets, out %.1f MB / %d packets",
+            stats.getBytesIn() / (1024.0 * 1024.0), stats.getPacketsIn(),
+            stats.getBytesOut() / (1024.0 * 1024.0), stats.getPacketsOut()));
+        lines.add(String.format("UDP: %s, in %.1f KB / %d datagrams, out %.1f KB / %d datagrams",
+            multiplayerClient.isMovementChannelActive() ? "active" : "off",
+            stats.getDatagramBytesIn() / 1024.0, stats.getDatagramsIn(),
+            stats.getDatagramBytesOut() / 1024.0, stats.getDatagramsOut()));
     }
 
     private void updateRemotePlayers(float delta) {
@@ -193,12 +302,60 @@ public class MultiplayerGameScreen implements Screen {
     }
 
     private void applyBlockUpdate(BlockUpdatePacket blockUpdatePacket) {
-        if (blockUpdatePacket.isRemoval()) {
-            coreEngine.removeBlock(blockUpdatePacket.getPosition());
+        Vector3 position = blockUpdatePacket.getPosition();
+        int blockType = blockUpdatePacket.isRemoval() ? BlockTypes.AIR : blockUpdatePacket.getBlockType();
+        boolean changed = pendingBlockEdits.reconcile(
+            MathUtils.floor(position.x),
+            MathUtils.floor(position.y),
+            MathUtils.floor(position.z),
+            blockType
+        );
+        if (changed) {
+            setBlock(position, blockType);
+        }
+    }
+
+    /**
+     * 요청을 보내기 전에 로컬 월드에 먼저 적용하고 기록함. 서버 응답은 {@link #applyBlockUpdate}에서 맞춰봄
+     */
+    private void predictBlockEdit(Vector3 position, int blockType) {
+        int x = MathUtils.floor(position.x);
+        int y = MathUtils.floor(position.y);
+        int z = MathUtils.floor(position.z);
+        ChunkCoord coord = new ChunkCoord(Math.floorDiv(x, Chunk.CHUNK_SIZE), Math.floorDiv(z, Chunk.CHUNK_SIZE));
+        if (!sectionTracker.isTracked(coord)) {
+            return;
+        }
+        int previousType = sectionTracker.getBlockType(x, y, z);
+        if (previousType == blockType) {
             return;
         }
+        pendingBlockEdits.record(x, y, z, previousType, blockType, System.nanoTime());
+        setBlock(position, blockType);
+    }
 
-        coreEngine.addBlock(blockUpdatePacket.getPosition(), blockUpdatePacket.getBlockType());
+    /**
+     * 응답 없이 시간이 지난 편집을 되돌림. 되돌림은 일반 블록 편집과 같은 엔진 경로로 적용되며,
+     * 리메시는 엔진이 청크 단위로 처리함 (섹션 단위 리메시 진입점은 없음)
+     */
+    private void expirePendingBlockEdits() {
+        if (pendingBlockEdits.size() == 0) {
+            return;
+        }
+        double rttMillis = multiplayerClient.getNetworkStats().getRttMillis();
+        long timeoutNanos = Math.max(MIN_BLOCK_EDIT_TIMEOUT_NANOS, (long) (rttMillis * BLOCK_EDIT_TIMEOUT_RTTS * 1_000_000.0));
+        for (PendingBlockEdits.Rollback rollback : pendingBlockEdits.expire(System.nanoTime(), timeoutNanos)) {
+            setBlock(new Vector3(rollback.x(), rollback.y(), rollback.z()), rollback.blockType());
+        }
+    }
+
+    private void setBlock(Vector3 position, int blockType) {
+        if (blockType == BlockTypes.AIR) {
+            coreEngine.removeBlock(position);
+        } else {
+            coreEngine.addBlock(position, blockType);
+        }
+        sectionTracker.onBlockChanged(position);
     }
 
     @Override
@@ -225,6 +382,7 @@ public class MultiplayerGameScreen implements Screen {
         if (remotePlayerRenderer != null) {
             remotePlayerRenderer.dispose();
         }
+        performanceOverlay.dispose();
         if (clientEngine != null) {
             clientEngine.dispose();
         }
@@ -234,5 +392,6 @@ public class MultiplayerGameScreen implements Screen {
         if (coreEngine != null) {
             coreEngine.dispose();
         }
+        metricsReporter.report();
     }
 }
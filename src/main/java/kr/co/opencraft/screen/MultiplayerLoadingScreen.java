@@ -17,10 +17,10 @@ import java.util.UUID;
 import kr.co.opencraft.engine.OpenCraftGame;
 import kr.co.opencraft.entity.OpenCraftPlayer;
 import kr.co.opencraft.network.MultiplayerClient;
+import kr.co.opencraft.world.ManualChunkLoadPolicy;
 import kr.co.opencraft.world.OpenCraftBlockPropertiesProvider;
 import kr.co.voxelite.engine.VoxeliteEngine;
 import kr.co.voxelite.world.Chunk;
-import kr.co.voxelite.world.IChunkLoadPolicy;
 import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
 
 public class MultiplayerLoadingScreen implements Screen {
@@ -96,27 +96,7 @@ public class MultiplayerLoadingScreen implements Screen {
                 .autoCreateGround(false)
                 .chunkGenerator((chunk, blockType) -> {
                 })
-                .chunkLoadPolicy(new IChunkLoadPolicy() {
-                    @Override
-                    public boolean shouldLoadToMemory(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
-                        return false;
-                    }
-
-                    @Override
-                    public boolean shouldKeepLoaded(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
-                        return false;
-                    }
-
-                    @Override
-                    public boolean shouldPregenerate(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
-                        return false;
-                    }
-
-                    @Override
-                    public int getMaxLoadedChunks() {
-                        return 4096;
-                    }
-                })
+                .chunkLoadPolicy(new ManualChunkLoadPolicy(4096))
                 .blockPropertiesProvider(new OpenCraftBlockPropertiesProvider())
                 .initialChunkRadius(0)
                 .chunkPreloadRadius(0)
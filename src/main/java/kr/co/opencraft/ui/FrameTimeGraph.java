@@ -0,0 +1,67 @@
+package kr.co.opencraft.ui;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of recent frame times for the performance overlay.
+ */
+public final class FrameTimeGraph {
+    private final float[] samplesMs;
+    private final float[] sortScratch;
+    private int next;
+    private int count;
+
+    public FrameTimeGraph(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.samplesMs = new float[capacity];
+        this.sortScratch = new float[capacity];
+    }
+
+    public void record(long frameNanos) {
+        samplesMs[next] = frameNanos / 1_000_000f;
+        next = (next + 1) % samplesMs.length;
+        count = Math.min(count + 1, samplesMs.length);
+    }
+
+    public int capacity() {
+        return samplesMs.length;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param age 0 for the newest sample, {@code size() - 1} for the oldest
+     */
+    public float getMs(int age) {
+        if (age < 0 || age >= count) {
+            throw new IndexOutOfBoundsException(age);
+        }
+        return samplesMs[Math.floorMod(next - 1 - age, samplesMs.length)];
+    }
+
+    public float maxMs() {
+        float max = 0f;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samplesMs[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Nearest-rank percentile over the window. Sorts a scratch copy, so call it at
+     * overlay refresh rate rather than per frame.
+     */
+    public float percentileMs(double quantile) {
+        if (count == 0) {
+            return 0f;
+        }
+        System.arraycopy(samplesMs, 0, sortScratch, 0, count);
+        Arrays.sort(sortScratch, 0, count);
+        int rank = (int) Math.ceil(quantile * count);
+        return sortScratch[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+}
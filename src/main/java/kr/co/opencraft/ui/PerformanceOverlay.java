@@ -0,0 +1,185 @@
+package kr.co.opencraft.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * F3 디버그 오버레이: 프레임 타임 그래프와 서브시스템 큐 상태를 SpriteBatch 한 번으로 그림
+ *
+ * 텍스트는 초당 4번만 다시 만들고, 그래프 샘플은 매 프레임 기록함 (숨겨져 있어도 기록)
+ */
+public final class PerformanceOverlay {
+    private static final int GRAPH_SAMPLES = 240;
+    private static final float GRAPH_HEIGHT = 80f;
+    private static final float GRAPH_SCALE_MS = 50f;
+    private static final float TARGET_FRAME_MS = 1000f / 60f;
+    private static final float SLOW_FRAME_MS = 1000f / 30f;
+    private static final float MARGIN = 8f;
+    private static final float LINE_HEIGHT = 16f;
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+    /**
+     * 화면별 통계를 한 줄씩 추가
+     */
+    public interface StatsSource {
+        void appendLines(List<String> lines);
+    }
+
+    private final StatsSource source;
+    private final FrameTimeGraph graph = new FrameTimeGraph(GRAPH_SAMPLES);
+    private final List<String> lines = new ArrayList<>();
+    private final Matrix4 projection = new Matrix4();
+    private SpriteBatch batch;
+    private BitmapFont font;
+    private Texture white;
+    private boolean visible;
+    private long lastRefreshNanos;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastGcSampleNanos;
+    private String gcLine = "GC: -";
+
+    public PerformanceOverlay(StatsSource source) {
+        this.source = source;
+    }
+
+    public void toggle() {
+        visible = !visible;
+        lastRefreshNanos = 0L;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void recordFrame(long frameNanos) {
+        graph.record(frameNanos);
+    }
+
+    public void render(int screenWidth, int screenHeight) {
+        if (!visible) {
+            return;
+        }
+        ensureResources();
+
+        long now = System.nanoTime();
+        if (now - lastRefreshNanos >= REFRESH_INTERVAL_NANOS) {
+            lastRefreshNanos = now;
+            refreshLines(now);
+        }
+
+        float graphWidth = graph.capacity() * 2f;
+        float textHeight = lines.size() * LINE_HEIGHT;
+        float panelWidth = Math.max(graphWidth, 360f) + MARGIN * 2f;
+        float panelHeight = textHeight + GRAPH_HEIGHT + MARGIN * 3f;
+        float panelTop = screenHeight - MARGIN;
+        float panelBottom = panelTop - panelHeight;
+
+        projection.setToOrtho2D(0f, 0f, screenWidth, screenHeight);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+
+        batch.setColor(0f, 0f, 0f, 0.55f);
+        batch.draw(white, MARGIN, panelBottom, panelWidth, panelHeight);
+
+        float graphX = MARGIN * 2f;
+        float graphY = panelBottom + MARGIN;
+        float pixelsPerMs = GRAPH_HEIGHT / GRAPH_SCALE_MS;
+        for (int age = 0; age < graph.size(); age++) {
+            float ms = graph.getMs(age);
+            if (ms >= SLOW_FRAME_MS) {
+                batch.setColor(0.9f, 0.25f, 0.2f, 0.9f);
+            } else if (ms >= TARGET_FRAME_MS) {
+                batch.setColor(0.95f, 0.8f, 0.2f, 0.9f);
+            } else {
+                batch.setColor(0.3f, 0.85f, 0.35f, 0.9f);
+            }
+            float x = graphX + graphWidth - (age + 1) * 2f;
+            batch.draw(white, x, graphY, 2f, Math.min(GRAPH_HEIGHT, ms * pixelsPerMs));
+        }
+        batch.setColor(1f, 1f, 1f, 0.5f);
+        batch.draw(white, graphX, graphY + TARGET_FRAME_MS * pixelsPerMs, graphWidth, 1f);
+        batch.draw(white, graphX, graphY + SLOW_FRAME_MS * pixelsPerMs, graphWidth, 1f);
+        batch.setColor(Color.WHITE);
+
+        float textY = panelTop - MARGIN;
+        for (String line : lines) {
+            font.draw(batch, line, MARGIN * 2f, textY);
+            textY -= LINE_HEIGHT;
+        }
+        batch.end();
+    }
+
+    private void refreshLines(long now) {
+        lines.clear();
+        lines.add(String.format("Frame: avg %.1fms p99 %.1fms max %.1fms (%d frames)",
+            average(), graph.percentileMs(0.99), graph.maxMs(), graph.size()));
+        source.appendLines(lines);
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        lines.add(String.format("Heap: %d / %d MB", usedMb, runtime.maxMemory() / (1024 * 1024)));
+        sampleGc(now);
+        lines.add(gcLine);
+    }
+
+    private float average() {
+        if (graph.size() == 0) {
+            return 0f;
+        }
+        float sum = 0f;
+        for (int age = 0; age < graph.size(); age++) {
+            sum += graph.getMs(age);
+        }
+        return sum / graph.size();
+    }
+
+    // GC 횟수/시간은 누적값이라 직전 샘플과의 차이를 초당 값으로 환산
+    private void sampleGc(long now) {
+        long count = 0L;
+        long millis = 0L;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, collector.getCollectionCount());
+            millis += Math.max(0L, collector.getCollectionTime());
+        }
+        if (lastGcSampleNanos != 0L) {
+            double seconds = (now - lastGcSampleNanos) / 1_000_000_000.0;
+            gcLine = String.format("GC: %.1f/s, %.0fms/s paused (total %d)",
+                (count - lastGcCount) / seconds, (millis - lastGcMillis) / seconds, count);
+        }
+        lastGcCount = count;
+        lastGcMillis = millis;
+        lastGcSampleNanos = now;
+    }
+
+    private void ensureResources() {
+        if (batch != null) {
+            return;
+        }
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        white = new Texture(pixmap);
+        pixmap.dispose();
+    }
+
+    public void dispose() {
+        if (batch == null) {
+            return;
+        }
+        batch.dispose();
+        font.dispose();
+        white.dispose();
+        batch = null;
+    }
+}
@@ -5,17 +5,24 @@ package kr.co.opencraft.world;
  * - 언제 로드/언로드할지
  * - 얼마나 메모리에 올릴지
  * - 사전 생성 거리
+ * - 원거리 LOD 지형 거리
  */
 public class ChunkLoadPolicy {
     private final int visibleDistance;       // 렌더 거리
     private final int keepLoadedDistance;    // 메모리 유지 거리
     private final int pregenerateDistance;   // 사전 생성 거리 (파일만)
+    private final int lodDistance;           // 저해상도 지형 거리
     private final int maxLoadedChunks;       // 최대 메모리 청크
     
     public ChunkLoadPolicy(int visibleDistance, int keepLoadedDistance, int pregenerateDistance) {
+        this(visibleDistance, keepLoadedDistance, pregenerateDistance, visibleDistance);
+    }
+
+    public ChunkLoadPolicy(int visibleDistance, int keepLoadedDistance, int pregenerateDistance, int lodDistance) {
         this.visibleDistance = Math.max(0, visibleDistance);
         this.keepLoadedDistance = Math.max(this.visibleDistance, keepLoadedDistance);
         this.pregenerateDistance = Math.max(this.keepLoadedDistance, pregenerateDistance);
+        this.lodDistance = Math.max(this.visibleDistance, lodDistance);
         this.maxLoadedChunks = calculateMaxChunks(this.keepLoadedDistance);
     }
     
@@ -46,6 +53,14 @@ public class ChunkLoadPolicy {
         return dx <= pregenerateDistance && dz <= pregenerateDistance;
     }
     
+    /**
+     * 전체 청크 렌더 거리 밖에서 LOD 지형으로 그려야 하는가?
+     */
+    public boolean shouldRenderLod(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
+        int distance = Math.max(Math.abs(chunkX - playerChunkX), Math.abs(chunkZ - playerChunkZ));
+        return distance > visibleDistance && distance <= lodDistance;
+    }
+
     /**
      * 최대 로드 청크 수 계산
      */
@@ -71,6 +86,10 @@ public class ChunkLoadPolicy {
         return pregenerateDistance;
     }
     
+    public int getLodDistance() {
+        return lodDistance;
+    }
+
     public int getMaxLoadedChunks() {
         return maxLoadedChunks;
     }
@@ -0,0 +1,190 @@
+package kr.co.opencraft.world;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.opencraft.world.section.ChunkSectionState;
+import kr.co.opencraft.world.section.ChunkSections;
+import kr.co.opencraft.world.section.SectionTracker;
+import kr.co.voxelite.engine.VoxeliteEngine;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * Streams single-player chunks into the engine, the same way multiplayer applies the
+ * chunks the server sends. The engine itself is configured to load nothing, so every
+ * chunk in its world went through here and is tracked by the {@link SectionTracker}.
+ *
+ * Worker threads fill chunks from {@link TerrainGeneratorAdapter#load}, which checks the
+ * cold tier first; the render thread applies a few finished chunks per frame and unloads
+ * the ones the player left behind, handing them to the world to park and save. Requests that fell out of the keep-loaded radius before their turn are dropped
+ * without loading, like {@link kr.co.opencraft.world.lod.LodTerrainCache} does.
+ */
+public final class ChunkStreamer implements AutoCloseable {
+    private static final int APPLY_PER_FRAME = 4;
+
+    private final VoxeliteEngine engine;
+    private final SinglePlayerWorld world;
+    private final TerrainGeneratorAdapter loader;
+    private final ChunkLoadPolicy loadPolicy;
+    private final SectionTracker sectionTracker;
+    private final ExecutorService executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Set<Long> readyKeys = ConcurrentHashMap.newKeySet();
+    private final Queue<LoadedChunk> ready = new ConcurrentLinkedQueue<>();
+    private volatile Center center;
+
+    public ChunkStreamer(VoxeliteEngine engine, SinglePlayerWorld world, int threads) {
+        this.engine = engine;
+        this.world = world;
+        this.loader = new TerrainGeneratorAdapter(world);
+        this.loadPolicy = world.getLoadPolicy();
+        this.sectionTracker = world.getSectionTracker();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "opencraft-chunk-loader-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        sectionTracker.addListener(new SectionTracker.Listener() {
+            @Override
+            public void chunkEvicted(ChunkSectionState state, int playerChunkX, int playerChunkZ) {
+                engine.getWorld().unloadChunk(state.getChunk().getCoord());
+                world.chunkUnloaded(state, playerChunkX, playerChunkZ);
+            }
+        });
+    }
+
+    /**
+     * Render-thread step: unloads chunks out of range, requests missing ones nearest
+     * first, then applies up to {@link #APPLY_PER_FRAME} finished chunks.
+     */
+    public void update(int playerChunkX, int playerChunkZ) {
+        Center previous = center;
+        if (previous == null || previous.chunkX() != playerChunkX || previous.chunkZ() != playerChunkZ) {
+            int trackedBefore = sectionTracker.getTrackedChunkCount();
+            sectionTracker.updatePlayerChunk(playerChunkX, playerChunkZ);
+            if (sectionTracker.getTrackedChunkCount() != trackedBefore) {
+                engine.getPhysics().invalidateCache();
+            }
+            request(playerChunkX, playerChunkZ);
+        }
+        applyReady(APPLY_PER_FRAME);
+    }
+
+    /**
+     * Requests every chunk within the visible radius that is not loaded yet. Safe to call
+     * from any thread; only the request order depends on the caller.
+     */
+    public void request(int playerChunkX, int playerChunkZ) {
+        center = new Center(playerChunkX, playerChunkZ);
+        int radius = loadPolicy.getVisibleDistance();
+        for (int ring = 0; ring <= radius; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) == ring) {
+                        requestChunk(playerChunkX + dx, playerChunkZ + dz);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies finished chunks to the engine and starts tracking them. Render thread only.
+     *
+     * @return number of chunks applied
+     */
+    public int applyReady(int maxChunks) {
+        Center current = center;
+        int applied = 0;
+        LoadedChunk loaded;
+        while (applied < maxChunks && (loaded = ready.poll()) != null) {
+            Chunk chunk = loaded.chunk();
+            ChunkCoord coord = chunk.getCoord();
+            long key = ChunkSections.columnKey(coord.x, coord.z);
+            readyKeys.remove(key);
+            pending.remove(key);
+            if (sectionTracker.isTracked(coord) || !isWanted(current, coord.x, coord.z)) {
+                continue;
+            }
+            engine.getWorld().applyChunk(chunk);
+            sectionTracker.track(chunk, loaded.heightmap());
+            applied++;
+        }
+        if (applied > 0) {
+            engine.getPhysics().invalidateCache();
+        }
+        return applied;
+    }
+
+    /**
+     * Chunks within {@code radius} of the given chunk that are applied or ready to apply.
+     */
+    public int countAvailable(int centerX, int centerZ, int radius) {
+        int available = 0;
+        for (int chunkX = centerX - radius; chunkX <= centerX + radius; chunkX++) {
+            for (int chunkZ = centerZ - radius; chunkZ <= centerZ + radius; chunkZ++) {
+                if (sectionTracker.isTracked(chunkX, chunkZ) || readyKeys.contains(ChunkSections.columnKey(chunkX, chunkZ))) {
+                    available++;
+                }
+            }
+        }
+        return available;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        ready.clear();
+        readyKeys.clear();
+        pending.clear();
+    }
+
+    private void requestChunk(int chunkX, int chunkZ) {
+        if (sectionTracker.isTracked(chunkX, chunkZ)) {
+            return;
+        }
+        long key = ChunkSections.columnKey(chunkX, chunkZ);
+        if (pending.add(key)) {
+            executor.execute(() -> load(new ChunkCoord(chunkX, chunkZ), key));
+        }
+    }
+
+    private void load(ChunkCoord coord, long key) {
+        if (!isWanted(center, coord.x, coord.z)) {
+            pending.remove(key);
+            return;
+        }
+
+        long start = System.nanoTime();
+        GeneratedChunk generated = loader.load(coord);
+        Chunk chunk = new Chunk(coord);
+        generated.blocks().copyTo(chunk);
+        chunk.markAsGenerated();
+        OpenCraftMetrics.CHUNK_LOAD.recordSince(start);
+        readyKeys.add(key);
+        ready.add(new LoadedChunk(chunk, generated.heightmap()));
+    }
+
+    private boolean isWanted(Center current, int chunkX, int chunkZ) {
+        return current == null || loadPolicy.shouldKeepLoaded(chunkX, chunkZ, current.chunkX(), current.chunkZ());
+    }
+
+    private record Center(int chunkX, int chunkZ) {
+    }
+
+    private record LoadedChunk(Chunk chunk, ChunkHeightmap heightmap) {
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.opencraft.world;
+
+/**
+ * Stateless per-column random numbers. The same (seed, x, z, salt) always gives the
+ * same value, so generation does not depend on the order chunks are built in.
+ */
+public final class ColumnRandom {
+    private ColumnRandom() {
+    }
+
+    /**
+     * @return a value in [0, 1]
+     */
+    public static double sample(long seed, int worldX, int worldZ, int salt) {
+        long hash = seed;
+        hash ^= worldX * 341873128712L;
+        hash ^= worldZ * 132897987541L;
+        hash ^= salt * 42317861L;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        long positive = hash & Long.MAX_VALUE;
+        return positive / (double) Long.MAX_VALUE;
+    }
+}
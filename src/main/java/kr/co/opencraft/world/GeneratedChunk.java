@@ -0,0 +1,10 @@
+package kr.co.opencraft.world;
+
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+
+/**
+ * Blocks of one generated chunk column together with the heightmap built while filling it.
+ */
+public record GeneratedChunk(ChunkBlockBuffer blocks, ChunkHeightmap heightmap) {
+}
@@ -0,0 +1,35 @@
+package kr.co.opencraft.world;
+
+import kr.co.voxelite.world.IChunkLoadPolicy;
+
+/**
+ * 엔진이 스스로 청크를 로드/언로드하지 않도록 하는 정책
+ * - 청크는 OpenCraft가 applyChunk/unloadChunk로 직접 넣고 뺌 (싱글: ChunkStreamer, 멀티: 서버 패킷)
+ */
+public class ManualChunkLoadPolicy implements IChunkLoadPolicy {
+    private final int maxLoadedChunks;
+
+    public ManualChunkLoadPolicy(int maxLoadedChunks) {
+        this.maxLoadedChunks = maxLoadedChunks;
+    }
+
+    @Override
+    public boolean shouldLoadToMemory(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
+        return false;
+    }
+
+    @Override
+    public boolean shouldKeepLoaded(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
+        return false;
+    }
+
+    @Override
+    public boolean shouldPregenerate(int chunkX, int chunkZ, int playerChunkX, int playerChunkZ) {
+        return false;
+    }
+
+    @Override
+    public int getMaxLoadedChunks() {
+        return maxLoadedChunks;
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.opencraft.world;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import kr.co.opencraft.world.feature.FeaturePlacement;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * Population state shared by every {@link TerrainGenerator} of one seed, so each chunk's
+ * terrain phase and feature list are worked out once instead of once per neighbour and
+ * per generator thread.
+ *
+ * Feature lists are kept per origin chunk and applied to every chunk they reach. A
+ * terrain phase computed only to root a neighbour's features is handed over to that
+ * neighbour's own generation, which then skips straight to population. Both maps are
+ * bounded LRUs. Two threads may race to compute the same chunk; the results are
+ * identical, so the first one stored wins.
+ */
+public final class PopulationCache {
+    private static final int DEFAULT_FEATURE_CAPACITY = 4096;
+    private static final int DEFAULT_TERRAIN_CAPACITY = 256;
+
+    private final long seed;
+    private final Map<ChunkCoord, FeaturePlacement[]> features;
+    private final Map<ChunkCoord, GeneratedChunk> terrain;
+
+    public PopulationCache(long seed) {
+        this(seed, DEFAULT_FEATURE_CAPACITY, DEFAULT_TERRAIN_CAPACITY);
+    }
+
+    public PopulationCache(long seed, int featureCapacity, int terrainCapacity) {
+        if (featureCapacity <= 0 || terrainCapacity <= 0) {
+            throw new IllegalArgumentException("capacities must be positive");
+        }
+        this.seed = seed;
+        this.features = lru(featureCapacity);
+        this.terrain = lru(terrainCapacity);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public synchronized FeaturePlacement[] getFeatures(ChunkCoord coord) {
+        return features.get(coord);
+    }
+
+    /**
+     * @return the list already stored for the chunk, or {@code placements}
+     */
+    public synchronized FeaturePlacement[] putFeatures(ChunkCoord coord, FeaturePlacement[] placements) {
+        FeaturePlacement[] existing = features.putIfAbsent(coord, placements);
+        return existing != null ? existing : placements;
+    }
+
+    /**
+     * Keeps an unpopulated terrain phase for the chunk's own generation. The caller must
+     * not modify it afterwards.
+     */
+    public synchronized void offerTerrain(ChunkCoord coord, GeneratedChunk phase) {
+        terrain.putIfAbsent(coord, phase);
+    }
+
+    /**
+     * Removes and returns the terrain phase offered for the chunk, now owned by the caller.
+     */
+    public synchronized GeneratedChunk takeTerrain(ChunkCoord coord) {
+        return terrain.remove(coord);
+    }
+
+    public synchronized int getTerrainCount() {
+        return terrain.size();
+    }
+
+    private static <V> Map<ChunkCoord, V> lru(int capacity) {
+        return new LinkedHashMap<>(Math.min(capacity, 256), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ChunkCoord, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+}
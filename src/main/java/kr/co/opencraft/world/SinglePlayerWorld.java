@@ -0,0 +1,195 @@
+package kr.co.opencraft.world;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.world.cache.GeneratedChunkCache;
+import kr.co.opencraft.world.cache.OffHeapChunkArena;
+import kr.co.opencraft.world.lod.LodTerrainCache;
+import kr.co.opencraft.world.pregen.PregenerationJob;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkSectionState;
+import kr.co.opencraft.world.section.SectionTracker;
+import kr.co.opencraft.world.store.RegionChunkStore;
+import kr.co.voxelite.engine.VoxeliteEngine;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * OpenCraft-side services of a single-player world that live next to the engine.
+ *
+ * Edited chunks are written to {@link #getChunkStore()} when they unload and when the
+ * world closes; the store is the world's save, the engine keeps nothing of its own.
+ */
+public final class SinglePlayerWorld implements AutoCloseable {
+    private final long seed;
+    private final ChunkLoadPolicy loadPolicy;
+    private final SectionTracker sectionTracker;
+    private final LodTerrainCache lodTerrain;
+    private final GeneratedChunkCache generatedCache;
+    private final OffHeapChunkArena coldChunks;
+    private final RegionChunkStore chunkStore;
+    private final PregenerationJob pregeneration;
+    private final ExecutorService parkingExecutor;
+    private ChunkStreamer streamer;
+
+    public SinglePlayerWorld(
+        long seed,
+        ChunkLoadPolicy loadPolicy,
+        SectionTracker sectionTracker,
+        LodTerrainCache lodTerrain,
+        GeneratedChunkCache generatedCache,
+        OffHeapChunkArena coldChunks,
+        RegionChunkStore chunkStore,
+        PregenerationJob pregeneration
+    ) {
+        this.seed = seed;
+        this.loadPolicy = Objects.requireNonNull(loadPolicy, "loadPolicy");
+        this.sectionTracker = Objects.requireNonNull(sectionTracker, "sectionTracker");
+        this.lodTerrain = Objects.requireNonNull(lodTerrain, "lodTerrain");
+        this.generatedCache = Objects.requireNonNull(generatedCache, "generatedCache");
+        this.coldChunks = Objects.requireNonNull(coldChunks, "coldChunks");
+        this.chunkStore = Objects.requireNonNull(chunkStore, "chunkStore");
+        this.pregeneration = pregeneration;
+        this.parkingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opencraft-chunk-parking");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public ChunkLoadPolicy getLoadPolicy() {
+        return loadPolicy;
+    }
+
+    public SectionTracker getSectionTracker() {
+        return sectionTracker;
+    }
+
+    public LodTerrainCache getLodTerrain() {
+        return lodTerrain;
+    }
+
+    public GeneratedChunkCache getGeneratedCache() {
+        return generatedCache;
+    }
+
+    /**
+     * Chunks between the keep-loaded and pregenerate radius, kept off-heap with any edits.
+     * Edited chunks also stay parked there until their save reached the chunk store, so
+     * the streamer never reloads an older copy from disk.
+     */
+    public OffHeapChunkArena getColdChunks() {
+        return coldChunks;
+    }
+
+    public RegionChunkStore getChunkStore() {
+        return chunkStore;
+    }
+
+    /**
+     * Background generation of the pregenerate radius into {@link #getChunkStore()}, or
+     * {@code null} when pregeneration was not enabled for this run.
+     */
+    public PregenerationJob getPregeneration() {
+        return pregeneration;
+    }
+
+    /**
+     * Starts streaming chunks into an engine that was built to load none by itself.
+     */
+    public ChunkStreamer startStreaming(VoxeliteEngine engine, int threads) {
+        if (streamer == null) {
+            streamer = new ChunkStreamer(engine, this, threads);
+        }
+        return streamer;
+    }
+
+    public ChunkStreamer getStreamer() {
+        return streamer;
+    }
+
+    /**
+     * Saves every edited chunk that is still loaded, then waits for queued saves. Call
+     * on the render thread.
+     */
+    @Override
+    public void close() {
+        if (streamer != null) {
+            streamer.close();
+        }
+        if (pregeneration != null) {
+            pregeneration.close();
+        }
+        lodTerrain.close();
+        sectionTracker.forEachTracked(state -> {
+            if (state.isModified()) {
+                saveChunk(state.getChunk().getCoord(), ChunkBlockBuffer.copyOf(state.getChunk()));
+            }
+        });
+        parkingExecutor.shutdown();
+        try {
+            if (!parkingExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("[SinglePlayerWorld] Timed out waiting for chunk saves");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        generatedCache.clear();
+        coldChunks.clear();
+        try {
+            chunkStore.close();
+        } catch (IOException e) {
+            System.err.println("[SinglePlayerWorld] Failed to close chunk store: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Called by the streamer on the render thread after it unloaded a chunk from the engine.
+     *
+     * Copying and serializing take a fraction of a millisecond per chunk and a border
+     * crossing evicts a whole row, so they run off the render thread. The chunk is parked
+     * synchronously, so a reload that overtakes the serializer or the save still finds its
+     * edits through the same cold-first lookup the streamer uses.
+     */
+    void chunkUnloaded(ChunkSectionState state, int playerChunkX, int playerChunkZ) {
+        Chunk chunk = state.getChunk();
+        ChunkCoord coord = chunk.getCoord();
+        boolean modified = state.isModified();
+        boolean keepCold = loadPolicy.shouldPregenerate(coord.x, coord.z, playerChunkX, playerChunkZ);
+        if (!modified && !keepCold) {
+            return;
+        }
+        coldChunks.park(coord, chunk);
+        parkingExecutor.execute(() -> {
+            long start = System.nanoTime();
+            ChunkBlockBuffer blocks = ChunkBlockBuffer.copyOf(chunk);
+            if (modified) {
+                saveChunk(coord, blocks);
+            }
+            if (keepCold) {
+                coldChunks.flushParked(coord, chunk, blocks);
+                OpenCraftMetrics.SAVE_COLD_PARK.recordSince(start);
+            } else {
+                coldChunks.unpark(coord, chunk);
+            }
+        });
+    }
+
+    private void saveChunk(ChunkCoord coord, ChunkBlockBuffer blocks) {
+        try {
+            chunkStore.write(coord.x, coord.z, blocks);
+            chunkStore.flush();
+        } catch (IOException e) {
+            System.err.println("[SinglePlayerWorld] Failed to save chunk " + coord.x + "," + coord.z + ": " + e.getMessage());
+        }
+    }
+}
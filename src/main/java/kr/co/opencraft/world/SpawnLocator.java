@@ -0,0 +1,97 @@
+package kr.co.opencraft.world;
+
+import kr.co.opencraft.world.lod.LodChunk;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Picks a spawn chunk from biome noise and the coarse density grid alone, so no chunk has
+ * to be fully generated to find out it is underwater or on a mountainside.
+ *
+ * Candidates are visited in expanding square rings around the origin. A chunk qualifies
+ * when its center is not a mountain, every coarse corner sits above sea level and the
+ * corners are close enough in height to stand on. Only the chosen chunk is generated, to
+ * read the standing height from its heightmap.
+ */
+public class SpawnLocator {
+    private static final int DEFAULT_SEARCH_RADIUS = 64;
+    private static final int RING_STEP = 2;
+    private static final int MAX_HEIGHT_SPREAD = 6;
+    private static final float FALLBACK_Y = 100f;
+
+    private final TerrainGenerator generator;
+    private final BiomeGenerator biomes;
+    private final int searchRadius;
+
+    public SpawnLocator(long seed) {
+        this(new TerrainGenerator(seed), DEFAULT_SEARCH_RADIUS);
+    }
+
+    public SpawnLocator(TerrainGenerator generator, int searchRadius) {
+        this.generator = generator;
+        this.biomes = new BiomeGenerator(generator.getSeed());
+        this.searchRadius = searchRadius;
+    }
+
+    /**
+     * @return the first suitable chunk center, or the origin at a safe height if the
+     * search radius holds no dry, flat, non-mountain chunk
+     */
+    public SpawnPoint locate() {
+        for (int ring = 0; ring <= searchRadius; ring += RING_STEP) {
+            for (int dx = -ring; dx <= ring; dx += RING_STEP) {
+                for (int dz = -ring; dz <= ring; dz += RING_STEP) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
+                    SpawnPoint candidate = evaluate(dx, dz);
+                    if (candidate != null) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        return new SpawnPoint(0, 0, Chunk.CHUNK_SIZE / 2f, FALLBACK_Y, Chunk.CHUNK_SIZE / 2f, false);
+    }
+
+    private SpawnPoint evaluate(int chunkX, int chunkZ) {
+        int centerX = chunkX * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE / 2;
+        int centerZ = chunkZ * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE / 2;
+        Biome biome = biomes.getBiomeAt(centerX, centerZ);
+        if (biome == Biome.MOUNTAIN) {
+            return null;
+        }
+
+        LodChunk coarse = generator.generateLodChunk(chunkX, chunkZ);
+        int minHeight = Integer.MAX_VALUE;
+        int maxHeight = Integer.MIN_VALUE;
+        for (int cornerX = 0; cornerX < LodChunk.CORNERS; cornerX++) {
+            for (int cornerZ = 0; cornerZ < LodChunk.CORNERS; cornerZ++) {
+                int height = coarse.getCornerHeight(cornerX, cornerZ);
+                minHeight = Math.min(minHeight, height);
+                maxHeight = Math.max(maxHeight, height);
+            }
+        }
+        if (minHeight <= TerrainGenerator.SEA_LEVEL || maxHeight - minHeight > MAX_HEIGHT_SPREAD) {
+            return null;
+        }
+
+        int middle = LodChunk.CELLS / 2;
+        if (coarse.getCellBlock(middle, middle) != biome.surfaceBlock) {
+            return null;
+        }
+        int middleColumn = Chunk.CHUNK_SIZE / 2;
+        int surfaceY = generator.generateColumn(chunkX, chunkZ).heightmap().getMotionBlockingY(middleColumn, middleColumn);
+        if (surfaceY == ChunkHeightmap.NONE) {
+            return null;
+        }
+        return new SpawnPoint(chunkX, chunkZ, centerX + 0.5f, surfaceY + 1f, centerZ + 0.5f, true);
+    }
+
+    /**
+     * @param y feet height on the top motion-blocking block of the center column
+     * @param suitable false for the fallback at the origin
+     */
+    public record SpawnPoint(int chunkX, int chunkZ, float x, float y, float z, boolean suitable) {
+    }
+}
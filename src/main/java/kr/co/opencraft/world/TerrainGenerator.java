@@ -1,14 +1,27 @@
 package kr.co.opencraft.world;
 
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.metrics.jfr.ChunkGenerationEvent;
+import kr.co.opencraft.world.carver.NoiseCaveCarver;
+import kr.co.opencraft.world.feature.DecorationTarget;
+import kr.co.opencraft.world.feature.FeaturePipeline;
+import kr.co.opencraft.world.feature.FeaturePlacement;
+import kr.co.opencraft.world.lod.LodChunk;
 import kr.co.opencraft.world.noise.OctaveNoise;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
 import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 /**
  * Minecraft 1.12 overworld-style terrain generation with simple biome decoration.
  * The flow mirrors the vanilla generator at a high level:
- * biome blend -> coarse density field -> chunk fill -> surface replacement.
+ * biome blend -> coarse density field -> chunk fill -> surface replacement -> caves -> features.
  */
 public class TerrainGenerator {
     private static final int CHUNK_HEIGHT = 256;
@@ -17,7 +30,7 @@ public class TerrainGenerator {
     private static final int COARSE_HEIGHT_SAMPLES = 33;
     private static final int COARSE_HORIZONTAL_STEP = 4;
     private static final int COARSE_VERTICAL_STEP = 8;
-    private static final int SEA_LEVEL = 63;
+    public static final int SEA_LEVEL = 63;
 
     private static final double COORDINATE_SCALE = 684.412;
     private static final double HEIGHT_SCALE = 684.412;
@@ -38,7 +51,11 @@ public class TerrainGenerator {
     private static final double SURFACE_NOISE_SCALE = 0.0625;
 
     private final long seed;
+    private final BlockRegistry registry = OpenCraftBlockRegistry.blocks();
     private final BiomeGenerator biomeGenerator;
+    private final NoiseCaveCarver caveCarver;
+    private final FeaturePipeline features;
+    private final int populationRadius;
     private final OctaveNoise minLimitNoise;
     private final OctaveNoise maxLimitNoise;
     private final OctaveNoise mainNoise;
@@ -51,10 +68,26 @@ public class TerrainGenerator {
     private double[] maxLimitRegion;
     private double[] depthRegion;
     private double[] surfaceDepthBuffer;
+    private final PopulationCache population;
 
     public TerrainGenerator(long seed) {
+        this(seed, new PopulationCache(seed));
+    }
+
+    /**
+     * @param population shared with the other generators of this seed, typically one per
+     *                   worker thread
+     */
+    public TerrainGenerator(long seed, PopulationCache population) {
+        if (population.getSeed() != seed) {
+            throw new IllegalArgumentException("population cache belongs to seed " + population.getSeed());
+        }
         this.seed = seed;
+        this.population = population;
         this.biomeGenerator = new BiomeGenerator(seed);
+        this.caveCarver = new NoiseCaveCarver(seed);
+        this.features = FeaturePipeline.defaults(seed);
+        this.populationRadius = (features.getMaxReach() + Chunk.CHUNK_SIZE - 1) / Chunk.CHUNK_SIZE;
         this.heightMap = new double[COARSE_GRID_SIZE * COARSE_HEIGHT_SAMPLES * COARSE_GRID_SIZE];
         this.biomeWeights = new float[25];
 
@@ -74,77 +107,155 @@ public class TerrainGenerator {
     }
 
     public synchronized void generateTerrain(Chunk chunk, int defaultBlockType) {
-        int chunkX = chunk.getCoord().x;
-        int chunkZ = chunk.getCoord().z;
-        Biome[] biomesForGeneration = sampleBiomesForGeneration(chunkX, chunkZ);
-
-        setBlocksInChunk(chunk, chunkX, chunkZ, biomesForGeneration);
-        replaceBiomeBlocks(chunk, chunkX, chunkZ);
-        decorateTrees(chunk, chunkX, chunkZ);
+        ChunkBlockBuffer blocks = generateBlocks(chunk.getCoord().x, chunk.getCoord().z);
+        blocks.copyTo(chunk);
         chunk.markAsGenerated();
     }
 
-    private void decorateTrees(Chunk chunk, int chunkX, int chunkZ) {
-        for (int localX = 2; localX < Chunk.CHUNK_SIZE - 2; localX++) {
-            for (int localZ = 2; localZ < Chunk.CHUNK_SIZE - 2; localZ++) {
-                int worldX = chunkX * Chunk.CHUNK_SIZE + localX;
-                int worldZ = chunkZ * Chunk.CHUNK_SIZE + localZ;
-                Biome biome = biomeGenerator.getBiomeAt(worldX, worldZ);
-                double chance = switch (biome) {
-                    case FOREST -> 0.015D;
-                    case PLAINS -> 0.0025D;
-                    default -> 0.0D;
-                };
-
-                if (columnRandom(worldX, worldZ, 101) >= chance) {
-                    continue;
-                }
+    /**
+     * Generates one chunk column into palette storage without touching an engine chunk.
+     */
+    public synchronized ChunkBlockBuffer generateBlocks(int chunkX, int chunkZ) {
+        return generateColumn(chunkX, chunkZ).blocks();
+    }
 
-                int surfaceY = findSurfaceY(chunk, localX, localZ);
-                if (surfaceY < 0 || chunk.getBlock(localX, surfaceY, localZ).blockType != BlockTypes.GRASS) {
-                    continue;
-                }
+    /**
+     * Generates one chunk column plus its heightmap. The heightmap is filled by the
+     * surface pass, which already walks every column top-down.
+     *
+     * Generation runs in two phases: terrain, then population. Each chunk's features are
+     * rooted on the heightmap of its own terrain phase and collected once into the shared
+     * {@link PopulationCache}; population then applies, in world order, every feature from
+     * the surrounding origins that reaches this chunk and keeps only the blocks inside it.
+     * Origins are only read, never written, so the result is the same in any generation
+     * order and no chunk ever waits for another.
+     *
+     * A terrain phase a neighbour already computed is taken from the cache, in which case
+     * the density, surface and cave timings are reported as zero.
+     */
+    public synchronized GeneratedChunk generateColumn(int chunkX, int chunkZ) {
+        ChunkGenerationEvent event = new ChunkGenerationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        ChunkCoord coord = new ChunkCoord(chunkX, chunkZ);
+        GeneratedChunk terrain = population.takeTerrain(coord);
+        long afterDensity = start;
+        long afterSurface = start;
+        if (terrain == null) {
+            ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+            ChunkHeightmap heightmap = new ChunkHeightmap();
+            setBlocksInChunk(blocks, chunkX, chunkZ, sampleBiomesForGeneration(chunkX, chunkZ));
+            afterDensity = System.nanoTime();
+            replaceBiomeBlocks(blocks, heightmap, chunkX, chunkZ);
+            afterSurface = System.nanoTime();
+            caveCarver.carve(blocks, heightmap, chunkX, chunkZ);
+            terrain = new GeneratedChunk(blocks, heightmap);
+        }
+        long afterCaves = System.nanoTime();
+        FeaturePlacement[] own = population.getFeatures(coord);
+        if (own == null) {
+            population.putFeatures(coord, collectFeatures(chunkX, chunkZ, terrain));
+        }
+        long afterFeatures = System.nanoTime();
+        populate(terrain, chunkX, chunkZ);
+        long end = System.nanoTime();
+
+        OpenCraftMetrics.CHUNK_GENERATE.record(end - start);
+        event.complete(chunkX, chunkZ, afterDensity - start, afterSurface - afterDensity, afterCaves - afterSurface,
+            afterFeatures - afterCaves, end - afterFeatures);
+        return terrain;
+    }
 
-                int trunkHeight = 4 + (int) (columnRandom(worldX, worldZ, 102) * 3.0D);
-                if (surfaceY + trunkHeight + 1 >= CHUNK_HEIGHT) {
-                    continue;
-                }
-                placeOakTree(chunk, localX, surfaceY + 1, localZ, trunkHeight);
+    /**
+     * Estimates the surface from the 5x33x5 density grid alone, without filling blocks.
+     * Used for distant LOD terrain, so it only has to look right from far away.
+     */
+    public synchronized LodChunk generateLodChunk(int chunkX, int chunkZ) {
+        Biome[] biomesForGeneration = sampleBiomesForGeneration(chunkX, chunkZ);
+        generateHeightMap(chunkX * COARSE_HORIZONTAL_STEP, chunkZ * COARSE_HORIZONTAL_STEP, biomesForGeneration);
+
+        short[] cornerHeights = new short[LodChunk.CORNERS * LodChunk.CORNERS];
+        for (int gridX = 0; gridX < COARSE_GRID_SIZE; gridX++) {
+            for (int gridZ = 0; gridZ < COARSE_GRID_SIZE; gridZ++) {
+                int columnStart = (gridX * COARSE_GRID_SIZE + gridZ) * COARSE_HEIGHT_SAMPLES;
+                cornerHeights[gridX * LodChunk.CORNERS + gridZ] = (short) coarseSurfaceY(columnStart);
             }
         }
+
+        int[] cellBlocks = new int[LodChunk.CELLS * LodChunk.CELLS];
+        for (int cellX = 0; cellX < LodChunk.CELLS; cellX++) {
+            for (int cellZ = 0; cellZ < LodChunk.CELLS; cellZ++) {
+                int worldX = chunkX * Chunk.CHUNK_SIZE + cellX * LodChunk.CELL_SIZE + LodChunk.CELL_SIZE / 2;
+                int worldZ = chunkZ * Chunk.CHUNK_SIZE + cellZ * LodChunk.CELL_SIZE + LodChunk.CELL_SIZE / 2;
+                Biome biome = biomeGenerator.getBiomeAt(worldX, worldZ);
+                int height = (cornerHeights[cellX * LodChunk.CORNERS + cellZ]
+                    + cornerHeights[(cellX + 1) * LodChunk.CORNERS + cellZ + 1]) / 2;
+                cellBlocks[cellX * LodChunk.CELLS + cellZ] = height >= stoneExposureHeight(biome)
+                    ? biome.stoneBlock
+                    : biome.surfaceBlock;
+            }
+        }
+
+        return new LodChunk(chunkX, chunkZ, cornerHeights, cellBlocks);
     }
 
-    private int findSurfaceY(Chunk chunk, int localX, int localZ) {
-        for (int y = CHUNK_HEIGHT - 1; y >= 0; y--) {
-            if (chunk.getBlock(localX, y, localZ) != null) {
-                return y;
+    private int coarseSurfaceY(int columnStart) {
+        for (int gridY = COARSE_HEIGHT_SAMPLES - 2; gridY >= 0; gridY--) {
+            double below = heightMap[columnStart + gridY];
+            double above = heightMap[columnStart + gridY + 1];
+            if (below > 0.0D && above <= 0.0D) {
+                double crossing = below / (below - above);
+                return gridY * COARSE_VERTICAL_STEP + (int) (crossing * COARSE_VERTICAL_STEP);
             }
         }
-        return -1;
+        return 0;
     }
 
-    private void placeOakTree(Chunk chunk, int localX, int baseY, int localZ, int trunkHeight) {
-        int crownY = baseY + trunkHeight - 1;
-        for (int y = crownY - 2; y <= crownY + 1; y++) {
-            int radius = y == crownY + 1 ? 1 : 2;
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    if (radius == 2 && Math.abs(dx) == 2 && Math.abs(dz) == 2) {
-                        continue;
-                    }
-                    if (chunk.getBlock(localX + dx, y, localZ + dz) == null) {
-                        chunk.addBlockLocal(localX + dx, y, localZ + dz, BlockTypes.OAK_LEAVES);
-                    }
-                }
+    private void populate(GeneratedChunk terrain, int chunkX, int chunkZ) {
+        List<FeaturePlacement> gathered = new ArrayList<>();
+        for (int dx = -populationRadius; dx <= populationRadius; dx++) {
+            for (int dz = -populationRadius; dz <= populationRadius; dz++) {
+                Collections.addAll(gathered, featuresRootedIn(chunkX + dx, chunkZ + dz));
             }
         }
+        features.decorate(gathered, new DecorationTarget(terrain.blocks(), terrain.heightmap(), registry, chunkX, chunkZ));
+    }
 
-        for (int dy = 0; dy < trunkHeight; dy++) {
-            chunk.addBlockLocal(localX, baseY + dy, localZ, BlockTypes.OAK_LOG);
+    /**
+     * Features rooted in a chunk. On a miss the chunk's terrain phase is computed here and
+     * offered to the cache, so the chunk's own generation does not repeat it.
+     */
+    private FeaturePlacement[] featuresRootedIn(int chunkX, int chunkZ) {
+        ChunkCoord coord = new ChunkCoord(chunkX, chunkZ);
+        FeaturePlacement[] placements = population.getFeatures(coord);
+        if (placements == null) {
+            GeneratedChunk terrain = generateTerrainPhase(chunkX, chunkZ);
+            placements = population.putFeatures(coord, collectFeatures(chunkX, chunkZ, terrain));
+            population.offerTerrain(coord, terrain);
         }
+        return placements;
+    }
+
+    private FeaturePlacement[] collectFeatures(int chunkX, int chunkZ, GeneratedChunk terrain) {
+        return features.collect(chunkX, chunkZ, new TerrainSurface(terrain.blocks(), terrain.heightmap()));
+    }
+
+    /**
+     * Density fill, surface replacement and caves: everything before population.
+     */
+    private GeneratedChunk generateTerrainPhase(int chunkX, int chunkZ) {
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        ChunkHeightmap heightmap = new ChunkHeightmap();
+        setBlocksInChunk(blocks, chunkX, chunkZ, sampleBiomesForGeneration(chunkX, chunkZ));
+        replaceBiomeBlocks(blocks, heightmap, chunkX, chunkZ);
+        caveCarver.carve(blocks, heightmap, chunkX, chunkZ);
+        return new GeneratedChunk(blocks, heightmap);
     }
 
-    private void setBlocksInChunk(Chunk chunk, int chunkX, int chunkZ, Biome[] biomesForGeneration) {
+    /**
+     * Fills stone where the interpolated density is positive.
+     */
+    private void setBlocksInChunk(ChunkBlockBuffer blocks, int chunkX, int chunkZ, Biome[] biomesForGeneration) {
         generateHeightMap(chunkX * COARSE_HORIZONTAL_STEP, chunkZ * COARSE_HORIZONTAL_STEP, biomesForGeneration);
 
         for (int gridX = 0; gridX < 4; gridX++) {
@@ -180,12 +291,10 @@ public class TerrainGenerator {
                             for (int subZ = 0; subZ < COARSE_HORIZONTAL_STEP; subZ++) {
                                 density += densityZStep;
                                 if (density > 0.0D) {
-                                    chunk.addBlockLocal(
-                                        gridX * COARSE_HORIZONTAL_STEP + subX,
-                                        gridY * COARSE_VERTICAL_STEP + subY,
-                                        gridZ * COARSE_HORIZONTAL_STEP + subZ,
-                                        BlockTypes.MY_STONE
-                                    );
+                                    int localX = gridX * COARSE_HORIZONTAL_STEP + subX;
+                                    int y = gridY * COARSE_VERTICAL_STEP + subY;
+                                    int localZ = gridZ * COARSE_HORIZONTAL_STEP + subZ;
+                                    blocks.set(localX, y, localZ, BlockTypes.MY_STONE);
                                 }
                             }
 
@@ -203,7 +312,7 @@ public class TerrainGenerator {
         }
     }
 
-    private void replaceBiomeBlocks(Chunk chunk, int chunkX, int chunkZ) {
+    private void replaceBiomeBlocks(ChunkBlockBuffer blocks, ChunkHeightmap heightmap, int chunkX, int chunkZ) {
         surfaceDepthBuffer = surfaceNoise.generateNoise(
             surfaceDepthBuffer,
             chunkX * Chunk.CHUNK_SIZE,
@@ -221,13 +330,19 @@ public class TerrainGenerator {
                 int worldZ = chunkZ * Chunk.CHUNK_SIZE + localZ;
                 Biome biome = biomeGenerator.getBiomeAt(worldX, worldZ);
                 double surfaceValue = surfaceDepthBuffer[localZ + localX * Chunk.CHUNK_SIZE];
-                replaceSurfaceColumn(chunk, localX, localZ, worldX, worldZ, biome, surfaceValue);
+                int topY = replaceSurfaceColumn(blocks, localX, localZ, worldX, worldZ, biome, surfaceValue);
+                if (topY >= 0) {
+                    heightmap.raise(localX, topY, localZ, blocks.get(localX, topY, localZ), registry);
+                }
             }
         }
     }
 
-    private void replaceSurfaceColumn(
-        Chunk chunk,
+    /**
+     * @return highest non-air y of the column, or -1 when it is empty
+     */
+    private int replaceSurfaceColumn(
+        ChunkBlockBuffer blocks,
         int localX,
         int localZ,
         int worldX,
@@ -237,39 +352,43 @@ public class TerrainGenerator {
     ) {
         int surfaceDepth = Math.max(1, (int) (surfaceValue / 3.0D + 3.0D + columnRandom(worldX, worldZ, 0) * 0.25D));
         int remainingDepth = -1;
+        int topY = -1;
 
         for (int y = CHUNK_HEIGHT - 1; y >= 0; y--) {
             if (y <= bedrockLevel(worldX, worldZ, y)) {
-                chunk.addBlockLocal(localX, y, localZ, BlockTypes.BEDROCK);
+                blocks.set(localX, y, localZ, BlockTypes.BEDROCK);
+                topY = Math.max(topY, y);
                 continue;
             }
 
-            Chunk.BlockData current = chunk.getBlock(localX, y, localZ);
-            if (current == null) {
+            int current = blocks.get(localX, y, localZ);
+            if (current == BlockTypes.AIR) {
                 remainingDepth = -1;
                 continue;
             }
+            topY = Math.max(topY, y);
 
-            if (current.blockType != BlockTypes.MY_STONE) {
+            if (current != BlockTypes.MY_STONE) {
                 continue;
             }
 
             if (remainingDepth == -1) {
                 remainingDepth = surfaceDepth;
                 if (surfaceDepth <= 0) {
-                    chunk.addBlockLocal(localX, y, localZ, biome.stoneBlock);
+                    blocks.set(localX, y, localZ, biome.stoneBlock);
                 } else if (y >= stoneExposureHeight(biome)) {
-                    chunk.addBlockLocal(localX, y, localZ, biome.stoneBlock);
+                    blocks.set(localX, y, localZ, biome.stoneBlock);
                 } else {
-                    chunk.addBlockLocal(localX, y, localZ, biome.surfaceBlock);
+                    blocks.set(localX, y, localZ, biome.surfaceBlock);
                 }
             } else if (remainingDepth > 0) {
-                chunk.addBlockLocal(localX, y, localZ, biome.subsurfaceBlock);
+                blocks.set(localX, y, localZ, biome.subsurfaceBlock);
                 remainingDepth--;
             } else {
-                chunk.addBlockLocal(localX, y, localZ, biome.stoneBlock);
+                blocks.set(localX, y, localZ, biome.stoneBlock);
             }
         }
+        return topY;
     }
 
     private void generateHeightMap(int coarseX, int coarseZ, Biome[] biomesForGeneration) {
@@ -437,15 +556,7 @@ public class TerrainGenerator {
     }
 
     private double columnRandom(int worldX, int worldZ, int salt) {
-        long hash = seed;
-        hash ^= worldX * 341873128712L;
-        hash ^= worldZ * 132897987541L;
-        hash ^= salt * 42317861L;
-        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
-        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
-        hash ^= hash >>> 33;
-        long positive = hash & Long.MAX_VALUE;
-        return positive / (double) Long.MAX_VALUE;
+        return ColumnRandom.sample(seed, worldX, worldZ, salt);
     }
 
     private double clamp01(double value) {
@@ -460,6 +571,34 @@ public class TerrainGenerator {
         return seed;
     }
 
+    /**
+     * Terrain view for the feature candidate pass, backed by a chunk's terrain phase.
+     */
+    private final class TerrainSurface implements FeaturePipeline.ColumnSurface {
+        private final ChunkBlockBuffer blocks;
+        private final ChunkHeightmap heightmap;
+
+        private TerrainSurface(ChunkBlockBuffer blocks, ChunkHeightmap heightmap) {
+            this.blocks = blocks;
+            this.heightmap = heightmap;
+        }
+
+        @Override
+        public Biome biomeAt(int worldX, int worldZ) {
+            return biomeGenerator.getBiomeAt(worldX, worldZ);
+        }
+
+        @Override
+        public int surfaceY(int localX, int localZ) {
+            return heightmap.getWorldSurfaceY(localX, localZ);
+        }
+
+        @Override
+        public int surfaceBlock(int localX, int surfaceY, int localZ) {
+            return blocks.get(localX, surfaceY, localZ);
+        }
+    }
+
     private static final class BiomeBlend {
         private final float baseHeight;
         private final float heightVariation;
@@ -1,6 +1,13 @@
 package kr.co.opencraft.world;
 
+import java.io.IOException;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.metrics.jfr.ChunkLoadEvent;
+import kr.co.opencraft.world.cache.GeneratedChunkCache;
+import kr.co.opencraft.world.cache.OffHeapChunkArena;
+import kr.co.opencraft.world.store.RegionChunkStore;
 import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
 import kr.co.voxelite.world.IChunkGenerator;
 
 /**
@@ -9,19 +16,107 @@ import kr.co.voxelite.world.IChunkGenerator;
 public class TerrainGeneratorAdapter implements IChunkGenerator {
     private final long seed;
     private final ThreadLocal<TerrainGenerator> terrainGenerator;
+    private final GeneratedChunkCache generatedCache;
+    private final OffHeapChunkArena coldChunks;
+    private final RegionChunkStore chunkStore;
     
     public TerrainGeneratorAdapter(TerrainGenerator terrainGenerator) {
         this(terrainGenerator.getSeed());
     }
 
     public TerrainGeneratorAdapter(long seed) {
+        this(seed, null, null, null);
+    }
+
+    /**
+     * 싱글플레이 월드의 캐시 계층을 모두 사용
+     */
+    public TerrainGeneratorAdapter(SinglePlayerWorld world) {
+        this(
+            world.getSeed(),
+            world.getGeneratedCache(),
+            world.getColdChunks(),
+            world.getChunkStore()
+        );
+    }
+
+    /**
+     * 아래 계층은 모두 선택 사항이며 null이면 건너뜀. 조회 순서: coldChunks -> chunkStore -> generatedCache -> 생성
+     *
+     * 편집된 청크는 chunkStore에 저장되므로 생성 결과 캐시보다 먼저 확인함
+     *
+     * @param generatedCache 다시 방문한 청크를 재생성 대신 압축 해제로 채우는 캐시
+     * @param coldChunks 시야 밖으로 나간 청크(편집 포함)를 보관하는 off-heap 계층
+     * @param chunkStore 편집되었거나 사전 생성된 청크가 저장된 리전 파일
+     */
+    public TerrainGeneratorAdapter(
+        long seed,
+        GeneratedChunkCache generatedCache,
+        OffHeapChunkArena coldChunks,
+        RegionChunkStore chunkStore
+    ) {
         this.seed = seed;
-        this.terrainGenerator = ThreadLocal.withInitial(() -> new TerrainGenerator(seed));
+        // 스레드마다 생성기를 두되, 이웃 청크의 지형/지형지물 결과는 모든 스레드가 공유
+        PopulationCache population = new PopulationCache(seed);
+        this.terrainGenerator = ThreadLocal.withInitial(() -> new TerrainGenerator(seed, population));
+        this.generatedCache = generatedCache;
+        this.coldChunks = coldChunks;
+        this.chunkStore = chunkStore;
     }
     
     @Override
     public void generateChunk(Chunk chunk, int blockType) {
-        terrainGenerator.get().generateTerrain(chunk, blockType);
+        long start = System.nanoTime();
+        GeneratedChunk generated = load(chunk.getCoord());
+        generated.blocks().copyTo(chunk);
+        chunk.markAsGenerated();
+        OpenCraftMetrics.CHUNK_LOAD.recordSince(start);
+    }
+
+    /**
+     * 청크 하나의 블록을 가장 가까운 계층에서 읽어옴. 여러 스레드에서 동시에 호출해도 됨
+     */
+    public GeneratedChunk load(ChunkCoord coord) {
+        int chunkX = coord.x;
+        int chunkZ = coord.z;
+        ChunkLoadEvent event = new ChunkLoadEvent();
+        event.begin();
+        GeneratedChunk generated = coldChunks != null ? coldChunks.take(coord) : null;
+        if (generated != null) {
+            OpenCraftMetrics.CHUNK_FROM_COLD.increment();
+            event.complete(chunkX, chunkZ, ChunkLoadEvent.SOURCE_COLD);
+            return generated;
+        }
+        generated = chunkStore != null ? readStored(chunkX, chunkZ) : null;
+        if (generated != null) {
+            OpenCraftMetrics.CHUNK_FROM_STORE.increment();
+            event.complete(chunkX, chunkZ, ChunkLoadEvent.SOURCE_STORE);
+            return generated;
+        }
+        generated = generatedCache != null ? generatedCache.get(seed, chunkX, chunkZ) : null;
+        if (generated != null) {
+            OpenCraftMetrics.CHUNK_FROM_CACHE.increment();
+            event.complete(chunkX, chunkZ, ChunkLoadEvent.SOURCE_CACHE);
+            return generated;
+        }
+
+        generated = terrainGenerator.get().generateColumn(chunkX, chunkZ);
+        OpenCraftMetrics.CHUNK_FROM_GENERATOR.increment();
+        if (generatedCache != null) {
+            generatedCache.put(seed, chunkX, chunkZ, generated.blocks());
+        }
+        event.complete(chunkX, chunkZ, ChunkLoadEvent.SOURCE_GENERATOR);
+        return generated;
+    }
+
+    private GeneratedChunk readStored(int chunkX, int chunkZ) {
+        try {
+            return chunkStore.read(chunkX, chunkZ);
+        } catch (IOException e) {
+            // 손상된 리전은 무시하고 새로 생성
+            System.err.println("[TerrainGeneratorAdapter] Failed to read stored chunk " + chunkX + "," + chunkZ + ": " + e.getMessage());
+            return null;
+        }
     }
 
     public long getSeed() {
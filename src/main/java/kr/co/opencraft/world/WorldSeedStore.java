@@ -21,6 +21,13 @@ public final class WorldSeedStore {
         return loadOrCreateSeed(Path.of(worldPath), System::currentTimeMillis);
     }
 
+    /**
+     * Uses {@code seedIfMissing} for a new world; an existing world keeps its stored seed.
+     */
+    public static long loadOrCreateSeed(String worldPath, long seedIfMissing) throws IOException {
+        return loadOrCreateSeed(Path.of(worldPath), () -> seedIfMissing);
+    }
+
     static long loadOrCreateSeed(Path worldPath, LongSupplier seedSupplier) throws IOException {
         Files.createDirectories(worldPath);
 
@@ -0,0 +1,168 @@
+package kr.co.opencraft.world.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkSections;
+import kr.co.opencraft.world.section.PalettedSection;
+
+/**
+ * Compact serialized form of a {@link ChunkBlockBuffer} shared by the chunk caches.
+ */
+public final class ChunkBlockCodec {
+    private static final int FORMAT_VERSION = 1;
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private ChunkBlockCodec() {
+    }
+
+    /**
+     * Layout: version, non-empty section mask, then per section its palette followed by
+     * one palette index per block (a byte, or a short for palettes over 256 entries).
+     */
+    public static byte[] encode(ChunkBlockBuffer blocks) {
+        int sectionMask = 0;
+        for (int sectionIndex = 0; sectionIndex < ChunkSections.SECTION_COUNT; sectionIndex++) {
+            if (!blocks.isSectionEmpty(sectionIndex)) {
+                sectionMask |= 1 << sectionIndex;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096 * Integer.bitCount(sectionMask) + 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeShort(sectionMask);
+
+            int[] palette = new int[16];
+            int[] indices = new int[ChunkSections.BLOCKS_PER_SECTION];
+            byte[] narrowIndices = new byte[ChunkSections.BLOCKS_PER_SECTION];
+            for (int sectionIndex = 0; sectionIndex < ChunkSections.SECTION_COUNT; sectionIndex++) {
+                if ((sectionMask & (1 << sectionIndex)) == 0) {
+                    continue;
+                }
+
+                PalettedSection section = blocks.getSection(sectionIndex);
+                int paletteSize = 0;
+                int lastType = Integer.MIN_VALUE;
+                int lastIndex = 0;
+                for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+                    int blockType = section.get(index);
+                    if (blockType != lastType) {
+                        lastIndex = indexOf(palette, paletteSize, blockType);
+                        if (lastIndex < 0) {
+                            if (paletteSize == palette.length) {
+                                palette = Arrays.copyOf(palette, paletteSize * 2);
+                            }
+                            palette[paletteSize] = blockType;
+                            lastIndex = paletteSize++;
+                        }
+                        lastType = blockType;
+                    }
+                    indices[index] = lastIndex;
+                }
+
+                out.writeShort(paletteSize);
+                for (int i = 0; i < paletteSize; i++) {
+                    out.writeInt(palette[i]);
+                }
+                if (paletteSize > 256) {
+                    for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+                        out.writeShort(indices[index]);
+                    }
+                } else {
+                    for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+                        narrowIndices[index] = (byte) indices[index];
+                    }
+                    out.write(narrowIndices);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ChunkBlockBuffer decode(byte[] raw) {
+        ByteBuffer in = ByteBuffer.wrap(raw);
+        int version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("unknown cached chunk format: " + version);
+        }
+
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        int sectionMask = in.getShort() & 0xFFFF;
+        for (int sectionIndex = 0; sectionIndex < ChunkSections.SECTION_COUNT; sectionIndex++) {
+            if ((sectionMask & (1 << sectionIndex)) == 0) {
+                continue;
+            }
+
+            int paletteSize = in.getShort() & 0xFFFF;
+            int[] palette = new int[paletteSize];
+            for (int i = 0; i < paletteSize; i++) {
+                palette[i] = in.getInt();
+            }
+            boolean wide = paletteSize > 256;
+            int minY = sectionIndex * ChunkSections.SECTION_SIZE;
+            for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+                int blockType = palette[wide ? in.getShort() & 0xFFFF : in.get() & 0xFF];
+                if (blockType != BlockTypes.AIR) {
+                    blocks.set(index & 15, minY + (index >> 8), (index >> 4) & 15, blockType);
+                }
+            }
+        }
+        return blocks;
+    }
+
+    public static byte[] compress(byte[] raw) {
+        Deflater compressor = DEFLATER.get();
+        compressor.reset();
+        compressor.setInput(raw);
+        compressor.finish();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 8));
+        byte[] chunk = new byte[8192];
+        while (!compressor.finished()) {
+            int length = compressor.deflate(chunk);
+            compressed.write(chunk, 0, length);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Inflates the remaining bytes of {@code compressed}, which may be a direct buffer.
+     */
+    public static byte[] decompress(ByteBuffer compressed, int rawLength) {
+        Inflater decompressor = INFLATER.get();
+        decompressor.reset();
+        decompressor.setInput(compressed);
+
+        byte[] raw = new byte[rawLength];
+        try {
+            int offset = 0;
+            while (offset < raw.length && !decompressor.finished()) {
+                offset += decompressor.inflate(raw, offset, raw.length - offset);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupt cached chunk", e);
+        }
+        return raw;
+    }
+
+    private static int indexOf(int[] palette, int paletteSize, int blockType) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == blockType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,152 @@
+package kr.co.opencraft.world.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+
+/**
+ * Bounded LRU cache of generator output keyed by seed and chunk coordinate, so walking
+ * back over terrain costs an inflate instead of a full generation pass.
+ *
+ * Entries are {@link ChunkBlockCodec} payloads kept as heap byte arrays, so the byte
+ * budget bounds the memory actually held: evicted entries go with the next GC instead of
+ * waiting for a direct-buffer cleaner. Eviction is by compressed byte size.
+ *
+ * Every hit decodes a fresh {@link GeneratedChunk}, so callers may keep editing what they
+ * get back.
+ */
+public final class GeneratedChunkCache {
+    private final long capacityBytes;
+    private final BlockRegistry registry;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long storedBytes;
+
+    public GeneratedChunkCache(long capacityBytes) {
+        this(capacityBytes, OpenCraftBlockRegistry.blocks());
+    }
+
+    public GeneratedChunkCache(long capacityBytes, BlockRegistry registry) {
+        if (capacityBytes <= 0) {
+            throw new IllegalArgumentException("capacityBytes must be positive");
+        }
+        this.capacityBytes = capacityBytes;
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the cached chunk, or generates, stores and returns it.
+     */
+    public GeneratedChunk getOrGenerate(TerrainGenerator generator, int chunkX, int chunkZ) {
+        GeneratedChunk cached = get(generator.getSeed(), chunkX, chunkZ);
+        if (cached != null) {
+            return cached;
+        }
+
+        GeneratedChunk generated = generator.generateColumn(chunkX, chunkZ);
+        put(generator.getSeed(), chunkX, chunkZ, generated.blocks());
+        return generated;
+    }
+
+    /**
+     * @return a freshly decoded copy, or {@code null} on a miss
+     */
+    public GeneratedChunk get(long seed, int chunkX, int chunkZ) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(new Key(seed, chunkX, chunkZ));
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        ChunkBlockBuffer blocks = ChunkBlockCodec.decode(ChunkBlockCodec.decompress(ByteBuffer.wrap(entry.compressed()), entry.rawLength()));
+        return new GeneratedChunk(blocks, ChunkHeightmap.scan(blocks, registry));
+    }
+
+    public void put(long seed, int chunkX, int chunkZ, ChunkBlockBuffer blocks) {
+        byte[] raw = ChunkBlockCodec.encode(blocks);
+        byte[] compressed = ChunkBlockCodec.compress(raw);
+        if (compressed.length > capacityBytes) {
+            return;
+        }
+
+        Entry entry = new Entry(compressed, raw.length);
+        synchronized (entries) {
+            Entry previous = entries.put(new Key(seed, chunkX, chunkZ), entry);
+            if (previous != null) {
+                storedBytes -= previous.size();
+            }
+            storedBytes += entry.size();
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (storedBytes > capacityBytes && eldest.hasNext()) {
+                storedBytes -= eldest.next().size();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            storedBytes = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getStoredBytes() {
+        synchronized (entries) {
+            return storedBytes;
+        }
+    }
+
+    public long getCapacityBytes() {
+        return capacityBytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private record Key(long seed, int chunkX, int chunkZ) {
+    }
+
+    private record Entry(byte[] compressed, int rawLength) {
+        int size() {
+            return compressed.length;
+        }
+    }
+}
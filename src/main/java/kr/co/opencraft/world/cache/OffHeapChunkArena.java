@@ -0,0 +1,260 @@
+package kr.co.opencraft.world.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import kr.co.opencraft.metrics.jfr.WorldSaveEvent;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * Cold tier for chunks that left the keep-loaded radius but may come back soon.
+ *
+ * Chunks are serialized with {@link ChunkBlockCodec} into a ring of fixed-size direct
+ * buffer slabs, so the only heap cost per chunk is one index entry. Writes append to the
+ * current slab; when the ring wraps, every chunk still stored in the reused slab is
+ * evicted. Restored chunks leave the arena, so the oldest slab always holds the least
+ * recently stored chunks.
+ *
+ * Serializing can be moved off the caller's thread with {@link #park} and
+ * {@link #flushParked}: a parked engine chunk is visible to {@link #take} from the moment
+ * it is parked, so a reload that overtakes the serializer still gets the edited blocks.
+ */
+public final class OffHeapChunkArena {
+    private final int slabBytes;
+    private final ByteBuffer[] slabs;
+    private final int[] liveChunks;
+    private final BlockRegistry registry;
+    private final Map<ChunkCoord, Slot> index = new LinkedHashMap<>();
+    private final Map<ChunkCoord, Chunk> parked = new HashMap<>();
+    private int headSlab;
+    private int headOffset;
+    private long usedBytes;
+    private long stores;
+    private long restores;
+    private long evictions;
+
+    public OffHeapChunkArena(int slabBytes, int slabCount) {
+        this(slabBytes, slabCount, OpenCraftBlockRegistry.blocks());
+    }
+
+    public OffHeapChunkArena(int slabBytes, int slabCount, BlockRegistry registry) {
+        if (slabBytes <= 0 || slabCount <= 0) {
+            throw new IllegalArgumentException("slabBytes and slabCount must be positive");
+        }
+        this.slabBytes = slabBytes;
+        this.slabs = new ByteBuffer[slabCount];
+        this.liveChunks = new int[slabCount];
+        this.registry = registry;
+    }
+
+    /**
+     * Serializes the chunk into the arena, replacing an older copy.
+     *
+     * @return false if the chunk does not fit in a single slab
+     */
+    public boolean store(ChunkCoord coord, ChunkBlockBuffer blocks) {
+        return store(coord, blocks, null);
+    }
+
+    /**
+     * Registers an engine chunk whose serialization is still queued. The chunk must no
+     * longer be edited; {@link #take} copies it until {@link #flushParked} stores it.
+     */
+    public synchronized void park(ChunkCoord coord, Chunk chunk) {
+        release(index.remove(coord));
+        parked.put(coord, chunk);
+    }
+
+    /**
+     * Serializes a chunk registered with {@link #park}.
+     *
+     * @param blocks the blocks of {@code chunk}, copied by the caller
+     * @return false if the chunk was taken or discarded in the meantime, or does not fit
+     */
+    public boolean flushParked(ChunkCoord coord, Chunk chunk, ChunkBlockBuffer blocks) {
+        return store(coord, blocks, chunk);
+    }
+
+    /**
+     * Drops a chunk registered with {@link #park} without storing it, e.g. once its copy
+     * was saved elsewhere.
+     *
+     * @return false if the chunk was taken or replaced in the meantime
+     */
+    public synchronized boolean unpark(ChunkCoord coord, Chunk chunk) {
+        return parked.remove(coord, chunk);
+    }
+
+    private boolean store(ChunkCoord coord, ChunkBlockBuffer blocks, Chunk parkedChunk) {
+        WorldSaveEvent event = new WorldSaveEvent();
+        event.begin();
+        byte[] raw = ChunkBlockCodec.encode(blocks);
+        byte[] compressed = ChunkBlockCodec.compress(raw);
+        if (compressed.length > slabBytes) {
+            if (parkedChunk != null) {
+                synchronized (this) {
+                    parked.remove(coord, parkedChunk);
+                }
+            }
+            return false;
+        }
+
+        synchronized (this) {
+            if (parkedChunk != null) {
+                if (!parked.remove(coord, parkedChunk)) {
+                    return false;
+                }
+            } else {
+                parked.remove(coord);
+            }
+            release(index.remove(coord));
+            if (headOffset + compressed.length > slabBytes) {
+                advanceHead();
+            }
+
+            ByteBuffer slab = slab(headSlab);
+            slab.put(headOffset, compressed);
+            index.put(coord, new Slot(headSlab, headOffset, compressed.length, raw.length));
+            liveChunks[headSlab]++;
+            headOffset += compressed.length;
+            usedBytes += compressed.length;
+            stores++;
+        }
+        event.complete(WorldSaveEvent.OPERATION_COLD_PARK, coord.x, coord.z, compressed.length);
+        return true;
+    }
+
+    /**
+     * Removes a chunk from the arena and decodes it.
+     *
+     * @return the stored chunk, or {@code null} if it was never stored or got evicted
+     */
+    public GeneratedChunk take(ChunkCoord coord) {
+        ByteBuffer compressed;
+        Slot slot;
+        synchronized (this) {
+            Chunk pending = parked.remove(coord);
+            if (pending != null) {
+                restores++;
+                ChunkBlockBuffer blocks = ChunkBlockBuffer.copyOf(pending);
+                return new GeneratedChunk(blocks, ChunkHeightmap.scan(blocks, registry));
+            }
+            slot = index.remove(coord);
+            if (slot == null) {
+                return null;
+            }
+            byte[] copy = new byte[slot.length()];
+            slabs[slot.slab()].get(slot.offset(), copy);
+            compressed = ByteBuffer.wrap(copy);
+            release(slot);
+            restores++;
+        }
+
+        ChunkBlockBuffer blocks = ChunkBlockCodec.decode(ChunkBlockCodec.decompress(compressed, slot.rawLength()));
+        return new GeneratedChunk(blocks, ChunkHeightmap.scan(blocks, registry));
+    }
+
+    public synchronized boolean contains(ChunkCoord coord) {
+        return parked.containsKey(coord) || index.containsKey(coord);
+    }
+
+    public synchronized void discard(ChunkCoord coord) {
+        parked.remove(coord);
+        release(index.remove(coord));
+    }
+
+    public synchronized int size() {
+        return parked.size() + index.size();
+    }
+
+    /**
+     * Compressed bytes of the chunks currently stored.
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Direct memory reserved by the slabs allocated so far.
+     */
+    public synchronized long getReservedBytes() {
+        long reserved = 0L;
+        for (ByteBuffer slab : slabs) {
+            if (slab != null) {
+                reserved += slab.capacity();
+            }
+        }
+        return reserved;
+    }
+
+    public synchronized long getStoreCount() {
+        return stores;
+    }
+
+    public synchronized long getRestoreCount() {
+        return restores;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Drops every chunk and releases the slabs; they are allocated again on the next store.
+     */
+    public synchronized void clear() {
+        index.clear();
+        parked.clear();
+        Arrays.fill(slabs, null);
+        Arrays.fill(liveChunks, 0);
+        headSlab = 0;
+        headOffset = 0;
+        usedBytes = 0L;
+    }
+
+    private void advanceHead() {
+        headSlab = (headSlab + 1) % slabs.length;
+        headOffset = 0;
+        if (liveChunks[headSlab] == 0) {
+            return;
+        }
+
+        Iterator<Slot> slots = index.values().iterator();
+        while (slots.hasNext() && liveChunks[headSlab] > 0) {
+            Slot slot = slots.next();
+            if (slot.slab() == headSlab) {
+                slots.remove();
+                release(slot);
+                evictions++;
+            }
+        }
+    }
+
+    private ByteBuffer slab(int slabIndex) {
+        ByteBuffer slab = slabs[slabIndex];
+        if (slab == null) {
+            slab = ByteBuffer.allocateDirect(slabBytes);
+            slabs[slabIndex] = slab;
+        }
+        return slab;
+    }
+
+    private void release(Slot slot) {
+        if (slot != null) {
+            liveChunks[slot.slab()]--;
+            usedBytes -= slot.length();
+        }
+    }
+
+    private record Slot(int slab, int offset, int length, int rawLength) {
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co.opencraft.world.carver;
+
+import java.util.Random;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.noise.OctaveNoise;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Spaghetti-style noise caves: a block is carved where two independent noise fields
+ * are both close to zero, which traces long winding tunnels.
+ *
+ * Like the terrain density, both fields are sampled on a coarse 5x65x5 grid (every 4
+ * blocks) and trilinearly interpolated. Grid cells whose corner values keep either
+ * field away from zero are skipped without touching their 64 blocks.
+ */
+public final class NoiseCaveCarver {
+    private static final long CAVE_SEED_SALT = 0x5DEECE66DL;
+    private static final int OCTAVES = 2;
+    private static final double NOISE_RANGE = (1 << OCTAVES) - 1;
+    private static final int GRID_SIZE = 5;
+    private static final int CELL_SIZE = 4;
+    private static final int HEIGHT_SAMPLES = 65;
+    private static final double HORIZONTAL_SCALE = 0.075D;
+    private static final double VERTICAL_SCALE = 0.11D;
+    private static final double TUNNEL_RADIUS = 0.075D;
+    private static final int MIN_CAVE_Y = 6;
+    private static final int SURFACE_MARGIN = 4;
+
+    private final OctaveNoise firstField;
+    private final OctaveNoise secondField;
+    private double[] firstValues;
+    private double[] secondValues;
+
+    public NoiseCaveCarver(long seed) {
+        Random random = new Random(seed ^ CAVE_SEED_SALT);
+        this.firstField = new OctaveNoise(random, OCTAVES);
+        this.secondField = new OctaveNoise(random, OCTAVES);
+    }
+
+    /**
+     * Carves caves into the buffer, staying {@value #SURFACE_MARGIN} blocks below the
+     * heightmap surface so the surface and anything decorated on it stay unchanged.
+     *
+     * @return number of blocks carved
+     */
+    public int carve(ChunkBlockBuffer blocks, ChunkHeightmap heightmap, int chunkX, int chunkZ) {
+        int maxSurface = -1;
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                maxSurface = Math.max(maxSurface, heightmap.getWorldSurfaceY(localX, localZ));
+            }
+        }
+        int maxCaveY = maxSurface - SURFACE_MARGIN;
+        if (maxCaveY < MIN_CAVE_Y) {
+            return 0;
+        }
+
+        int coarseX = chunkX * (Chunk.CHUNK_SIZE / CELL_SIZE);
+        int coarseZ = chunkZ * (Chunk.CHUNK_SIZE / CELL_SIZE);
+        firstValues = firstField.generateNoise(
+            firstValues, coarseX, 0, coarseZ, GRID_SIZE, HEIGHT_SAMPLES, GRID_SIZE,
+            HORIZONTAL_SCALE, VERTICAL_SCALE, HORIZONTAL_SCALE
+        );
+        secondValues = secondField.generateNoise(
+            secondValues, coarseX, 0, coarseZ, GRID_SIZE, HEIGHT_SAMPLES, GRID_SIZE,
+            HORIZONTAL_SCALE, VERTICAL_SCALE, HORIZONTAL_SCALE
+        );
+
+        int carved = 0;
+        int maxCellY = Math.min(HEIGHT_SAMPLES - 2, maxCaveY / CELL_SIZE);
+        for (int cellX = 0; cellX < GRID_SIZE - 1; cellX++) {
+            for (int cellZ = 0; cellZ < GRID_SIZE - 1; cellZ++) {
+                for (int cellY = MIN_CAVE_Y / CELL_SIZE; cellY <= maxCellY; cellY++) {
+                    if (canSkipCell(firstValues, cellX, cellY, cellZ) || canSkipCell(secondValues, cellX, cellY, cellZ)) {
+                        continue;
+                    }
+                    carved += carveCell(blocks, heightmap, cellX, cellY, cellZ);
+                }
+            }
+        }
+        return carved;
+    }
+
+    private int carveCell(ChunkBlockBuffer blocks, ChunkHeightmap heightmap, int cellX, int cellY, int cellZ) {
+        int carved = 0;
+        for (int subX = 0; subX < CELL_SIZE; subX++) {
+            double fx = subX / (double) CELL_SIZE;
+            int localX = cellX * CELL_SIZE + subX;
+            for (int subZ = 0; subZ < CELL_SIZE; subZ++) {
+                double fz = subZ / (double) CELL_SIZE;
+                int localZ = cellZ * CELL_SIZE + subZ;
+                int columnLimit = heightmap.getWorldSurfaceY(localX, localZ) - SURFACE_MARGIN;
+                for (int subY = 0; subY < CELL_SIZE; subY++) {
+                    int y = cellY * CELL_SIZE + subY;
+                    if (y < MIN_CAVE_Y || y > columnLimit) {
+                        continue;
+                    }
+                    double fy = subY / (double) CELL_SIZE;
+                    double first = sample(firstValues, cellX, cellY, cellZ, fx, fy, fz);
+                    double second = sample(secondValues, cellX, cellY, cellZ, fx, fy, fz);
+                    if (first * first + second * second >= TUNNEL_RADIUS * TUNNEL_RADIUS) {
+                        continue;
+                    }
+                    int current = blocks.get(localX, y, localZ);
+                    if (current != BlockTypes.AIR && current != BlockTypes.BEDROCK) {
+                        blocks.set(localX, y, localZ, BlockTypes.AIR);
+                        carved++;
+                    }
+                }
+            }
+        }
+        return carved;
+    }
+
+    /**
+     * Trilinear interpolation keeps a field between its corner minimum and maximum, so a
+     * cell whose corners all lie on one side of the tunnel band cannot carve anything.
+     */
+    private static boolean canSkipCell(double[] values, int cellX, int cellY, int cellZ) {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (int corner = 0; corner < 8; corner++) {
+            double value = value(values, cellX + (corner & 1), cellY + ((corner >> 1) & 1), cellZ + (corner >> 2));
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return min >= TUNNEL_RADIUS || max <= -TUNNEL_RADIUS;
+    }
+
+    private static double sample(double[] values, int cellX, int cellY, int cellZ, double fx, double fy, double fz) {
+        double v000 = value(values, cellX, cellY, cellZ);
+        double v100 = value(values, cellX + 1, cellY, cellZ);
+        double v010 = value(values, cellX, cellY + 1, cellZ);
+        double v110 = value(values, cellX + 1, cellY + 1, cellZ);
+        double v001 = value(values, cellX, cellY, cellZ + 1);
+        double v101 = value(values, cellX + 1, cellY, cellZ + 1);
+        double v011 = value(values, cellX, cellY + 1, cellZ + 1);
+        double v111 = value(values, cellX + 1, cellY + 1, cellZ + 1);
+
+        double x00 = v000 + (v100 - v000) * fx;
+        double x10 = v010 + (v110 - v010) * fx;
+        double x01 = v001 + (v101 - v001) * fx;
+        double x11 = v011 + (v111 - v011) * fx;
+        double y0 = x00 + (x10 - x00) * fy;
+        double y1 = x01 + (x11 - x01) * fy;
+        return y0 + (y1 - y0) * fz;
+    }
+
+    private static double value(double[] values, int gridX, int gridY, int gridZ) {
+        return values[(gridX * GRID_SIZE + gridZ) * HEIGHT_SAMPLES + gridY] / NOISE_RANGE;
+    }
+}
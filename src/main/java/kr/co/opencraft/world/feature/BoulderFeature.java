@@ -0,0 +1,50 @@
+package kr.co.opencraft.world.feature;
+
+import kr.co.opencraft.world.Biome;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.ChunkSections;
+
+/**
+ * Small half-buried stone boulders on hill and mountain grass.
+ */
+public final class BoulderFeature implements FeatureDecorator {
+    private static final int MAX_RADIUS = 2;
+
+    @Override
+    public double density(Biome biome) {
+        return switch (biome) {
+            case HILLS -> 0.002D;
+            case MOUNTAIN -> 0.004D;
+            default -> 0.0D;
+        };
+    }
+
+    @Override
+    public int reach() {
+        return MAX_RADIUS;
+    }
+
+    @Override
+    public boolean canPlace(int surfaceBlock, int surfaceY) {
+        return surfaceBlock == BlockTypes.GRASS && surfaceY + MAX_RADIUS < ChunkSections.CHUNK_HEIGHT;
+    }
+
+    @Override
+    public void place(FeaturePlacement placement, DecorationTarget target) {
+        int radius = placement.random(103) < 0.6D ? 1 : MAX_RADIUS;
+        int centerX = placement.getWorldX();
+        int centerY = placement.getSurfaceY() + radius - 1;
+        int centerZ = placement.getWorldZ();
+        float limit = radius * radius + 0.5f;
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (dx * dx + dy * dy + dz * dz <= limit) {
+                        target.setBlockIfAir(centerX + dx, centerY + dy, centerZ + dz, BlockTypes.ORIGIN_STONE);
+                    }
+                }
+            }
+        }
+    }
+}
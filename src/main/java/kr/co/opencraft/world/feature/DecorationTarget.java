@@ -0,0 +1,62 @@
+package kr.co.opencraft.world.feature;
+
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * The chunk being decorated, addressed in world coordinates.
+ *
+ * Writes outside the chunk are dropped and reads there return air. A feature may read
+ * a block only to decide whether to overwrite that same block, so the part it writes
+ * in each chunk is the same no matter which chunk is generated first.
+ */
+public final class DecorationTarget {
+    private final ChunkBlockBuffer blocks;
+    private final ChunkHeightmap heightmap;
+    private final BlockRegistry registry;
+    private final int baseX;
+    private final int baseZ;
+
+    public DecorationTarget(ChunkBlockBuffer blocks, ChunkHeightmap heightmap, BlockRegistry registry, int chunkX, int chunkZ) {
+        this.blocks = blocks;
+        this.heightmap = heightmap;
+        this.registry = registry;
+        this.baseX = chunkX * Chunk.CHUNK_SIZE;
+        this.baseZ = chunkZ * Chunk.CHUNK_SIZE;
+    }
+
+    public boolean contains(int worldX, int worldZ) {
+        int localX = worldX - baseX;
+        int localZ = worldZ - baseZ;
+        return localX >= 0 && localX < Chunk.CHUNK_SIZE && localZ >= 0 && localZ < Chunk.CHUNK_SIZE;
+    }
+
+    /**
+     * Whether the inclusive column rectangle overlaps this chunk.
+     */
+    public boolean intersects(int minX, int minZ, int maxX, int maxZ) {
+        return maxX >= baseX && minX < baseX + Chunk.CHUNK_SIZE
+            && maxZ >= baseZ && minZ < baseZ + Chunk.CHUNK_SIZE;
+    }
+
+    public int getBlock(int worldX, int y, int worldZ) {
+        return contains(worldX, worldZ) ? blocks.get(worldX - baseX, y, worldZ - baseZ) : BlockTypes.AIR;
+    }
+
+    public void setBlock(int worldX, int y, int worldZ, int blockType) {
+        if (!contains(worldX, worldZ)) {
+            return;
+        }
+        blocks.set(worldX - baseX, y, worldZ - baseZ, blockType);
+        heightmap.raise(worldX - baseX, y, worldZ - baseZ, blockType, registry);
+    }
+
+    public void setBlockIfAir(int worldX, int y, int worldZ, int blockType) {
+        if (contains(worldX, worldZ) && blocks.isAir(worldX - baseX, y, worldZ - baseZ)) {
+            setBlock(worldX, y, worldZ, blockType);
+        }
+    }
+}
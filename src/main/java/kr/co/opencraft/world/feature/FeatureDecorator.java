@@ -0,0 +1,34 @@
+package kr.co.opencraft.world.feature;
+
+import kr.co.opencraft.world.Biome;
+
+/**
+ * One kind of surface decoration (trees, boulders, ...) run by {@link FeaturePipeline}.
+ *
+ * Features never scan the chunk themselves. The pipeline rolls one random value per
+ * column, picks at most one feature from the densities, and hands that feature a
+ * ready-made {@link FeaturePlacement}.
+ */
+public interface FeatureDecorator {
+
+    /**
+     * Chance per column in a biome; 0 keeps the feature out of it.
+     */
+    double density(Biome biome);
+
+    /**
+     * Furthest horizontal distance from the origin column the feature writes to.
+     */
+    int reach();
+
+    /**
+     * Decides from terrain alone, before any feature ran, whether a column can hold
+     * the feature.
+     */
+    boolean canPlace(int surfaceBlock, int surfaceY);
+
+    /**
+     * Writes the feature through {@code target}, which clips it to the current chunk.
+     */
+    void place(FeaturePlacement placement, DecorationTarget target);
+}
@@ -0,0 +1,131 @@
+package kr.co.opencraft.world.feature;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import kr.co.opencraft.world.Biome;
+import kr.co.opencraft.world.ColumnRandom;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Ordered set of {@link FeatureDecorator}s sharing one candidate pass per chunk.
+ *
+ * Each column draws a single random value. The features split [0, 1) by their
+ * density in that column's biome, so a column holds at most one feature. The biome
+ * is only looked up when the value falls under the largest possible total density.
+ */
+public final class FeaturePipeline {
+    private static final int CANDIDATE_SALT = 101;
+    private static final Comparator<FeaturePlacement> WORLD_ORDER =
+        Comparator.comparingInt(FeaturePlacement::getWorldX).thenComparingInt(FeaturePlacement::getWorldZ);
+
+    private final long seed;
+    private final List<FeatureDecorator> decorators;
+    private final double maxTotalDensity;
+    private final int maxReach;
+
+    public FeaturePipeline(long seed, List<FeatureDecorator> decorators) {
+        this.seed = seed;
+        this.decorators = List.copyOf(decorators);
+
+        double maxDensity = 0.0D;
+        for (Biome biome : Biome.values()) {
+            double total = 0.0D;
+            for (FeatureDecorator decorator : this.decorators) {
+                total += decorator.density(biome);
+            }
+            maxDensity = Math.max(maxDensity, total);
+        }
+        this.maxTotalDensity = maxDensity;
+
+        int reach = 0;
+        for (FeatureDecorator decorator : this.decorators) {
+            reach = Math.max(reach, decorator.reach());
+        }
+        this.maxReach = reach;
+    }
+
+    public static FeaturePipeline defaults(long seed) {
+        return new FeaturePipeline(seed, List.of(new OakTreeFeature(), new BoulderFeature()));
+    }
+
+    public int getMaxReach() {
+        return maxReach;
+    }
+
+    /**
+     * Picks the features rooted in one chunk from its undecorated terrain.
+     */
+    public FeaturePlacement[] collect(int chunkX, int chunkZ, ColumnSurface surface) {
+        List<FeaturePlacement> placements = new ArrayList<>();
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                int worldX = chunkX * Chunk.CHUNK_SIZE + localX;
+                int worldZ = chunkZ * Chunk.CHUNK_SIZE + localZ;
+                double roll = ColumnRandom.sample(seed, worldX, worldZ, CANDIDATE_SALT);
+                if (roll >= maxTotalDensity) {
+                    continue;
+                }
+
+                Biome biome = surface.biomeAt(worldX, worldZ);
+                FeatureDecorator feature = pick(biome, roll);
+                if (feature == null) {
+                    continue;
+                }
+                int surfaceY = surface.surfaceY(localX, localZ);
+                if (surfaceY < 0 || !feature.canPlace(surface.surfaceBlock(localX, surfaceY, localZ), surfaceY)) {
+                    continue;
+                }
+                placements.add(new FeaturePlacement(feature, seed, worldX, surfaceY, worldZ));
+            }
+        }
+        return placements.toArray(new FeaturePlacement[0]);
+    }
+
+    /**
+     * Places every gathered feature that can reach the target chunk, in world order so
+     * overlapping features resolve the same way in every chunk.
+     */
+    public void decorate(List<FeaturePlacement> gathered, DecorationTarget target) {
+        gathered.removeIf(placement -> !reaches(placement, target));
+        gathered.sort(WORLD_ORDER);
+        for (FeaturePlacement placement : gathered) {
+            placement.getFeature().place(placement, target);
+        }
+    }
+
+    private boolean reaches(FeaturePlacement placement, DecorationTarget target) {
+        int reach = placement.getFeature().reach();
+        return target.intersects(
+            placement.getWorldX() - reach,
+            placement.getWorldZ() - reach,
+            placement.getWorldX() + reach,
+            placement.getWorldZ() + reach
+        );
+    }
+
+    private FeatureDecorator pick(Biome biome, double roll) {
+        double upper = 0.0D;
+        for (FeatureDecorator decorator : decorators) {
+            upper += decorator.density(biome);
+            if (roll < upper) {
+                return decorator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Undecorated terrain the candidate pass reads, in the chunk's local columns.
+     */
+    public interface ColumnSurface {
+        Biome biomeAt(int worldX, int worldZ);
+
+        /**
+         * Top non-air y of the column, or a negative value when it is empty.
+         */
+        int surfaceY(int localX, int localZ);
+
+        int surfaceBlock(int localX, int surfaceY, int localZ);
+    }
+}
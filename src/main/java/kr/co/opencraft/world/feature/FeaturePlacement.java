@@ -0,0 +1,45 @@
+package kr.co.opencraft.world.feature;
+
+import kr.co.opencraft.world.ColumnRandom;
+
+/**
+ * A feature rooted on one surface column.
+ */
+public final class FeaturePlacement {
+    private final FeatureDecorator feature;
+    private final long seed;
+    private final int worldX;
+    private final int surfaceY;
+    private final int worldZ;
+
+    FeaturePlacement(FeatureDecorator feature, long seed, int worldX, int surfaceY, int worldZ) {
+        this.feature = feature;
+        this.seed = seed;
+        this.worldX = worldX;
+        this.surfaceY = surfaceY;
+        this.worldZ = worldZ;
+    }
+
+    public FeatureDecorator getFeature() {
+        return feature;
+    }
+
+    public int getWorldX() {
+        return worldX;
+    }
+
+    public int getSurfaceY() {
+        return surfaceY;
+    }
+
+    public int getWorldZ() {
+        return worldZ;
+    }
+
+    /**
+     * Column-local random value for shape variation, e.g. trunk height.
+     */
+    public double random(int salt) {
+        return ColumnRandom.sample(seed, worldX, worldZ, salt);
+    }
+}
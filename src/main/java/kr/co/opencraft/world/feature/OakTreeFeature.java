@@ -0,0 +1,59 @@
+package kr.co.opencraft.world.feature;
+
+import kr.co.opencraft.world.Biome;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.ChunkSections;
+
+/**
+ * Oak with a 4-6 block trunk and a two-layer crown.
+ */
+public final class OakTreeFeature implements FeatureDecorator {
+    private static final int CROWN_RADIUS = 2;
+
+    @Override
+    public double density(Biome biome) {
+        return switch (biome) {
+            case FOREST -> 0.015D;
+            case PLAINS -> 0.0025D;
+            default -> 0.0D;
+        };
+    }
+
+    @Override
+    public int reach() {
+        return CROWN_RADIUS;
+    }
+
+    @Override
+    public boolean canPlace(int surfaceBlock, int surfaceY) {
+        return surfaceBlock == BlockTypes.GRASS;
+    }
+
+    @Override
+    public void place(FeaturePlacement placement, DecorationTarget target) {
+        int trunkHeight = 4 + (int) (placement.random(102) * 3.0D);
+        int baseY = placement.getSurfaceY() + 1;
+        if (baseY + trunkHeight >= ChunkSections.CHUNK_HEIGHT) {
+            return;
+        }
+
+        int x = placement.getWorldX();
+        int z = placement.getWorldZ();
+        int crownY = baseY + trunkHeight - 1;
+        for (int y = crownY - 2; y <= crownY + 1; y++) {
+            int radius = y == crownY + 1 ? 1 : CROWN_RADIUS;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (radius == CROWN_RADIUS && Math.abs(dx) == CROWN_RADIUS && Math.abs(dz) == CROWN_RADIUS) {
+                        continue;
+                    }
+                    target.setBlockIfAir(x + dx, y, z + dz, BlockTypes.OAK_LEAVES);
+                }
+            }
+        }
+
+        for (int dy = 0; dy < trunkHeight; dy++) {
+            target.setBlock(x, baseY + dy, z, BlockTypes.OAK_LOG);
+        }
+    }
+}
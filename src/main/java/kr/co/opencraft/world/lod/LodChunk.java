@@ -0,0 +1,42 @@
+package kr.co.opencraft.world.lod;
+
+/**
+ * Low-detail surface of one chunk: terrain height at the 5x5 corners of the coarse
+ * 4-block grid and the top block of each of the 4x4 cells.
+ */
+public final class LodChunk {
+    public static final int CELLS = 4;
+    public static final int CORNERS = CELLS + 1;
+    public static final int CELL_SIZE = 4;
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final short[] cornerHeights;
+    private final int[] cellBlocks;
+
+    public LodChunk(int chunkX, int chunkZ, short[] cornerHeights, int[] cellBlocks) {
+        if (cornerHeights.length != CORNERS * CORNERS || cellBlocks.length != CELLS * CELLS) {
+            throw new IllegalArgumentException("LOD chunk expects 5x5 heights and 4x4 cells");
+        }
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.cornerHeights = cornerHeights;
+        this.cellBlocks = cellBlocks;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    public int getCornerHeight(int cornerX, int cornerZ) {
+        return cornerHeights[cornerX * CORNERS + cornerZ];
+    }
+
+    public int getCellBlock(int cellX, int cellZ) {
+        return cellBlocks[cellX * CELLS + cellZ];
+    }
+}
@@ -0,0 +1,118 @@
+package kr.co.opencraft.world.lod;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * Bounded cache of distant-terrain LOD chunks, separate from the full chunk world.
+ *
+ * Missing entries are generated on one low-priority background thread from the
+ * generator's coarse density grid, so a request never blocks the render thread.
+ * A coordinate is queued at most once; when its turn comes and the player has since
+ * moved so that it is outside the wanted ring, the task is dropped without generating.
+ */
+public class LodTerrainCache implements AutoCloseable {
+    private final TerrainGenerator generator;
+    private final int capacity;
+    private final Map<ChunkCoord, LodChunk> chunks;
+    private final Set<ChunkCoord> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger version = new AtomicInteger();
+    private final ExecutorService executor;
+    private volatile Ring wanted;
+
+    public LodTerrainCache(long seed, int capacity) {
+        this.generator = new TerrainGenerator(seed);
+        this.capacity = capacity;
+        this.chunks = new LinkedHashMap<>(capacity, 0.75f, true);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opencraft-lod-generator");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cached LOD chunk, or {@code null} after scheduling its generation.
+     */
+    public LodChunk getOrRequest(int chunkX, int chunkZ) {
+        ChunkCoord coord = new ChunkCoord(chunkX, chunkZ);
+        synchronized (chunks) {
+            LodChunk chunk = chunks.get(coord);
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+
+        if (pending.add(coord)) {
+            executor.execute(() -> generate(coord));
+        }
+        return null;
+    }
+
+    /**
+     * Incremented whenever a new LOD chunk becomes available.
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        synchronized (chunks) {
+            return chunks.size();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Sets the ring of chunks still worth generating, e.g. after the player crossed a
+     * chunk border. Queued requests outside it are skipped when they reach the worker.
+     *
+     * @param innerDistance exclusive Chebyshev distance from the center
+     * @param outerDistance inclusive Chebyshev distance from the center
+     */
+    public void retarget(int centerX, int centerZ, int innerDistance, int outerDistance) {
+        wanted = new Ring(centerX, centerZ, innerDistance, outerDistance);
+    }
+
+    private void generate(ChunkCoord coord) {
+        Ring ring = wanted;
+        if (ring != null && !ring.contains(coord.x, coord.z)) {
+            pending.remove(coord);
+            return;
+        }
+
+        LodChunk chunk = generator.generateLodChunk(coord.x, coord.z);
+        synchronized (chunks) {
+            chunks.put(coord, chunk);
+            if (chunks.size() > capacity) {
+                ChunkCoord eldest = chunks.keySet().iterator().next();
+                chunks.remove(eldest);
+            }
+        }
+        version.incrementAndGet();
+        pending.remove(coord);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record Ring(int centerX, int centerZ, int innerDistance, int outerDistance) {
+        boolean contains(int chunkX, int chunkZ) {
+            int distance = Math.max(Math.abs(chunkX - centerX), Math.abs(chunkZ - centerZ));
+            return distance > innerDistance && distance <= outerDistance;
+        }
+    }
+}
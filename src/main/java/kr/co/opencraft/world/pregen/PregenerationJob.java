@@ -0,0 +1,272 @@
+package kr.co.opencraft.world.pregen;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.PopulationCache;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.opencraft.world.store.RegionChunkStore;
+
+/**
+ * Generates every chunk within a square radius into a {@link RegionChunkStore}.
+ *
+ * Chunks are handed out in spiral order from the center, so the area around spawn is
+ * ready first. Workers run at minimum priority, skip chunks the store already has, and
+ * back off while the game thread reports that it is busy. They share one
+ * {@link PopulationCache}, so a chunk's terrain phase is not repeated for each neighbour
+ * another worker generates. Workers finish out of order, so callers that need a radius
+ * ready wait on {@link #awaitLeading} rather than the completed count.
+ */
+public final class PregenerationJob implements AutoCloseable {
+    private static final long THROTTLE_SLEEP_MS = 10L;
+    private static final int FLUSH_INTERVAL_CHUNKS = 64;
+
+    private final long seed;
+    private final PopulationCache population;
+    private final RegionChunkStore store;
+    private final int centerX;
+    private final int centerZ;
+    private final int total;
+    private final Thread[] workers;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final CountDownLatch finished;
+    private final BitSet completedIndices = new BitSet();
+    private int leadingCompleted;
+    private volatile boolean throttled;
+    private volatile boolean cancelled;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    public PregenerationJob(long seed, RegionChunkStore store, int centerX, int centerZ, int radius, int threads) {
+        if (radius < 0 || threads <= 0) {
+            throw new IllegalArgumentException("radius must be >= 0 and threads > 0");
+        }
+        this.seed = seed;
+        this.population = new PopulationCache(seed);
+        this.store = store;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.total = chunkCount(radius);
+        this.workers = new Thread[threads];
+        this.finished = new CountDownLatch(threads);
+    }
+
+    /**
+     * Number of chunks in the square of the given radius, which is also how many leading
+     * spiral positions cover that radius.
+     */
+    public static int chunkCount(int radius) {
+        int side = radius * 2 + 1;
+        return side * side;
+    }
+
+    /**
+     * Writes the chunk offset of spiral position {@code index} into {@code out} as (dx, dz).
+     * Ring r covers positions [(2r-1)^2, (2r+1)^2).
+     */
+    static void spiralOffset(int index, int[] out) {
+        if (index == 0) {
+            out[0] = 0;
+            out[1] = 0;
+            return;
+        }
+
+        int ring = (int) Math.ceil((Math.sqrt(index + 1) - 1) / 2);
+        while ((2 * ring - 1) * (2 * ring - 1) > index) {
+            ring--;
+        }
+        while ((2 * ring + 1) * (2 * ring + 1) <= index) {
+            ring++;
+        }
+
+        int position = index - (2 * ring - 1) * (2 * ring - 1);
+        int sideLength = 2 * ring;
+        int step = position % sideLength;
+        switch (position / sideLength) {
+            case 0 -> { out[0] = ring; out[1] = -ring + 1 + step; }
+            case 1 -> { out[0] = ring - 1 - step; out[1] = ring; }
+            case 2 -> { out[0] = -ring; out[1] = ring - 1 - step; }
+            default -> { out[0] = -ring + 1 + step; out[1] = -ring; }
+        }
+    }
+
+    public synchronized PregenerationJob start() {
+        if (startNanos != 0L) {
+            return this;
+        }
+
+        startNanos = System.nanoTime();
+        for (int i = 0; i < workers.length; i++) {
+            Thread worker = new Thread(this::runWorker, "opencraft-pregen-" + i);
+            worker.setDaemon(true);
+            worker.setPriority(Thread.MIN_PRIORITY);
+            workers[i] = worker;
+            worker.start();
+        }
+        return this;
+    }
+
+    /**
+     * While set, workers pause between chunks so generation does not compete with frames.
+     * The game drives this through {@link PregenerationThrottle} rather than per frame.
+     */
+    public void setThrottled(boolean throttled) {
+        this.throttled = throttled;
+    }
+
+    public boolean isDone() {
+        return finished.getCount() == 0;
+    }
+
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * Number of spiral positions, counted from the center, that are all completed.
+     */
+    public synchronized int getLeadingCompleted() {
+        return leadingCompleted;
+    }
+
+    /**
+     * Waits until the first {@code count} spiral positions are completed, e.g.
+     * {@code chunkCount(radius)} for a radius around the center.
+     *
+     * @return true once those chunks are completed or the job has finished, false on timeout
+     */
+    public synchronized boolean awaitLeading(int count, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (leadingCompleted < Math.min(count, total) && !isDone()) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+        return true;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public Progress getProgress() {
+        int generatedCount = generated.get();
+        int skippedCount = skipped.get();
+        int failedCount = failed.get();
+        long start = startNanos;
+        long end = endNanos != 0L ? endNanos : System.nanoTime();
+        long elapsedNanos = start == 0L ? 0L : end - start;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new Progress(
+            generatedCount + skippedCount + failedCount,
+            generatedCount,
+            skippedCount,
+            failedCount,
+            total,
+            seconds > 0.0 ? generatedCount / seconds : 0.0,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+        );
+    }
+
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    private void runWorker() {
+        TerrainGenerator generator = new TerrainGenerator(seed, population);
+        int[] offset = new int[2];
+        try {
+            int index;
+            while (!cancelled && (index = nextIndex.getAndIncrement()) < total) {
+                waitWhileThrottled();
+                spiralOffset(index, offset);
+                generate(generator, centerX + offset[0], centerZ + offset[1]);
+                markCompleted(index);
+            }
+        } finally {
+            flushStore();
+            synchronized (this) {
+                if (finished.getCount() == 1) {
+                    endNanos = System.nanoTime();
+                }
+                finished.countDown();
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized void markCompleted(int index) {
+        completedIndices.set(index);
+        int leading = completedIndices.nextClearBit(leadingCompleted);
+        if (leading != leadingCompleted) {
+            leadingCompleted = leading;
+            notifyAll();
+        }
+    }
+
+    private void generate(TerrainGenerator generator, int chunkX, int chunkZ) {
+        try {
+            if (store.contains(chunkX, chunkZ)) {
+                skipped.incrementAndGet();
+                return;
+            }
+            GeneratedChunk chunk = generator.generateColumn(chunkX, chunkZ);
+            if (store.writeIfAbsent(chunkX, chunkZ, chunk.blocks())) {
+                if (generated.incrementAndGet() % FLUSH_INTERVAL_CHUNKS == 0) {
+                    store.flush();
+                }
+            } else {
+                skipped.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            System.err.println("[Pregeneration] Failed chunk " + chunkX + "," + chunkZ + ": " + e.getMessage());
+        }
+    }
+
+    private void flushStore() {
+        try {
+            store.flush();
+        } catch (IOException e) {
+            System.err.println("[Pregeneration] Failed to flush chunk store: " + e.getMessage());
+        }
+    }
+
+    private void waitWhileThrottled() {
+        while (throttled && !cancelled) {
+            try {
+                Thread.sleep(THROTTLE_SLEEP_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * @param completed chunks generated, skipped or failed so far
+     * @param chunksPerSecond generation rate since the job started, excluding skipped chunks
+     */
+    public record Progress(
+        int completed,
+        int generated,
+        int skipped,
+        int failed,
+        int total,
+        double chunksPerSecond,
+        long elapsedMillis
+    ) {
+        public float fraction() {
+            return total == 0 ? 1f : (float) completed / total;
+        }
+    }
+}
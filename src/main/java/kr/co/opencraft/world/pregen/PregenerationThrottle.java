@@ -0,0 +1,43 @@
+package kr.co.opencraft.world.pregen;
+
+/**
+ * Decides from recent frame times whether background pregeneration should pause.
+ *
+ * A single hitch (a GC pause, a chunk mesh upload) should not stop and restart the
+ * workers, so the throttle engages only once several of the last {@link #WINDOW_FRAMES}
+ * frames were slow, and releases only after a whole window passed without a slow frame.
+ */
+public final class PregenerationThrottle {
+    static final int WINDOW_FRAMES = 30;
+    static final int ENGAGE_SLOW_FRAMES = 3;
+
+    private final boolean[] window = new boolean[WINDOW_FRAMES];
+    private int next;
+    private int slowFrames;
+    private boolean throttled;
+
+    /**
+     * Records one frame and returns whether pregeneration should be throttled now.
+     */
+    public boolean recordFrame(boolean slow) {
+        if (window[next]) {
+            slowFrames--;
+        }
+        window[next] = slow;
+        if (slow) {
+            slowFrames++;
+        }
+        next = (next + 1) % WINDOW_FRAMES;
+
+        if (!throttled && slowFrames >= ENGAGE_SLOW_FRAMES) {
+            throttled = true;
+        } else if (throttled && slowFrames == 0) {
+            throttled = false;
+        }
+        return throttled;
+    }
+
+    public boolean isThrottled() {
+        return throttled;
+    }
+}
@@ -0,0 +1,109 @@
+package kr.co.opencraft.world.section;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Primitive block storage for one chunk column, one {@link PalettedSection} per
+ * 16-high section. All-air sections are not allocated.
+ *
+ * This is the generator, cache and save format. The engine's {@link Chunk.BlockData} is
+ * what the mesher and physics read, so a buffer is copied into the engine chunk and then
+ * dropped; loaded chunks are not kept twice.
+ */
+public final class ChunkBlockBuffer {
+    private final PalettedSection[] sections = new PalettedSection[ChunkSections.SECTION_COUNT];
+
+    public int get(int localX, int y, int localZ) {
+        if (!contains(localX, y, localZ)) {
+            return BlockTypes.AIR;
+        }
+        PalettedSection section = sections[ChunkSections.sectionIndex(y)];
+        return section == null ? BlockTypes.AIR : section.get(localX, y & 15, localZ);
+    }
+
+    public boolean isAir(int localX, int y, int localZ) {
+        return get(localX, y, localZ) == BlockTypes.AIR;
+    }
+
+    /**
+     * Writes outside the column are ignored, matching {@link Chunk#addBlockLocal}.
+     */
+    public int set(int localX, int y, int localZ, int blockType) {
+        if (!contains(localX, y, localZ)) {
+            return BlockTypes.AIR;
+        }
+
+        int sectionIndex = ChunkSections.sectionIndex(y);
+        PalettedSection section = sections[sectionIndex];
+        if (section == null) {
+            if (blockType == BlockTypes.AIR) {
+                return BlockTypes.AIR;
+            }
+            section = new PalettedSection();
+            sections[sectionIndex] = section;
+        }
+        return section.set(localX, y & 15, localZ, blockType);
+    }
+
+    public PalettedSection getSection(int sectionIndex) {
+        return sections[sectionIndex];
+    }
+
+    public boolean isSectionEmpty(int sectionIndex) {
+        PalettedSection section = sections[sectionIndex];
+        return section == null || section.isEmpty();
+    }
+
+    public void copyTo(Chunk chunk) {
+        for (int sectionIndex = 0; sectionIndex < ChunkSections.SECTION_COUNT; sectionIndex++) {
+            PalettedSection section = sections[sectionIndex];
+            if (section == null || section.isEmpty()) {
+                continue;
+            }
+
+            int minY = sectionIndex * ChunkSections.SECTION_SIZE;
+            for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+                int blockType = section.get(index);
+                if (blockType != BlockTypes.AIR) {
+                    chunk.addBlockLocal(index & 15, minY + (index >> 8), (index >> 4) & 15, blockType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies an engine chunk block by block, e.g. to save it after it was edited.
+     * Costs a full pass over the column.
+     */
+    public static ChunkBlockBuffer copyOf(Chunk chunk) {
+        ChunkBlockBuffer buffer = new ChunkBlockBuffer();
+        for (int y = 0; y < ChunkSections.CHUNK_HEIGHT; y++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                    Chunk.BlockData block = chunk.getBlock(localX, y, localZ);
+                    if (block != null) {
+                        buffer.set(localX, y, localZ, block.blockType);
+                    }
+                }
+            }
+        }
+        return buffer;
+    }
+
+    public long estimateMemoryBytes() {
+        long bytes = 16L + sections.length * 8L;
+        for (PalettedSection section : sections) {
+            if (section != null) {
+                bytes += section.estimateMemoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean contains(int localX, int y, int localZ) {
+        return localX >= 0 && localX < Chunk.CHUNK_SIZE
+            && localZ >= 0 && localZ < Chunk.CHUNK_SIZE
+            && ChunkSections.isValidY(y);
+    }
+}
@@ -0,0 +1,143 @@
+package kr.co.opencraft.world.section;
+
+import java.util.Arrays;
+import kr.co.opencraft.world.BlockDefinition;
+import kr.co.opencraft.world.BlockMaterial;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Per-column top block heights of one chunk, so surface lookups do not scan 256 blocks.
+ *
+ * WORLD_SURFACE is the highest non-air block. MOTION_BLOCKING is the highest block that
+ * stops movement or holds fluid. Empty columns report {@link #NONE}.
+ */
+public final class ChunkHeightmap {
+    public static final int NONE = -1;
+    private static final int COLUMNS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+
+    private final short[] worldSurface = new short[COLUMNS];
+    private final short[] motionBlocking = new short[COLUMNS];
+
+    public ChunkHeightmap() {
+        Arrays.fill(worldSurface, (short) NONE);
+        Arrays.fill(motionBlocking, (short) NONE);
+    }
+
+    public static ChunkHeightmap scan(ChunkBlockBuffer blocks, BlockRegistry registry) {
+        ChunkHeightmap heightmap = new ChunkHeightmap();
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                heightmap.rescanColumn(blocks, localX, ChunkSections.CHUNK_HEIGHT - 1, localZ, registry);
+            }
+        }
+        return heightmap;
+    }
+
+    /**
+     * Builds the heightmap straight from an engine chunk, e.g. one decoded from a
+     * ChunkDataPacket. Each column is read top-down only until its first motion-blocking
+     * block.
+     */
+    public static ChunkHeightmap scan(Chunk chunk, BlockRegistry registry) {
+        ChunkHeightmap heightmap = new ChunkHeightmap();
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                heightmap.rescanColumn(chunk, localX, ChunkSections.CHUNK_HEIGHT - 1, localZ, registry);
+            }
+        }
+        return heightmap;
+    }
+
+    public static boolean isMotionBlocking(int blockType, BlockRegistry registry) {
+        if (blockType == BlockTypes.AIR) {
+            return false;
+        }
+        BlockDefinition definition = registry.get(blockType);
+        return definition.solid() || definition.material() == BlockMaterial.WATER;
+    }
+
+    public int getWorldSurfaceY(int localX, int localZ) {
+        return worldSurface[index(localX, localZ)];
+    }
+
+    public int getMotionBlockingY(int localX, int localZ) {
+        return motionBlocking[index(localX, localZ)];
+    }
+
+    /**
+     * Records a block the generator placed; heights only ever rise here.
+     */
+    public void raise(int localX, int y, int localZ, int blockType, BlockRegistry registry) {
+        if (blockType == BlockTypes.AIR) {
+            return;
+        }
+        int index = index(localX, localZ);
+        if (y > worldSurface[index]) {
+            worldSurface[index] = (short) y;
+        }
+        if (y > motionBlocking[index] && isMotionBlocking(blockType, registry)) {
+            motionBlocking[index] = (short) y;
+        }
+    }
+
+    /**
+     * Applies an edit that already happened in the engine chunk. Only removing or
+     * replacing the current top block needs a downward scan.
+     */
+    public void update(Chunk chunk, int localX, int y, int localZ, BlockRegistry registry) {
+        int index = index(localX, localZ);
+        if (y >= worldSurface[index] || y >= motionBlocking[index]) {
+            rescanColumn(chunk, localX, Math.max(y, Math.max(worldSurface[index], motionBlocking[index])), localZ, registry);
+        }
+    }
+
+    private void rescanColumn(ChunkBlockBuffer blocks, int localX, int fromY, int localZ, BlockRegistry registry) {
+        int index = index(localX, localZ);
+        int surface = NONE;
+        int blocking = NONE;
+        for (int y = fromY; y >= 0 && blocking == NONE; y--) {
+            if (blocks.isSectionEmpty(ChunkSections.sectionIndex(y))) {
+                y &= ~(ChunkSections.SECTION_SIZE - 1);
+                continue;
+            }
+            int blockType = blocks.get(localX, y, localZ);
+            if (blockType == BlockTypes.AIR) {
+                continue;
+            }
+            if (surface == NONE) {
+                surface = y;
+            }
+            if (isMotionBlocking(blockType, registry)) {
+                blocking = y;
+            }
+        }
+        worldSurface[index] = (short) surface;
+        motionBlocking[index] = (short) blocking;
+    }
+
+    private void rescanColumn(Chunk chunk, int localX, int fromY, int localZ, BlockRegistry registry) {
+        int index = index(localX, localZ);
+        int surface = NONE;
+        int blocking = NONE;
+        for (int y = fromY; y >= 0 && blocking == NONE; y--) {
+            Chunk.BlockData block = chunk.getBlock(localX, y, localZ);
+            if (block == null || block.blockType == BlockTypes.AIR) {
+                continue;
+            }
+            if (surface == NONE) {
+                surface = y;
+            }
+            if (isMotionBlocking(block.blockType, registry)) {
+                blocking = y;
+            }
+        }
+        worldSurface[index] = (short) surface;
+        motionBlocking[index] = (short) blocking;
+    }
+
+    private static int index(int localX, int localZ) {
+        return localZ * Chunk.CHUNK_SIZE + localX;
+    }
+}
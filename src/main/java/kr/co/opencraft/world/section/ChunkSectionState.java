@@ -0,0 +1,68 @@
+package kr.co.opencraft.world.section;
+
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * What OpenCraft tracks about one chunk column: the engine chunk itself, its heightmap
+ * and whether it was edited since it was loaded.
+ *
+ * Blocks are not mirrored here; the engine chunk is the only in-memory copy and the one
+ * lookups read. The heightmap is kept current with {@link #syncBlock}.
+ *
+ * A state is only touched on the thread that applies chunks and block edits to the
+ * engine (the render thread), so its fields need no synchronization.
+ */
+public final class ChunkSectionState {
+    private final Chunk chunk;
+    private final ChunkHeightmap heightmap;
+    private final BlockRegistry registry;
+    private boolean modified;
+
+    private ChunkSectionState(Chunk chunk, ChunkHeightmap heightmap, BlockRegistry registry) {
+        this.chunk = chunk;
+        this.heightmap = heightmap;
+        this.registry = registry;
+    }
+
+    public static ChunkSectionState scan(Chunk chunk, BlockRegistry registry) {
+        return of(chunk, ChunkHeightmap.scan(chunk, registry), registry);
+    }
+
+    /**
+     * Uses a heightmap that already matches the chunk, e.g. the one the generator built.
+     */
+    public static ChunkSectionState of(Chunk chunk, ChunkHeightmap heightmap, BlockRegistry registry) {
+        return new ChunkSectionState(chunk, heightmap, registry);
+    }
+
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    public ChunkHeightmap getHeightmap() {
+        return heightmap;
+    }
+
+    public int getBlockType(int localX, int y, int localZ) {
+        Chunk.BlockData block = chunk.getBlock(localX, y, localZ);
+        return block == null ? BlockTypes.AIR : block.blockType;
+    }
+
+    /**
+     * Whether a block was edited since the chunk was tracked, i.e. it differs from what
+     * it was loaded from and has to be saved when it unloads.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Updates the heightmap after the engine chunk was edited at this position.
+     */
+    void syncBlock(int localX, int y, int localZ) {
+        heightmap.update(chunk, localX, y, localZ, registry);
+        modified = true;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.opencraft.world.section;
+
+import kr.co.voxelite.world.Chunk;
+
+/**
+ * Layout of a 256-high chunk column split into 16-high sections.
+ */
+public final class ChunkSections {
+    public static final int SECTION_SIZE = Chunk.CHUNK_SIZE;
+    public static final int SECTION_COUNT = 16;
+    public static final int CHUNK_HEIGHT = SECTION_SIZE * SECTION_COUNT;
+    public static final int BLOCKS_PER_SECTION = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+    public static final int ALL_SECTIONS = (1 << SECTION_COUNT) - 1;
+
+    private ChunkSections() {
+    }
+
+    public static int sectionIndex(int y) {
+        return y >> 4;
+    }
+
+    public static boolean isValidY(int y) {
+        return y >= 0 && y < CHUNK_HEIGHT;
+    }
+
+    /**
+     * Packs a chunk column coordinate into one long map key.
+     */
+    public static long columnKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.co.opencraft.world.section;
+
+import java.util.Arrays;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.BlockTypes;
+
+/**
+ * 16x16x16 block storage: a small palette of block types plus a packed array of
+ * palette indices. A section with two to four block types needs 1-2 bits per block
+ * and the index width grows only when a new type no longer fits.
+ *
+ * Entries never straddle two longs, so reads are one shift and one mask.
+ */
+public final class PalettedSection {
+    private static final int MIN_BITS = 1;
+
+    private int[] palette;
+    private int paletteSize;
+    private int bitsPerEntry;
+    private int entriesPerLong;
+    private long entryMask;
+    private long[] data;
+    private int nonAirCount;
+
+    public PalettedSection() {
+        palette = new int[1 << MIN_BITS];
+        palette[0] = BlockTypes.AIR;
+        paletteSize = 1;
+        resize(MIN_BITS);
+    }
+
+    public static int index(int localX, int localY, int localZ) {
+        return (localY << 8) | (localZ << 4) | localX;
+    }
+
+    public int get(int localX, int localY, int localZ) {
+        return get(index(localX, localY, localZ));
+    }
+
+    public int get(int index) {
+        return palette[readEntry(index)];
+    }
+
+    /**
+     * @return the block type that was stored before
+     */
+    public int set(int localX, int localY, int localZ, int blockType) {
+        return set(index(localX, localY, localZ), blockType);
+    }
+
+    public int set(int index, int blockType) {
+        int paletteIndex = paletteIndexOf(blockType);
+        if (paletteIndex < 0) {
+            paletteIndex = addToPalette(blockType);
+        }
+
+        int previousIndex = readEntry(index);
+        if (previousIndex == paletteIndex) {
+            return blockType;
+        }
+
+        writeEntry(index, paletteIndex);
+        int previous = palette[previousIndex];
+        if (previous == BlockTypes.AIR) {
+            nonAirCount++;
+        } else if (blockType == BlockTypes.AIR) {
+            nonAirCount--;
+        }
+        return previous;
+    }
+
+    public boolean isEmpty() {
+        return nonAirCount == 0;
+    }
+
+    public int getNonAirCount() {
+        return nonAirCount;
+    }
+
+    public int getBitsPerEntry() {
+        return bitsPerEntry;
+    }
+
+    public int getPaletteSize() {
+        return paletteSize;
+    }
+
+    public long estimateMemoryBytes() {
+        return 16L + palette.length * 4L + data.length * 8L;
+    }
+
+    private int paletteIndexOf(int blockType) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == blockType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int addToPalette(int blockType) {
+        if (paletteSize == 1 << bitsPerEntry) {
+            resize(bitsPerEntry + 1);
+        }
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, palette.length * 2);
+        }
+        palette[paletteSize] = blockType;
+        return paletteSize++;
+    }
+
+    private void resize(int newBits) {
+        long[] oldData = data;
+        int oldBits = bitsPerEntry;
+        int oldEntriesPerLong = entriesPerLong;
+        long oldMask = entryMask;
+
+        bitsPerEntry = newBits;
+        entriesPerLong = Long.SIZE / newBits;
+        entryMask = (1L << newBits) - 1L;
+        data = new long[(ChunkSections.BLOCKS_PER_SECTION + entriesPerLong - 1) / entriesPerLong];
+
+        if (oldData == null) {
+            return;
+        }
+        for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+            long word = oldData[index / oldEntriesPerLong];
+            int entry = (int) ((word >>> ((index % oldEntriesPerLong) * oldBits)) & oldMask);
+            if (entry != 0) {
+                writeEntry(index, entry);
+            }
+        }
+    }
+
+    private int readEntry(int index) {
+        long word = data[index / entriesPerLong];
+        return (int) ((word >>> ((index % entriesPerLong) * bitsPerEntry)) & entryMask);
+    }
+
+    private void writeEntry(int index, int entry) {
+        int wordIndex = index / entriesPerLong;
+        int shift = (index % entriesPerLong) * bitsPerEntry;
+        data[wordIndex] = (data[wordIndex] & ~(entryMask << shift)) | ((long) entry << shift);
+    }
+}
@@ -0,0 +1,199 @@
+package kr.co.opencraft.world.section;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import kr.co.opencraft.metrics.jfr.ChunkUnloadEvent;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.ChunkLoadPolicy;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+
+/**
+ * Tracks section-level summaries for every chunk OpenCraft applied to the engine, whether
+ * streamed in single player or received from the server.
+ *
+ * Meshing stays with the engine, which rebuilds the whole column on every edit and has no
+ * per-section remesh entry point; the summaries here only feed OpenCraft's own queries
+ * (surface height, block lookups) and save decisions. A block change updates only the one
+ * block it touched. Tracking, edits and eviction all run on the render thread.
+ */
+public class SectionTracker {
+    private final BlockRegistry blocks;
+    private final ChunkLoadPolicy loadPolicy;
+    private final Map<Long, ChunkSectionState> states = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private int playerChunkX = Integer.MIN_VALUE;
+    private int playerChunkZ = Integer.MIN_VALUE;
+
+    public SectionTracker() {
+        this(OpenCraftBlockRegistry.blocks(), null);
+    }
+
+    public SectionTracker(ChunkLoadPolicy loadPolicy) {
+        this(OpenCraftBlockRegistry.blocks(), loadPolicy);
+    }
+
+    public SectionTracker(BlockRegistry blocks, ChunkLoadPolicy loadPolicy) {
+        this.blocks = Objects.requireNonNull(blocks, "blocks");
+        this.loadPolicy = loadPolicy;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    public ChunkSectionState track(Chunk chunk) {
+        return register(ChunkSectionState.scan(chunk, blocks));
+    }
+
+    /**
+     * Tracks a freshly loaded chunk, reusing the heightmap built while filling it.
+     */
+    public ChunkSectionState track(Chunk chunk, ChunkHeightmap heightmap) {
+        return register(ChunkSectionState.of(chunk, heightmap, blocks));
+    }
+
+    private ChunkSectionState register(ChunkSectionState state) {
+        ChunkCoord coord = state.getChunk().getCoord();
+        states.put(ChunkSections.columnKey(coord.x, coord.z), state);
+        return state;
+    }
+
+    public void untrack(ChunkCoord coord) {
+        states.remove(ChunkSections.columnKey(coord.x, coord.z));
+    }
+
+    public ChunkSectionState get(ChunkCoord coord) {
+        return get(coord.x, coord.z);
+    }
+
+    public ChunkSectionState get(int chunkX, int chunkZ) {
+        return states.get(ChunkSections.columnKey(chunkX, chunkZ));
+    }
+
+    public boolean isTracked(ChunkCoord coord) {
+        return isTracked(coord.x, coord.z);
+    }
+
+    public boolean isTracked(int chunkX, int chunkZ) {
+        return states.containsKey(ChunkSections.columnKey(chunkX, chunkZ));
+    }
+
+    public int getTrackedChunkCount() {
+        return states.size();
+    }
+
+    public void forEachTracked(Consumer<ChunkSectionState> action) {
+        states.values().forEach(action);
+    }
+
+    /**
+     * Highest motion-blocking block at a world column, or {@link ChunkHeightmap#NONE}
+     * when the chunk is not tracked or the column is empty.
+     */
+    public int getSurfaceY(int worldX, int worldZ) {
+        ChunkSectionState state = get(
+            Math.floorDiv(worldX, Chunk.CHUNK_SIZE),
+            Math.floorDiv(worldZ, Chunk.CHUNK_SIZE)
+        );
+        if (state == null) {
+            return ChunkHeightmap.NONE;
+        }
+        return state.getHeightmap().getMotionBlockingY(
+            Math.floorMod(worldX, Chunk.CHUNK_SIZE),
+            Math.floorMod(worldZ, Chunk.CHUNK_SIZE)
+        );
+    }
+
+    /**
+     * Block at a world position in the engine chunk, {@link BlockTypes#AIR} when the chunk
+     * is not tracked.
+     */
+    public int getBlockType(int worldX, int y, int worldZ) {
+        ChunkSectionState state = get(
+            Math.floorDiv(worldX, Chunk.CHUNK_SIZE),
+            Math.floorDiv(worldZ, Chunk.CHUNK_SIZE)
+        );
+        if (state == null) {
+            return BlockTypes.AIR;
+        }
+        return state.getBlockType(
+            Math.floorMod(worldX, Chunk.CHUNK_SIZE),
+            y,
+            Math.floorMod(worldZ, Chunk.CHUNK_SIZE)
+        );
+    }
+
+    public void onBlockChanged(Vector3 blockPosition) {
+        onBlockChanged(
+            MathUtils.floor(blockPosition.x),
+            MathUtils.floor(blockPosition.y),
+            MathUtils.floor(blockPosition.z)
+        );
+    }
+
+    /**
+     * Updates the tracked summary after the engine chunk was edited.
+     */
+    public void onBlockChanged(int worldX, int y, int worldZ) {
+        if (!ChunkSections.isValidY(y)) {
+            return;
+        }
+
+        ChunkSectionState state = get(
+            Math.floorDiv(worldX, Chunk.CHUNK_SIZE),
+            Math.floorDiv(worldZ, Chunk.CHUNK_SIZE)
+        );
+        if (state == null) {
+            return;
+        }
+        state.syncBlock(Math.floorMod(worldX, Chunk.CHUNK_SIZE), y, Math.floorMod(worldZ, Chunk.CHUNK_SIZE));
+    }
+
+    /**
+     * Drops chunks the load policy no longer keeps in memory. Only runs when the
+     * player crosses a chunk border.
+     */
+    public void updatePlayerChunk(int chunkX, int chunkZ) {
+        if (loadPolicy == null || (chunkX == playerChunkX && chunkZ == playerChunkZ)) {
+            return;
+        }
+
+        playerChunkX = chunkX;
+        playerChunkZ = chunkZ;
+        Iterator<ChunkSectionState> iterator = states.values().iterator();
+        while (iterator.hasNext()) {
+            ChunkSectionState state = iterator.next();
+            ChunkCoord coord = state.getChunk().getCoord();
+            if (!loadPolicy.shouldKeepLoaded(coord.x, coord.z, chunkX, chunkZ)) {
+                iterator.remove();
+                ChunkUnloadEvent.emit(coord.x, coord.z,
+                    Math.max(Math.abs(coord.x - chunkX), Math.abs(coord.z - chunkZ)), ChunkUnloadEvent.REASON_OUT_OF_RANGE);
+                for (Listener listener : listeners) {
+                    listener.chunkEvicted(state, chunkX, chunkZ);
+                }
+            }
+        }
+    }
+
+    /**
+     * Observer for tracked chunks.
+     */
+    public interface Listener {
+        /**
+         * Called on the render thread when the player moved far enough that the load
+         * policy no longer keeps the chunk.
+         */
+        default void chunkEvicted(ChunkSectionState state, int playerChunkX, int playerChunkZ) {
+        }
+    }
+}
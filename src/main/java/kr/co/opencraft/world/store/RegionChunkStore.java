@@ -0,0 +1,285 @@
+package kr.co.opencraft.world.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import kr.co.opencraft.metrics.OpenCraftMetrics;
+import kr.co.opencraft.metrics.jfr.WorldSaveEvent;
+import kr.co.opencraft.world.BlockRegistry;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.cache.ChunkBlockCodec;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+
+/**
+ * On-disk store of edited and pregenerated chunks, grouped into 32x32-chunk region files.
+ *
+ * Each region file starts with a fixed table of (offset, length, raw length) per chunk
+ * followed by appended {@link ChunkBlockCodec} payloads. Rewriting a chunk appends a new
+ * payload and leaves the old bytes unused until {@link #close} compacts the region.
+ *
+ * A payload is forced to disk before the table entry pointing at it is written, so a
+ * crash can lose the latest write but never leaves an entry pointing at missing bytes.
+ * Table entries themselves are durable after {@link #flush} or {@link #close}.
+ */
+public final class RegionChunkStore implements AutoCloseable {
+    public static final String DIRECTORY = "regions";
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int CHUNKS_PER_REGION = REGION_SIZE * REGION_SIZE;
+    private static final int ENTRY_BYTES = 12;
+    private static final int HEADER_BYTES = CHUNKS_PER_REGION * ENTRY_BYTES;
+    // Less waste than this is not worth rewriting the region
+    private static final long MIN_COMPACT_WASTE_BYTES = 256L * 1024L;
+
+    private final Path directory;
+    private final BlockRegistry registry;
+    private final Map<Long, Region> regions = new HashMap<>();
+
+    public RegionChunkStore(Path directory) {
+        this(directory, OpenCraftBlockRegistry.blocks());
+    }
+
+    public RegionChunkStore(Path directory, BlockRegistry registry) {
+        this.directory = directory;
+        this.registry = registry;
+    }
+
+    /**
+     * Store inside a world save folder, next to the seed metadata.
+     */
+    public static RegionChunkStore open(String worldPath) {
+        return new RegionChunkStore(Path.of(worldPath).resolve(DIRECTORY));
+    }
+
+    public boolean contains(int chunkX, int chunkZ) throws IOException {
+        Region region = region(chunkX, chunkZ, false);
+        if (region == null) {
+            return false;
+        }
+        synchronized (region) {
+            return region.length(localIndex(chunkX, chunkZ)) > 0;
+        }
+    }
+
+    /**
+     * @return the stored chunk, or {@code null} if it was never written
+     */
+    public GeneratedChunk read(int chunkX, int chunkZ) throws IOException {
+        Region region = region(chunkX, chunkZ, false);
+        if (region == null) {
+            return null;
+        }
+
+        byte[] compressed;
+        int rawLength;
+        int index = localIndex(chunkX, chunkZ);
+        synchronized (region) {
+            int length = region.length(index);
+            if (length == 0) {
+                return null;
+            }
+            compressed = new byte[length];
+            readFully(region.channel, ByteBuffer.wrap(compressed), region.offset(index));
+            rawLength = region.rawLength(index);
+        }
+
+        ChunkBlockBuffer blocks = ChunkBlockCodec.decode(ChunkBlockCodec.decompress(ByteBuffer.wrap(compressed), rawLength));
+        return new GeneratedChunk(blocks, ChunkHeightmap.scan(blocks, registry));
+    }
+
+    public void write(int chunkX, int chunkZ, ChunkBlockBuffer blocks) throws IOException {
+        write(chunkX, chunkZ, blocks, true);
+    }
+
+    /**
+     * Writes the chunk only if the store has no copy yet, so background generation never
+     * replaces a chunk the player edited and saved in the meantime.
+     *
+     * @return false if a copy was already stored
+     */
+    public boolean writeIfAbsent(int chunkX, int chunkZ, ChunkBlockBuffer blocks) throws IOException {
+        return write(chunkX, chunkZ, blocks, false);
+    }
+
+    private boolean write(int chunkX, int chunkZ, ChunkBlockBuffer blocks, boolean replace) throws IOException {
+        WorldSaveEvent event = new WorldSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        byte[] raw = ChunkBlockCodec.encode(blocks);
+        byte[] compressed = ChunkBlockCodec.compress(raw);
+        Region region = region(chunkX, chunkZ, true);
+        int index = localIndex(chunkX, chunkZ);
+
+        synchronized (region) {
+            if (!replace && region.length(index) > 0) {
+                return false;
+            }
+            long offset = Math.max(HEADER_BYTES, region.channel.size());
+            writeFully(region.channel, ByteBuffer.wrap(compressed), offset);
+            region.channel.force(false);
+
+            ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES);
+            entry.putInt((int) offset).putInt(compressed.length).putInt(raw.length).flip();
+            writeFully(region.channel, entry, (long) index * ENTRY_BYTES);
+            region.header.put(index * ENTRY_BYTES, entry.array());
+        }
+        OpenCraftMetrics.SAVE_REGION_WRITE.recordSince(start);
+        event.complete(WorldSaveEvent.OPERATION_REGION_WRITE, chunkX, chunkZ, compressed.length);
+        return true;
+    }
+
+    public void flush() throws IOException {
+        WorldSaveEvent event = new WorldSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        synchronized (regions) {
+            for (Region region : regions.values()) {
+                region.channel.force(false);
+            }
+        }
+        OpenCraftMetrics.SAVE_REGION_FLUSH.recordSince(start);
+        event.complete(WorldSaveEvent.OPERATION_REGION_FLUSH, 0, 0, 0L);
+    }
+
+    /**
+     * Compacts regions that carry more unused bytes than live ones, then closes them.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (regions) {
+            for (Region region : regions.values()) {
+                synchronized (region) {
+                    region.channel.force(false);
+                    compact(region);
+                    region.channel.close();
+                }
+            }
+            regions.clear();
+        }
+    }
+
+    /**
+     * Rewrites the live payloads of a region into a fresh file and swaps it in.
+     *
+     * @return false if the region was not wasteful enough to be worth it
+     */
+    private boolean compact(Region region) throws IOException {
+        long liveBytes = 0L;
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            liveBytes += region.length(index);
+        }
+        long wastedBytes = region.channel.size() - HEADER_BYTES - liveBytes;
+        if (wastedBytes < MIN_COMPACT_WASTE_BYTES || wastedBytes <= liveBytes) {
+            return false;
+        }
+
+        WorldSaveEvent event = new WorldSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Path compacted = region.file.resolveSibling(region.file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(compacted,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            long offset = HEADER_BYTES;
+            for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+                int length = region.length(index);
+                if (length == 0) {
+                    continue;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                readFully(region.channel, payload, region.offset(index));
+                payload.flip();
+                writeFully(out, payload, offset);
+                header.putInt(index * ENTRY_BYTES, (int) offset)
+                    .putInt(index * ENTRY_BYTES + 4, length)
+                    .putInt(index * ENTRY_BYTES + 8, region.rawLength(index));
+                offset += length;
+            }
+            writeFully(out, header, 0L);
+            out.force(true);
+        }
+        Files.move(compacted, region.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        OpenCraftMetrics.SAVE_REGION_COMPACT.recordSince(start);
+        event.complete(WorldSaveEvent.OPERATION_REGION_COMPACT, 0, 0, wastedBytes);
+        return true;
+    }
+
+    private Region region(int chunkX, int chunkZ, boolean create) throws IOException {
+        int regionX = chunkX >> REGION_SHIFT;
+        int regionZ = chunkZ >> REGION_SHIFT;
+        long key = ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+
+        synchronized (regions) {
+            Region region = regions.get(key);
+            if (region != null) {
+                return region;
+            }
+
+            Path file = directory.resolve("r." + regionX + "." + regionZ + ".ocr");
+            if (!create && !Files.exists(file)) {
+                return null;
+            }
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (channel.size() >= HEADER_BYTES) {
+                readFully(channel, header, 0L);
+            }
+            region = new Region(file, channel, header);
+            regions.put(key, region);
+            return region;
+        }
+    }
+
+    private static int localIndex(int chunkX, int chunkZ) {
+        return ((chunkZ & (REGION_SIZE - 1)) << REGION_SHIFT) | (chunkX & (REGION_SIZE - 1));
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("unexpected end of region file");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static final class Region {
+        private final Path file;
+        private final FileChannel channel;
+        private final ByteBuffer header;
+
+        private Region(Path file, FileChannel channel, ByteBuffer header) {
+            this.file = file;
+            this.channel = channel;
+            this.header = header;
+        }
+
+        private int offset(int index) {
+            return header.getInt(index * ENTRY_BYTES);
+        }
+
+        private int length(int index) {
+            return header.getInt(index * ENTRY_BYTES + 4);
+        }
+
+        private int rawLength(int index) {
+            return header.getInt(index * ENTRY_BYTES + 8);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.co.opencraft.headless;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadlessWorldGeneratorTest {
+
+    @TempDir
+    Path worldPath;
+
+    @Test
+    void run_ShouldGenerateRadiusAndReportThroughput() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String[] args = {"--world", worldPath.toString(), "--seed", "42", "--radius", "1", "--threads", "2"};
+
+        int exitCode = HeadlessWorldGenerator.run(args, new PrintStream(out, true, StandardCharsets.UTF_8), System.err);
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertEquals(0, exitCode);
+        assertTrue(output.contains("generated=9 skipped=0 failed=0"), output);
+        assertTrue(output.contains("chunks/s"), output);
+        assertTrue(Files.exists(worldPath.resolve("world.properties")));
+        assertTrue(Files.isDirectory(worldPath.resolve("regions")));
+    }
+
+    @Test
+    void run_ShouldRejectSeedThatDiffersFromExistingWorld() {
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        String world = worldPath.toString();
+
+        assertEquals(0, HeadlessWorldGenerator.run(new String[] {"--world", world, "--seed", "1", "--radius", "0"}, quiet, quiet));
+        assertEquals(2, HeadlessWorldGenerator.run(new String[] {"--world", world, "--seed", "2", "--radius", "0"}, quiet, quiet));
+        assertEquals(2, HeadlessWorldGenerator.run(new String[] {"--world", world}, quiet, quiet));
+    }
+}
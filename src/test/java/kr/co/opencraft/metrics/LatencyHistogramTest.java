@@ -0,0 +1,60 @@
+package kr.co.opencraft.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void bucketIndex_ShouldKeepEveryValueWithinThreePercentOfItsBucket() {
+        long[] values = {0L, 1L, 31L, 32L, 33L, 1_000L, 123_456L, 16_666_667L, 2_000_000_000L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long lower = LatencyHistogram.bucketLowerBound(index);
+
+            assertTrue(lower <= value, "lower bound above " + value);
+            assertTrue(value - lower <= Math.max(1L, value / 32), "bucket too wide for " + value);
+            assertTrue(index == 0 || LatencyHistogram.bucketIndex(lower - 1) == index - 1, "gap before " + value);
+        }
+    }
+
+    @Test
+    void snapshot_ShouldReportTailPercentilesAndResetPerInterval() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        LatencyHistogram frames = registry.histogram("frame.total");
+        for (int i = 1; i <= 1000; i++) {
+            frames.record(i * 1_000_000L);
+        }
+        registry.counter("frame.slow").add(3);
+
+        MetricsSnapshot snapshot = registry.snapshotAndReset();
+        HistogramSnapshot total = snapshot.histogram("frame.total");
+        assertEquals(1000, total.count());
+        assertEquals(500.0, HistogramSnapshot.toMillis(total.p50()), 500.0 * 0.04);
+        assertEquals(950.0, HistogramSnapshot.toMillis(total.p95()), 950.0 * 0.04);
+        assertEquals(990.0, HistogramSnapshot.toMillis(total.p99()), 990.0 * 0.04);
+        assertEquals(1000_000_000L, total.max());
+        assertEquals(3, snapshot.counter("frame.slow"));
+        assertEquals(0, registry.snapshot().histogram("frame.total").count());
+
+        Path csv = tempDir.resolve("metrics.csv");
+        CsvMetricsWriter writer = new CsvMetricsWriter(csv);
+        writer.append(snapshot);
+        writer.append(registry.snapshot());
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertEquals(CsvMetricsWriter.HEADER, lines.get(0));
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).contains(",frame.total,histogram,1000,"), lines.get(1));
+    }
+}
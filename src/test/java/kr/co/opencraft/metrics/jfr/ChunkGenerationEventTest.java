@@ -0,0 +1,46 @@
+package kr.co.opencraft.metrics.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import kr.co.opencraft.world.TerrainGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkGenerationEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generateColumn_ShouldEmitEventWithCoordsAndPhasesWhileRecording() throws Exception {
+        TerrainGenerator generator = new TerrainGenerator(7L);
+        generator.generateColumn(0, 0);
+
+        Path file = tempDir.resolve("generation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("opencraft.ChunkGeneration").withThreshold(Duration.ZERO);
+            recording.start();
+            generator.generateColumn(3, -4);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(3, event.getInt("chunkX"));
+        assertEquals(-4, event.getInt("chunkZ"));
+        long phases = event.getLong("densityNanos") + event.getLong("surfaceNanos") + event.getLong("caveNanos")
+            + event.getLong("featureNanos") + event.getLong("populateNanos");
+        assertTrue(event.getLong("densityNanos") > 0);
+        assertTrue(phases <= event.getDuration().toNanos(), "phases exceed the event duration");
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import kr.co.voxeliver.network.protocol.Packet;
+import kr.co.voxeliver.network.protocol.impl.ChunkUnloadPacket;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+class InboundPacketQueueTest {
+
+    @Test
+    void offer_ShouldKeepOrderAndRejectWhenLaneIsFull() {
+        InboundPacketQueue queue = new InboundPacketQueue(4, 3, 1);
+        Packet[] packets = new Packet[4];
+        for (int i = 0; i < packets.length; i++) {
+            packets[i] = new ChunkUnloadPacket(new ChunkCoord(i, 0));
+            assertTrue(queue.offer(packets[i], false));
+        }
+
+        assertFalse(queue.offer(new ChunkUnloadPacket(new ChunkCoord(9, 9)), false));
+        assertEquals(4, queue.getWorldDepth());
+        for (Packet packet : packets) {
+            assertSame(packet, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.offer(packets[0], false), "slots are reusable after wrapping");
+        assertEquals(0L, new InboundPacketQueue().getOldestAgeNanos(System.nanoTime()));
+    }
+
+    @Test
+    void offer_ShouldPauseReadingAtHighWatermarkAndResumeBelowLow() {
+        InboundPacketQueue queue = new InboundPacketQueue(8, 4, 1);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        queue.bind(channel);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                queue.offer(new ChunkUnloadPacket(new ChunkCoord(i, 0)), false);
+            }
+            assertTrue(queue.isReadingPaused());
+            assertFalse(channel.config().isAutoRead());
+            assertEquals(1, queue.getPauseCount());
+
+            queue.poll();
+            queue.poll();
+            channel.runPendingTasks();
+            assertFalse(channel.config().isAutoRead(), "two packets are still above the low watermark");
+
+            queue.poll();
+            channel.runPendingTasks();
+            assertTrue(channel.config().isAutoRead());
+            assertFalse(queue.isReadingPaused());
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.opencraft.entity.InputCommand;
+import org.junit.jupiter.api.Test;
+
+class InputCommandCodecTest {
+
+    @Test
+    void encode_ShouldRoundTripInFixedSize() {
+        InputCommand command = InputCommand.of(123_456, InputCommand.FORWARD | InputCommand.DESCEND, -135.5f, 42.25f, true);
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            InputCommandCodec.encode(command, buffer);
+            assertEquals(InputCommandCodec.ENCODED_BYTES, buffer.readableBytes());
+            assertEquals(command, InputCommandCodec.decode(buffer));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encodeBatch_ShouldSendFirstSequenceOnly() {
+        List<InputCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            commands.add(InputCommand.of(700 + i, i % 2 == 0 ? InputCommand.FORWARD : InputCommand.JUMP, i * 10f, -i, i > 6));
+        }
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            InputCommandCodec.encodeBatch(commands, buffer);
+            assertEquals(1 + 4 + 12 * InputCommandCodec.BATCH_ENTRY_BYTES, buffer.readableBytes());
+            assertEquals(commands, InputCommandCodec.decodeBatch(buffer));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encodeBatch_ShouldRejectGapsInSequence() {
+        List<InputCommand> commands = List.of(InputCommand.of(1, 0, 0f, 0f, false), InputCommand.of(3, 0, 0f, 0f, false));
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> InputCommandCodec.encodeBatch(commands, buffer));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void of_ShouldQuantizeAnglesWithinOneStep() {
+        InputCommand command = InputCommand.of(1, 0, 370f, -89.9f, false);
+
+        assertEquals(10f, command.getYawDegrees(), 360f / 65536f);
+        assertEquals(-89.9f, command.getPitchDegrees(), 360f / 65536f);
+        assertEquals(-180f, InputCommand.of(1, 0, 180f, 0f, false).getYawDegrees(), 1e-3f);
+    }
+}
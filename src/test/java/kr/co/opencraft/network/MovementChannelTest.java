@@ -0,0 +1,113 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import kr.co.opencraft.entity.InputCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MovementChannelTest {
+    private static final int PLAYER_ID = 4;
+
+    private EventLoopGroup group;
+
+    @BeforeEach
+    void setUp() {
+        group = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).awaitUninterruptibly();
+    }
+
+    @Test
+    void send_ShouldCarryUnacknowledgedCommandsAfterNegotiation() throws Exception {
+        try (StandInDatagramServer server = new StandInDatagramServer(group, true);
+             MovementChannel channel = new MovementChannel(group, server.getAddress(), PLAYER_ID, new NetworkStats(new InboundPacketQueue()))) {
+            assertTrue(channel.negotiate(Duration.ofSeconds(2)).get(3, TimeUnit.SECONDS));
+            assertTrue(channel.isActive());
+
+            List<InputCommand> unacknowledged = new ArrayList<>();
+            for (int sequence = 1; sequence <= 6; sequence++) {
+                unacknowledged.add(InputCommand.of(sequence, InputCommand.FORWARD, sequence * 15f, -10f, false));
+                channel.send(unacknowledged);
+                InputCommand command = server.pollCommand(2_000L);
+                assertNotNull(command, "command " + sequence + " should arrive");
+                assertEquals(unacknowledged.get(unacknowledged.size() - 1), command);
+                assertNull(server.pollCommand(50L), "resent commands are queued once");
+
+                if (sequence % 3 == 0) {
+                    server.sendStates(new MovementState(PLAYER_ID, sequence, 10f, 64f, -5f, 90f, 10f));
+                    assertEquals(sequence, awaitStates(channel, PLAYER_ID).get(PLAYER_ID).sequence());
+                    unacknowledged.clear();
+                }
+            }
+        }
+    }
+
+    @Test
+    void drainStates_ShouldKeepOnlyTheLatestStatePerEntity() throws Exception {
+        try (StandInDatagramServer server = new StandInDatagramServer(group, true);
+             MovementChannel channel = new MovementChannel(group, server.getAddress(), PLAYER_ID, null)) {
+            assertTrue(channel.negotiate(Duration.ofSeconds(2)).get(3, TimeUnit.SECONDS));
+
+            server.sendStates(new MovementState(9, 5, 1f, 2f, 3f, 0f, 0f), new MovementState(9, 7, 1.5f, 2f, 3f, 0f, 0f));
+            server.sendStates(new MovementState(9, 6, 9f, 9f, 9f, 0f, 0f));
+            server.sendStates(new MovementState(10, 1, 0f, 0f, 0f, 0f, 0f));
+
+            Map<Integer, MovementState> states = awaitStates(channel, 10);
+            assertEquals(7, states.get(9).sequence(), "the late, older state must not win");
+            assertEquals(1.5f, states.get(9).x(), 1f / 4096f);
+        }
+    }
+
+    @Test
+    void acknowledge_ShouldSendStandaloneAckWhileIdle() throws Exception {
+        try (StandInDatagramServer server = new StandInDatagramServer(group, true);
+             MovementChannel channel = new MovementChannel(group, server.getAddress(), PLAYER_ID, null)) {
+            assertTrue(channel.negotiate(Duration.ofSeconds(2)).get(3, TimeUnit.SECONDS));
+
+            server.sendStates(new MovementState(9, 40, 1f, 2f, 3f, 0f, 0f));
+
+            assertEquals(40, server.pollStandaloneAck(2_000L), "acknowledged without any move being sent");
+            assertNull(server.pollStandaloneAck(3 * MovementChannel.ACK_INTERVAL_MILLIS), "nothing left to acknowledge");
+        }
+    }
+
+    @Test
+    void negotiate_ShouldFallBackWhenServerDoesNotAnswer() throws Exception {
+        try (StandInDatagramServer server = new StandInDatagramServer(group, false);
+             MovementChannel channel = new MovementChannel(group, server.getAddress(), PLAYER_ID, null)) {
+            assertFalse(channel.negotiate(Duration.ofMillis(300)).get(3, TimeUnit.SECONDS));
+            assertFalse(channel.isActive());
+
+            channel.send(List.of(InputCommand.of(1, InputCommand.FORWARD, 0f, 0f, false)));
+            assertNull(server.pollCommand(200L));
+        }
+    }
+
+    private static Map<Integer, MovementState> awaitStates(MovementChannel channel, int untilEntity) throws InterruptedException {
+        Map<Integer, MovementState> states = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!states.containsKey(untilEntity) && System.nanoTime() < deadline) {
+            channel.drainStates(state -> states.put(state.entityId(), state));
+            Thread.sleep(5L);
+        }
+        return states;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.opencraft.entity.InputCommand;
+import kr.co.opencraft.entity.MovementSimulator;
+import kr.co.opencraft.entity.OpenCraftPlayer;
+import kr.co.voxelite.entity.Player;
+import org.junit.jupiter.api.Test;
+
+class MovementPredictorTest {
+    private static final float SPEED = 5f;
+    private static final int MAX_BATCH = 12;
+
+    @Test
+    void reconcile_ShouldKeepPredictionWhenServerAgrees() {
+        WallPhysics physics = new WallPhysics();
+        MovementPredictor predictor = new MovementPredictor(new MovementSimulator(physics), SPEED);
+        StandInMovementServer server = new StandInMovementServer(new WallPhysics(), SPEED, new Vector3());
+        OpenCraftPlayer player = new OpenCraftPlayer(new Vector3());
+
+        for (int i = 0; i < 10; i++) {
+            predictor.predict(player, InputCommand.FORWARD | InputCommand.RIGHT, 30f, 0f);
+            server.receive(predictor.getUnacknowledgedCommands(MAX_BATCH));
+        }
+        Vector3 before = new Vector3(player.getPosition());
+
+        assertFalse(predictor.reconcile(player, server.getAcknowledgedSequence(), server.getPosition()));
+        assertEquals(before, player.getPosition());
+        assertEquals(0, predictor.getPendingCount());
+    }
+
+    @Test
+    void reconcile_ShouldReplayUnacknowledgedInputsFromServerState() {
+        WallPhysics clientPhysics = new WallPhysics();
+        MovementPredictor predictor = new MovementPredictor(new MovementSimulator(clientPhysics), SPEED);
+        WallPhysics serverPhysics = new WallPhysics();
+        serverPhysics.wallX = 1f;
+        StandInMovementServer server = new StandInMovementServer(serverPhysics, SPEED, new Vector3());
+        OpenCraftPlayer player = new OpenCraftPlayer(new Vector3());
+
+        // The client does not know about the wall yet and walks through it
+        List<InputCommand> sent = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            sent.add(predictor.predict(player, InputCommand.FORWARD, 0f, 0f));
+        }
+        server.receive(sent.subList(0, 20));
+
+        // The wall's chunk arrives before the server state
+        clientPhysics.wallX = 1f;
+        assertTrue(predictor.reconcile(player, server.getAcknowledgedSequence(), server.getPosition()));
+        assertEquals(10, predictor.getPendingCount());
+        assertEquals(10, predictor.getLastReplayedTicks());
+
+        server.receive(predictor.getUnacknowledgedCommands(MAX_BATCH));
+        assertTrue(player.getPosition().epsilonEquals(server.getPosition(), 1e-4f),
+            "replayed position " + player.getPosition() + " should match server " + server.getPosition()
+                + ", adding raw deltas would have left the player past the wall");
+        assertFalse(predictor.reconcile(player, server.getAcknowledgedSequence(), server.getPosition()));
+    }
+
+    @Test
+    void getUnacknowledgedCommands_ShouldCoverLostMoves() {
+        WallPhysics physics = new WallPhysics();
+        MovementPredictor predictor = new MovementPredictor(new MovementSimulator(physics), SPEED);
+        StandInMovementServer server = new StandInMovementServer(new WallPhysics(), SPEED, new Vector3());
+        OpenCraftPlayer player = new OpenCraftPlayer(new Vector3());
+
+        for (int i = 0; i < 6; i++) {
+            predictor.predict(player, InputCommand.FORWARD, 45f, 0f);
+            List<InputCommand> batch = predictor.getUnacknowledgedCommands(MAX_BATCH);
+            // Moves of the second to fifth tick are lost on the way
+            if (i == 0 || i == 5) {
+                server.receive(batch);
+            }
+        }
+
+        assertEquals(6, server.getAcknowledgedSequence());
+        assertFalse(predictor.reconcile(player, server.getAcknowledgedSequence(), server.getPosition()));
+        assertEquals(0, predictor.getPendingCount());
+        assertTrue(predictor.getUnacknowledgedCommands(MAX_BATCH).isEmpty());
+    }
+
+    @Test
+    void getUnacknowledgedCommands_ShouldKeepNewestWithinLimit() {
+        MovementPredictor predictor = new MovementPredictor(new MovementSimulator(new WallPhysics()), SPEED);
+        OpenCraftPlayer player = new OpenCraftPlayer(new Vector3());
+        for (int i = 0; i < 20; i++) {
+            predictor.predict(player, InputCommand.FORWARD, 0f, 0f);
+        }
+
+        List<InputCommand> batch = predictor.getUnacknowledgedCommands(MAX_BATCH);
+        assertEquals(MAX_BATCH, batch.size());
+        assertEquals(9, batch.get(0).sequence());
+        assertEquals(20, batch.get(MAX_BATCH - 1).sequence());
+    }
+
+    @Test
+    void reconcile_ShouldIgnoreRepeatedStateForSameAcknowledgement() {
+        WallPhysics physics = new WallPhysics();
+        MovementPredictor predictor = new MovementPredictor(new MovementSimulator(physics), SPEED);
+        OpenCraftPlayer player = new OpenCraftPlayer(new Vector3());
+        predictor.predict(player, InputCommand.FORWARD, 0f, 0f);
+        Vector3 serverPosition = new Vector3(0.05f, 0f, 0f);
+
+        assertTrue(predictor.reconcile(player, 1, serverPosition));
+        assertFalse(predictor.reconcile(player, 1, serverPosition));
+        assertEquals(1, predictor.getCorrectionCount());
+    }
+
+    /**
+     * Moves straight by velocity and stops at a wall along +X, if any.
+     */
+    private static final class WallPhysics implements MovementSimulator.Physics {
+        private float wallX = Float.POSITIVE_INFINITY;
+
+        @Override
+        public void update(Player player, float delta) {
+            Vector3 position = player.getPosition();
+            position.mulAdd(player.getVelocity(), delta);
+            if (position.x > wallX) {
+                position.x = wallX;
+            }
+        }
+
+        @Override
+        public void tryJump(Player player) {
+            player.getVelocity().y = 5f;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+class MovementStateCodecTest {
+    private static final float POSITION_STEP = 1f / 4096f;
+    private static final float ANGLE_STEP = 360f / 256f;
+
+    @Test
+    void encode_ShouldRoundTripKeyframeWithinFixedPointPrecision() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        MovementStateDecoder decoder = new MovementStateDecoder();
+        MovementState state = new MovementState(7, 1, -1234.5678f, 71.25f, 98765.4321f, 123.4f, -45.6f);
+
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            encoder.encode(state, buffer);
+            assertTrue(buffer.readableBytes() < 26, "keyframe is smaller than the float layout");
+            MovementState decoded = decoder.decode(buffer);
+
+            assertEquals(0, buffer.readableBytes());
+            assertEquals(7, decoded.entityId());
+            assertEquals(1, decoded.sequence());
+            assertEquals(state.x(), decoded.x(), POSITION_STEP * 2);
+            assertEquals(state.y(), decoded.y(), POSITION_STEP);
+            assertEquals(state.z(), decoded.z(), POSITION_STEP * 4);
+            assertEquals(state.yaw(), decoded.yaw(), ANGLE_STEP);
+            assertEquals(state.pitch(), decoded.pitch(), ANGLE_STEP);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encode_ShouldSendSmallDeltasAgainstAcknowledgedState() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        MovementStateDecoder decoder = new MovementStateDecoder();
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            encoder.encode(new MovementState(3, 10, 100.5f, 64f, -20.25f, 90f, 0f), buffer);
+            int keyframeBytes = buffer.readableBytes();
+            assertNotNull(decoder.decode(buffer));
+            encoder.acknowledge(3, 10);
+
+            buffer.clear();
+            encoder.encode(new MovementState(3, 13, 100.55f, 64f, -20.2f, 90f, 0f), buffer);
+            assertTrue(buffer.readableBytes() <= 8, "a few centimetres of movement costs " + buffer.readableBytes());
+            assertTrue(buffer.readableBytes() < keyframeBytes);
+            MovementState moved = decoder.decode(buffer);
+            assertEquals(100.55f, moved.x(), POSITION_STEP);
+            assertEquals(64f, moved.y(), 0f);
+            assertEquals(-20.2f, moved.z(), POSITION_STEP);
+
+            buffer.clear();
+            encoder.encode(new MovementState(3, 16, 100.5f, 64f, -20.25f, 90f, 0f), buffer);
+            assertEquals(4, buffer.readableBytes(), "unchanged state is header, entity, baseline and age bytes");
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encode_ShouldNotDriftOverLongDeltaChains() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        MovementStateDecoder decoder = new MovementStateDecoder();
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            MovementState last = null;
+            MovementState decoded = null;
+            for (int sequence = 1; sequence <= 500; sequence++) {
+                last = new MovementState(1, sequence, sequence * 0.0137f, 70f + (sequence % 7) * 0.1f, -sequence * 0.021f, sequence, 0f);
+                buffer.clear();
+                encoder.encode(last, buffer);
+                decoded = decoder.decode(buffer);
+                encoder.acknowledge(1, sequence);
+            }
+
+            assertEquals(MovementStateCodec.quantize(last), MovementStateCodec.quantize(decoded));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void decode_ShouldSkipDeltaWithoutBaselineAndKeepReading() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        MovementStateDecoder decoder = new MovementStateDecoder();
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            encoder.encode(new MovementState(5, 1, 1f, 2f, 3f, 0f, 0f), buffer);
+            encoder.acknowledge(5, 1);
+            buffer.clear();
+            encoder.encode(new MovementState(5, 2, 1.5f, 2f, 3f, 10f, 0f), buffer);
+            new MovementStateEncoder(false).encode(new MovementState(6, 9, 4f, 5f, 6f, 0f, 0f), buffer);
+
+            assertNull(decoder.decode(buffer), "the keyframe was lost");
+            assertEquals(1, decoder.getMissingBaselineCount());
+            MovementState legacy = decoder.decode(buffer);
+            assertEquals(new MovementState(6, 9, 4f, 5f, 6f, 0f, 0f), legacy);
+            assertEquals(0, buffer.readableBytes());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encode_ShouldFallBackToKeyframeWhenBaselineIsTooOld() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            encoder.encode(new MovementState(2, 1, 0f, 0f, 0f, 0f, 0f), buffer);
+            encoder.acknowledge(2, 1);
+            buffer.clear();
+            encoder.encode(new MovementState(2, 1 + MovementStateEncoder.HISTORY_SIZE, 0f, 0f, 0f, 0f, 0f), buffer);
+
+            assertEquals(MovementStateCodec.FORMAT_KEYFRAME, MovementStateCodec.format(buffer.getUnsignedByte(0)));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void encode_ShouldKeepDeltaSequenceSizeForLargeSequences() {
+        MovementStateEncoder encoder = new MovementStateEncoder(true);
+        MovementStateDecoder decoder = new MovementStateDecoder();
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            int start = 60 * 60 * 60 * 3;
+            encoder.encode(new MovementState(3, start, 1f, 64f, 1f, 0f, 0f), buffer);
+            decoder.decode(buffer);
+            encoder.acknowledge(3, start);
+
+            buffer.clear();
+            encoder.encode(new MovementState(3, start + 2, 1f, 64f, 1f, 0f, 0f), buffer);
+            assertEquals(4, buffer.readableBytes(), "three hours of 60 Hz ticks still take two sequence bytes");
+            assertEquals(start + 2, decoder.decode(buffer).sequence());
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -7,8 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import com.badlogic.gdx.math.Vector3;
 import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import kr.co.voxeliver.network.protocol.Packet;
 import kr.co.voxeliver.network.protocol.impl.ChunkUnloadPacket;
 import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
 import kr.co.voxelite.world.ChunkCoord;
@@ -19,7 +17,7 @@ class MultiplayerPacketHandlerTest {
     @Test
     void completesLoginFutureWhenAcceptancePacketArrives() {
         CompletableFuture<LoginAcceptedPacket> loginFuture = new CompletableFuture<>();
-        ConcurrentLinkedQueue<Packet> inboundPackets = new ConcurrentLinkedQueue<>();
+        InboundPacketQueue inboundPackets = new InboundPacketQueue();
         EmbeddedChannel channel = new EmbeddedChannel(new MultiplayerPacketHandler(loginFuture, inboundPackets));
 
         try {
@@ -39,7 +37,7 @@ class MultiplayerPacketHandlerTest {
     @Test
     void queuesStatePacketsForGameScreen() {
         CompletableFuture<LoginAcceptedPacket> loginFuture = new CompletableFuture<>();
-        ConcurrentLinkedQueue<Packet> inboundPackets = new ConcurrentLinkedQueue<>();
+        InboundPacketQueue inboundPackets = new InboundPacketQueue();
         EmbeddedChannel channel = new EmbeddedChannel(new MultiplayerPacketHandler(loginFuture, inboundPackets));
 
         try {
@@ -0,0 +1,74 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.CompletableFuture;
+import kr.co.voxeliver.network.protocol.impl.ChunkUnloadPacket;
+import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
+import kr.co.voxeliver.network.protocol.impl.PingPacket;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+class NetworkStatsTest {
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void recordPingEcho_ShouldSmoothRttAndTrackWindowExtremes() {
+        NetworkStats stats = new NetworkStats(new InboundPacketQueue());
+        long[] rtts = {100L, 20L, 20L, 20L};
+        long now = 0L;
+        for (long rtt : rtts) {
+            stats.recordPingSent(now);
+            now += rtt * MS;
+            stats.recordPingEcho(now);
+        }
+        stats.recordPingEcho(now + MS);
+
+        assertEquals(4, stats.getRttSampleCount());
+        assertEquals(20.0, stats.getLastRttMillis(), 1e-9);
+        assertEquals(20.0, stats.getMinRttMillis(), 1e-9);
+        assertEquals(100.0, stats.getMaxRttMillis(), 1e-9);
+        // 100 -> 90 -> 81.25 -> 73.59
+        assertEquals(73.59375, stats.getRttMillis(), 1e-6);
+
+        for (int i = 0; i < NetworkStats.RTT_WINDOW; i++) {
+            stats.recordPingSent(now);
+            now += 30L * MS;
+            stats.recordPingEcho(now);
+        }
+        assertEquals(30.0, stats.getMaxRttMillis(), 1e-9);
+    }
+
+    @Test
+    void pipeline_ShouldCountPacketsByTypeAndTrackInboundQueue() {
+        InboundPacketQueue inboundPackets = new InboundPacketQueue();
+        NetworkStats stats = new NetworkStats(inboundPackets);
+        PacketStatsHandler packetStats = new PacketStatsHandler(stats);
+        EmbeddedChannel channel = new EmbeddedChannel(
+            packetStats,
+            new MultiplayerPacketHandler(new CompletableFuture<LoginAcceptedPacket>(), inboundPackets, stats)
+        );
+
+        try {
+            channel.writeOutbound(new PingPacket());
+            ChunkUnloadPacket unload = new ChunkUnloadPacket(new ChunkCoord(1, 2));
+            channel.writeInbound(unload);
+            channel.writeInbound(new PingPacket());
+
+            assertEquals(1, stats.getRttSampleCount());
+            assertEquals(1, stats.getInboundQueueDepth());
+            assertEquals(2, stats.getPacketsIn());
+            assertEquals(1, stats.getPacketsOut());
+            assertEquals(1, stats.getPacketTypeStats().get("ChunkUnloadPacket").packetsIn());
+            assertEquals(1, stats.getPacketTypeStats().get("PingPacket").packetsOut());
+
+            assertSame(unload, inboundPackets.poll());
+            assertEquals(0, stats.getInboundQueueDepth());
+            assertEquals(0.0, stats.getOldestInboundAgeMillis(System.nanoTime()));
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+}
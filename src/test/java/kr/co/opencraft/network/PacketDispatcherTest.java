@@ -0,0 +1,74 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.voxeliver.network.protocol.Packet;
+import kr.co.voxeliver.network.protocol.impl.ChunkUnloadPacket;
+import kr.co.voxeliver.network.protocol.impl.LoginAcceptedPacket;
+import kr.co.voxeliver.network.protocol.impl.PingPacket;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+class PacketDispatcherTest {
+
+    @Test
+    void idOf_ShouldAssignDenseIdsAndKeepTargets() {
+        PacketDispatcher dispatcher = new PacketDispatcher()
+            .route(PingPacket.class, PacketDispatcher.Target.EVENT_LOOP)
+            .route(ChunkUnloadPacket.class, PacketDispatcher.Target.GAME_THREAD);
+
+        int pingId = dispatcher.idOf(new PingPacket());
+        int unloadId = dispatcher.idOf(new ChunkUnloadPacket(new ChunkCoord(0, 0)));
+
+        assertEquals(0, pingId);
+        assertEquals(1, unloadId);
+        assertEquals(PacketDispatcher.Target.EVENT_LOOP, dispatcher.targetOf(pingId));
+        assertEquals(PacketDispatcher.Target.GAME_THREAD, dispatcher.targetOf(unloadId));
+    }
+
+    @Test
+    void dispatch_ShouldCallBoundHandler() {
+        List<Packet> handled = new ArrayList<>();
+        PacketDispatcher dispatcher = new PacketDispatcher()
+            .route(ChunkUnloadPacket.class, PacketDispatcher.Target.GAME_THREAD);
+        ChunkUnloadPacket packet = new ChunkUnloadPacket(new ChunkCoord(2, 3));
+
+        assertFalse(dispatcher.dispatch(packet), "no handler bound yet");
+
+        dispatcher.bind(ChunkUnloadPacket.class, handled::add);
+        assertTrue(dispatcher.dispatch(packet));
+        assertEquals(1, handled.size());
+        assertSame(packet, handled.get(0));
+    }
+
+    @Test
+    void dispatch_ShouldIgnoreUnknownPackets() {
+        PacketDispatcher dispatcher = new PacketDispatcher()
+            .route(PingPacket.class, PacketDispatcher.Target.EVENT_LOOP, packet -> { });
+        LoginAcceptedPacket packet = new LoginAcceptedPacket(1, new Vector3());
+
+        assertEquals(PacketDispatcher.UNKNOWN, dispatcher.idOf(packet));
+        assertFalse(dispatcher.dispatch(packet));
+        assertNotEquals(PacketDispatcher.UNKNOWN, dispatcher.idOf(new PingPacket()));
+    }
+
+    @Test
+    void route_ShouldRejectDeclarationsAfterFirstLookup() {
+        PacketDispatcher dispatcher = new PacketDispatcher()
+            .route(PingPacket.class, PacketDispatcher.Target.EVENT_LOOP);
+        dispatcher.idOf(new PingPacket());
+
+        assertThrows(IllegalStateException.class,
+            () -> dispatcher.route(ChunkUnloadPacket.class, PacketDispatcher.Target.GAME_THREAD));
+        assertThrows(IllegalArgumentException.class,
+            () -> dispatcher.bind(ChunkUnloadPacket.class, packet -> { }));
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.opencraft.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import kr.co.opencraft.world.BlockTypes;
+import org.junit.jupiter.api.Test;
+
+class PendingBlockEditsTest {
+    private static final long TIMEOUT = 1_000L;
+
+    @Test
+    void reconcile_ShouldConfirmMatchingUpdateWithoutTouchingWorld() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+        edits.record(1, 64, -3, BlockTypes.AIR, BlockTypes.ORIGIN_STONE, 0L);
+
+        assertFalse(edits.reconcile(1, 64, -3, BlockTypes.ORIGIN_STONE));
+        assertEquals(0, edits.size());
+    }
+
+    @Test
+    void reconcile_ShouldApplyServerValueWhenItDiffersFromPrediction() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+        edits.record(1, 64, 1, BlockTypes.ORIGIN_STONE, BlockTypes.AIR, 0L);
+
+        assertTrue(edits.reconcile(1, 64, 1, BlockTypes.WATER));
+        assertEquals(0, edits.size());
+        assertTrue(edits.expire(10 * TIMEOUT, TIMEOUT).isEmpty());
+    }
+
+    @Test
+    void reconcile_ShouldApplyUpdatesAtPositionsWithoutPendingEdits() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+
+        assertTrue(edits.reconcile(0, 10, 0, BlockTypes.ORIGIN_STONE));
+    }
+
+    @Test
+    void reconcile_ShouldKeepLaterEditsPendingAtSamePosition() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+        edits.record(2, 70, 2, BlockTypes.ORIGIN_STONE, BlockTypes.AIR, 0L);
+        edits.record(2, 70, 2, BlockTypes.AIR, BlockTypes.WATER, 10L);
+
+        assertFalse(edits.reconcile(2, 70, 2, BlockTypes.AIR), "first edit confirmed, screen already shows the second");
+        assertTrue(edits.isPending(2, 70, 2));
+
+        List<PendingBlockEdits.Rollback> rollbacks = edits.expire(10L + TIMEOUT, TIMEOUT);
+        assertEquals(List.of(new PendingBlockEdits.Rollback(2, 70, 2, BlockTypes.AIR)), rollbacks,
+            "rolls back to the last confirmed value, not the original one");
+    }
+
+    @Test
+    void expire_ShouldRollBackUnansweredEditsToOriginalBlock() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+        edits.record(5, 64, 5, BlockTypes.AIR, BlockTypes.ORIGIN_STONE, 0L);
+        edits.record(6, 64, 5, BlockTypes.AIR, BlockTypes.ORIGIN_STONE, 500L);
+
+        List<PendingBlockEdits.Rollback> rollbacks = edits.expire(TIMEOUT, TIMEOUT);
+
+        assertEquals(List.of(new PendingBlockEdits.Rollback(5, 64, 5, BlockTypes.AIR)), rollbacks);
+        assertFalse(edits.isPending(5, 64, 5));
+        assertTrue(edits.isPending(6, 64, 5));
+    }
+
+    @Test
+    void discardChunk_ShouldDropEditsInsideUnloadedChunk() {
+        PendingBlockEdits edits = new PendingBlockEdits();
+        edits.record(-1, 64, 0, BlockTypes.AIR, BlockTypes.ORIGIN_STONE, 0L);
+        edits.record(16, 64, 0, BlockTypes.AIR, BlockTypes.ORIGIN_STONE, 0L);
+
+        edits.discardChunk(-1, 0);
+
+        assertFalse(edits.isPending(-1, 64, 0));
+        assertTrue(edits.isPending(16, 64, 0));
+    }
+}
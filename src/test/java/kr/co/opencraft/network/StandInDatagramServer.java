@@ -0,0 +1,116 @@
+package kr.co.opencraft.network;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import kr.co.opencraft.entity.InputCommand;
+
+/**
+ * Server side of the movement side channel on a local port, for tests. Commands repeated
+ * in later MOVE datagrams are queued once.
+ */
+final class StandInDatagramServer implements AutoCloseable {
+    private final boolean answerHello;
+    private final MovementStateEncoder stateEncoder = new MovementStateEncoder(true);
+    private final BlockingQueue<InputCommand> receivedCommands = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Integer> standaloneAcks = new LinkedBlockingQueue<>();
+    private final Channel channel;
+    private volatile InetSocketAddress client;
+    private int highestCommand = -1;
+
+    StandInDatagramServer(EventLoopGroup group, boolean answerHello) throws InterruptedException {
+        this.answerHello = answerHello;
+        this.channel = new Bootstrap()
+            .group(group)
+            .channel(NioDatagramChannel.class)
+            .handler(new Handler())
+            .bind("127.0.0.1", 0)
+            .sync()
+            .channel();
+    }
+
+    InetSocketAddress getAddress() {
+        return (InetSocketAddress) channel.localAddress();
+    }
+
+    InputCommand pollCommand(long timeoutMillis) throws InterruptedException {
+        return receivedCommands.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Next sequence acknowledged by a standalone ACK datagram rather than attached to a move.
+     */
+    Integer pollStandaloneAck(long timeoutMillis) throws InterruptedException {
+        return standaloneAcks.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void sendStates(MovementState... states) throws Exception {
+        channel.eventLoop().submit(() -> {
+            ByteBuf out = channel.alloc().buffer();
+            out.writeByte(MovementChannel.TYPE_STATE);
+            MovementStateCodec.writeVarInt(out, states.length);
+            for (MovementState state : states) {
+                stateEncoder.encode(state, out);
+            }
+            channel.writeAndFlush(new DatagramPacket(out, client));
+        }).get();
+    }
+
+    @Override
+    public void close() {
+        channel.close().awaitUninterruptibly();
+    }
+
+    private final class Handler extends SimpleChannelInboundHandler<DatagramPacket> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
+            ByteBuf in = packet.content();
+            int type = in.readUnsignedByte();
+            if (type == MovementChannel.TYPE_HELLO) {
+                MovementStateCodec.readVarInt(in);
+                long nonce = in.readLong();
+                if (!answerHello) {
+                    return;
+                }
+                client = packet.sender();
+                ByteBuf ack = ctx.alloc().buffer();
+                ack.writeByte(MovementChannel.TYPE_HELLO_ACK);
+                ack.writeLong(nonce);
+                ctx.writeAndFlush(new DatagramPacket(ack, client));
+            } else if (type == MovementChannel.TYPE_MOVE) {
+                List<InputCommand> commands = InputCommandCodec.decodeBatch(in);
+                readAcks(in, false);
+                for (InputCommand command : commands) {
+                    if (command.sequence() > highestCommand) {
+                        highestCommand = command.sequence();
+                        receivedCommands.add(command);
+                    }
+                }
+            } else if (type == MovementChannel.TYPE_ACK) {
+                readAcks(in, true);
+            }
+        }
+
+        private void readAcks(ByteBuf in, boolean standalone) {
+            int acks = MovementStateCodec.readVarInt(in);
+            for (int i = 0; i < acks; i++) {
+                int entityId = MovementStateCodec.readVarInt(in);
+                int sequence = MovementStateCodec.readVarInt(in);
+                stateEncoder.acknowledge(entityId, sequence);
+                if (standalone) {
+                    standaloneAcks.add(sequence);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.opencraft.network;
+
+import com.badlogic.gdx.math.Vector3;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.List;
+import kr.co.opencraft.entity.InputCommand;
+import kr.co.opencraft.entity.MovementSimulator;
+import kr.co.opencraft.entity.OpenCraftPlayer;
+
+/**
+ * Authoritative side of the movement protocol for tests: decodes MOVE command batches as
+ * they go over the wire and runs each new command through its own physics at the fixed
+ * tick. Commands it already applied are skipped, like resent ones on a real server.
+ */
+final class StandInMovementServer {
+    private final MovementSimulator simulator;
+    private final float walkSpeed;
+    private final OpenCraftPlayer player;
+    private int acknowledgedSequence;
+
+    StandInMovementServer(MovementSimulator.Physics physics, float walkSpeed, Vector3 spawn) {
+        this.simulator = new MovementSimulator(physics);
+        this.walkSpeed = walkSpeed;
+        this.player = new OpenCraftPlayer(new Vector3(spawn));
+    }
+
+    void receive(List<InputCommand> batch) {
+        ByteBuf frame = Unpooled.buffer();
+        try {
+            InputCommandCodec.encodeBatch(batch, frame);
+            for (InputCommand command : InputCommandCodec.decodeBatch(frame)) {
+                if (command.sequence() > acknowledgedSequence) {
+                    simulator.apply(player, command, walkSpeed, MovementSimulator.TICK_SECONDS);
+                    acknowledgedSequence = command.sequence();
+                }
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+    int getAcknowledgedSequence() {
+        return acknowledgedSequence;
+    }
+
+    Vector3 getPosition() {
+        return new Vector3(player.getPosition());
+    }
+}
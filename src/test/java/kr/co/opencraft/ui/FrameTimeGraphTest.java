@@ -0,0 +1,34 @@
+package kr.co.opencraft.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FrameTimeGraphTest {
+
+    @Test
+    void record_ShouldKeepOnlyNewestSamplesNewestFirst() {
+        FrameTimeGraph graph = new FrameTimeGraph(4);
+        for (int ms = 1; ms <= 6; ms++) {
+            graph.record(ms * 1_000_000L);
+        }
+
+        assertEquals(4, graph.size());
+        assertEquals(6f, graph.getMs(0));
+        assertEquals(3f, graph.getMs(3));
+        assertEquals(6f, graph.maxMs());
+    }
+
+    @Test
+    void percentileMs_ShouldUseNearestRankOverWindow() {
+        FrameTimeGraph graph = new FrameTimeGraph(100);
+        for (int ms = 100; ms >= 1; ms--) {
+            graph.record(ms * 1_000_000L);
+        }
+
+        assertEquals(50f, graph.percentileMs(0.50));
+        assertEquals(99f, graph.percentileMs(0.99));
+        assertEquals(100f, graph.percentileMs(1.0));
+        assertEquals(0f, new FrameTimeGraph(8).percentileMs(0.99));
+    }
+}
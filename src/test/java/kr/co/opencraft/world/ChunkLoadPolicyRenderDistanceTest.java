@@ -18,4 +18,16 @@ class ChunkLoadPolicyRenderDistanceTest {
         assertTrue(policy.shouldLoadToMemory(16, 0, 0, 0));
         assertFalse(policy.shouldLoadToMemory(17, 0, 0, 0));
     }
+
+    @Test
+    void lodDistance_ShouldOnlyCoverRingOutsideFullDetailChunks() {
+        ChunkLoadPolicy policy = new ChunkLoadPolicy(16, 17, 18, 48);
+
+        assertEquals(48, policy.getLodDistance());
+        assertFalse(policy.shouldRenderLod(16, 0, 0, 0));
+        assertTrue(policy.shouldRenderLod(17, -30, 0, 0));
+        assertTrue(policy.shouldRenderLod(48, 48, 0, 0));
+        assertFalse(policy.shouldRenderLod(49, 0, 0, 0));
+        assertEquals(16, new ChunkLoadPolicy(16, 17, 18).getLodDistance());
+    }
 }
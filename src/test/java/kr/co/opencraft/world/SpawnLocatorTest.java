@@ -0,0 +1,33 @@
+package kr.co.opencraft.world;
+
+import kr.co.voxelite.world.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpawnLocatorTest {
+
+    @Test
+    void locate_ShouldPickDryNonMountainChunk() {
+        for (long seed = 1L; seed <= 6L; seed++) {
+            SpawnLocator.SpawnPoint spawn = new SpawnLocator(seed).locate();
+            assertTrue(spawn.suitable(), "seed " + seed + " should find a spawn near the origin");
+
+            BiomeGenerator biomes = new BiomeGenerator(seed);
+            assertNotEquals(Biome.MOUNTAIN, biomes.getBiomeAt((int) Math.floor(spawn.x()), (int) Math.floor(spawn.z())));
+
+            GeneratedChunk chunk = new TerrainGenerator(seed).generateColumn(spawn.chunkX(), spawn.chunkZ());
+            int center = Chunk.CHUNK_SIZE / 2;
+            int surfaceY = chunk.heightmap().getMotionBlockingY(center, center);
+            assertTrue(surfaceY > TerrainGenerator.SEA_LEVEL, "seed " + seed + " spawn should be above sea level");
+            assertEquals(surfaceY + 1f, spawn.y(), "spawn should stand on the real surface");
+        }
+    }
+
+    @Test
+    void locate_ShouldBeDeterministicForSeed() {
+        assertEquals(new SpawnLocator(77L).locate(), new SpawnLocator(77L).locate());
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.opencraft.world;
 
+import kr.co.opencraft.world.section.ChunkHeightmap;
 import kr.co.voxelite.world.Chunk;
 import kr.co.voxelite.world.ChunkCoord;
 import org.junit.jupiter.api.Test;
@@ -122,6 +123,99 @@ class TerrainGeneratorTest {
         assertTrue(leaves > 0, "generated oak trees should contain leaves");
     }
 
+    @Test
+    void generateColumn_ShouldNotDependOnGenerationOrder() {
+        TerrainGenerator forward = new TerrainGenerator(1234L);
+        TerrainGenerator backward = new TerrainGenerator(1234L);
+        Map<ChunkCoord, GeneratedChunk> forwardChunks = new HashMap<>();
+        Map<ChunkCoord, GeneratedChunk> backwardChunks = new HashMap<>();
+
+        for (int chunkX = -2; chunkX <= 2; chunkX++) {
+            forwardChunks.put(new ChunkCoord(chunkX, 0), forward.generateColumn(chunkX, 0));
+        }
+        for (int chunkX = 2; chunkX >= -2; chunkX--) {
+            backwardChunks.put(new ChunkCoord(chunkX, 0), backward.generateColumn(chunkX, 0));
+        }
+
+        for (ChunkCoord coord : forwardChunks.keySet()) {
+            for (int y = 0; y < 256; y++) {
+                for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                    for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                        assertEquals(
+                            forwardChunks.get(coord).blocks().get(localX, y, localZ),
+                            backwardChunks.get(coord).blocks().get(localX, y, localZ)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void generateColumn_ShouldMatchWhenGeneratorsSharePopulation() {
+        PopulationCache population = new PopulationCache(1234L);
+        TerrainGenerator first = new TerrainGenerator(1234L, population);
+        TerrainGenerator second = new TerrainGenerator(1234L, population);
+
+        GeneratedChunk center = first.generateColumn(0, 0);
+        assertTrue(population.getTerrainCount() > 0, "neighbour terrain should be kept for their own generation");
+        GeneratedChunk east = second.generateColumn(1, 0);
+
+        assertSameBlocks(new TerrainGenerator(1234L).generateColumn(0, 0), center);
+        assertSameBlocks(new TerrainGenerator(1234L).generateColumn(1, 0), east);
+    }
+
+    @Test
+    void generateColumn_ShouldPlaceTreesOnChunkBorders() {
+        TerrainGenerator generator = new TerrainGenerator(1234L);
+        int borderLogs = 0;
+
+        for (int chunkX = -4; chunkX <= 4 && borderLogs == 0; chunkX++) {
+            for (int chunkZ = -4; chunkZ <= 4 && borderLogs == 0; chunkZ++) {
+                GeneratedChunk generated = generator.generateColumn(chunkX, chunkZ);
+                for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                    for (int localX : new int[] { 0, 1, Chunk.CHUNK_SIZE - 2, Chunk.CHUNK_SIZE - 1 }) {
+                        int surfaceY = generated.heightmap().getWorldSurfaceY(localX, localZ);
+                        if (surfaceY >= 0 && generated.blocks().get(localX, surfaceY, localZ) == BlockTypes.OAK_LEAVES
+                            && findLogBelow(generated, localX, surfaceY, localZ)) {
+                            borderLogs++;
+                        }
+                    }
+                }
+            }
+        }
+
+        assertTrue(borderLogs > 0, "trees should no longer skip the two columns next to a chunk border");
+    }
+
+    @Test
+    void generateColumn_ShouldCarveSomeCavesUnderground() {
+        TerrainGenerator generator = new TerrainGenerator(1234L);
+        int underground = 0;
+        int carved = 0;
+
+        for (int chunkX = -3; chunkX <= 3; chunkX++) {
+            for (int chunkZ = -3; chunkZ <= 3; chunkZ++) {
+                GeneratedChunk generated = generator.generateColumn(chunkX, chunkZ);
+                for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                    for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                        int surfaceY = generated.heightmap().getWorldSurfaceY(localX, localZ);
+                        for (int y = 6; y < surfaceY - 4; y++) {
+                            underground++;
+                            if (generated.blocks().isAir(localX, y, localZ)) {
+                                carved++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        double carvedRatio = carved / (double) underground;
+        assertTrue(carvedRatio > 0.01D, "noise caves should carve some of the underground");
+        assertTrue(carvedRatio < 0.15D, "noise caves should leave most of the underground solid");
+    }
+
     @Test
     void terrainGeneratorAdapter_ShouldBeSafeForConcurrentChunkGeneration() throws Exception {
         long seed = 1234L;
@@ -171,6 +265,48 @@ class TerrainGeneratorTest {
         }
     }
 
+    @Test
+    void generateColumn_ShouldEmitHeightmapMatchingBlocks() {
+        TerrainGenerator generator = new TerrainGenerator(1234L);
+
+        for (int chunkX = -1; chunkX <= 1; chunkX++) {
+            GeneratedChunk generated = generator.generateColumn(chunkX, 2);
+            ChunkHeightmap rescanned = ChunkHeightmap.scan(generated.blocks(), OpenCraftBlockRegistry.blocks());
+
+            for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                    assertEquals(
+                        rescanned.getWorldSurfaceY(localX, localZ),
+                        generated.heightmap().getWorldSurfaceY(localX, localZ)
+                    );
+                    assertEquals(
+                        rescanned.getMotionBlockingY(localX, localZ),
+                        generated.heightmap().getMotionBlockingY(localX, localZ)
+                    );
+                }
+            }
+        }
+    }
+
+    private void assertSameBlocks(GeneratedChunk expected, GeneratedChunk actual) {
+        for (int y = 0; y < 256; y++) {
+            for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                    assertEquals(expected.blocks().get(localX, y, localZ), actual.blocks().get(localX, y, localZ));
+                }
+            }
+        }
+    }
+
+    private boolean findLogBelow(GeneratedChunk generated, int localX, int topY, int localZ) {
+        for (int y = topY; y > topY - 8 && y >= 0; y--) {
+            if (generated.blocks().get(localX, y, localZ) == BlockTypes.OAK_LOG) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private int findTopSolidY(Chunk chunk, int localX, int localZ) {
         for (int y = 255; y >= 0; y--) {
             if (chunk.getBlock(localX, y, localZ) != null) {
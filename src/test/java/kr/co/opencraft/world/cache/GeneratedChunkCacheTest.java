@@ -0,0 +1,73 @@
+package kr.co.opencraft.world.cache;
+
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkSections;
+import kr.co.voxelite.world.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratedChunkCacheTest {
+
+    @Test
+    void getOrGenerate_ShouldReturnIdenticalChunkFromCacheOnRevisit() {
+        TerrainGenerator generator = new TerrainGenerator(4242L);
+        GeneratedChunkCache cache = new GeneratedChunkCache(8L << 20);
+
+        GeneratedChunk generated = cache.getOrGenerate(generator, 3, -2);
+        GeneratedChunk cached = cache.getOrGenerate(generator, 3, -2);
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertNotSame(generated.blocks(), cached.blocks(), "hits must decode a private copy");
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                assertEquals(
+                    generated.heightmap().getWorldSurfaceY(localX, localZ),
+                    cached.heightmap().getWorldSurfaceY(localX, localZ)
+                );
+                assertEquals(
+                    generated.heightmap().getMotionBlockingY(localX, localZ),
+                    cached.heightmap().getMotionBlockingY(localX, localZ)
+                );
+                for (int y = 0; y < ChunkSections.CHUNK_HEIGHT; y++) {
+                    assertEquals(
+                        generated.blocks().get(localX, y, localZ),
+                        cached.blocks().get(localX, y, localZ),
+                        "block mismatch at " + localX + "," + y + "," + localZ
+                    );
+                }
+            }
+        }
+        assertTrue(cache.getStoredBytes() < generated.blocks().estimateMemoryBytes(),
+            "compressed entry should be smaller than the live block buffer");
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsedEntriesPastByteBudget() {
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        for (int y = 0; y < 40; y++) {
+            blocks.set(y % Chunk.CHUNK_SIZE, y, (y * 7) % Chunk.CHUNK_SIZE, 1 + y % 5);
+        }
+        GeneratedChunkCache probe = new GeneratedChunkCache(1L << 20);
+        probe.put(1L, 0, 0, blocks);
+        long entryBytes = probe.getStoredBytes();
+
+        GeneratedChunkCache cache = new GeneratedChunkCache(entryBytes * 2);
+        cache.put(1L, 0, 0, blocks);
+        cache.put(1L, 1, 0, blocks);
+        cache.get(1L, 0, 0);
+        cache.put(1L, 2, 0, blocks);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(1L, 1, 0), "least recently used entry should be evicted");
+        assertNull(cache.get(2L, 0, 0), "entries are keyed by seed");
+        assertEquals(3, cache.get(1L, 0, 0).blocks().get(2, 2, 14));
+    }
+}
@@ -0,0 +1,104 @@
+package kr.co.opencraft.world.cache;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapChunkArenaTest {
+
+    @Test
+    void take_ShouldRestoreEditedChunkExactlyOnce() {
+        ChunkCoord coord = new ChunkCoord(-4, 9);
+        GeneratedChunk generated = new TerrainGenerator(77L).generateColumn(coord.x, coord.z);
+        generated.blocks().set(3, 200, 12, BlockTypes.ORIGIN_STONE);
+        OffHeapChunkArena arena = new OffHeapChunkArena(64 * 1024, 4);
+
+        assertTrue(arena.store(coord, generated.blocks()));
+        GeneratedChunk restored = arena.take(coord);
+
+        assertEquals(BlockTypes.ORIGIN_STONE, restored.blocks().get(3, 200, 12), "edits survive the round trip");
+        assertEquals(200, restored.heightmap().getWorldSurfaceY(3, 12));
+        assertEquals(
+            generated.blocks().get(8, 30, 8),
+            restored.blocks().get(8, 30, 8)
+        );
+        assertNull(arena.take(coord), "restored chunks leave the arena");
+        assertEquals(0L, arena.getUsedBytes());
+    }
+
+    @Test
+    void store_ShouldEvictOldestSlabWhenRingWraps() {
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        for (int y = 0; y < 64; y++) {
+            blocks.set(y % 16, y, 0, BlockTypes.MY_STONE);
+        }
+        OffHeapChunkArena probe = new OffHeapChunkArena(64 * 1024, 1);
+        probe.store(new ChunkCoord(0, 0), blocks);
+        int entryBytes = (int) probe.getUsedBytes();
+
+        OffHeapChunkArena arena = new OffHeapChunkArena(entryBytes * 2, 2);
+        for (int chunkX = 0; chunkX < 5; chunkX++) {
+            arena.store(new ChunkCoord(chunkX, 0), blocks);
+        }
+
+        assertEquals(3, arena.size());
+        assertEquals(2, arena.getEvictionCount());
+        assertFalse(arena.contains(new ChunkCoord(0, 0)));
+        assertFalse(arena.contains(new ChunkCoord(1, 0)));
+        assertTrue(arena.contains(new ChunkCoord(4, 0)));
+        assertEquals(entryBytes * 4L, arena.getReservedBytes());
+    }
+
+    @Test
+    void take_ShouldReturnParkedChunkBeforeItIsFlushed() {
+        ChunkCoord coord = new ChunkCoord(2, 3);
+        Chunk chunk = new Chunk(coord);
+        chunk.addBlockLocal(1, 70, 1, BlockTypes.ORIGIN_STONE);
+        OffHeapChunkArena arena = new OffHeapChunkArena(64 * 1024, 2);
+
+        arena.park(coord, chunk);
+        GeneratedChunk restored = arena.take(coord);
+
+        assertEquals(BlockTypes.ORIGIN_STONE, restored.blocks().get(1, 70, 1));
+        assertFalse(arena.flushParked(coord, chunk, ChunkBlockBuffer.copyOf(chunk)), "a taken chunk is not stored again");
+        assertEquals(0, arena.size());
+        assertEquals(0L, arena.getUsedBytes());
+    }
+
+    @Test
+    void unpark_ShouldDropParkedChunkWithoutStoringIt() {
+        ChunkCoord coord = new ChunkCoord(-1, 4);
+        Chunk chunk = new Chunk(coord);
+        chunk.addBlockLocal(0, 10, 0, BlockTypes.MY_STONE);
+        OffHeapChunkArena arena = new OffHeapChunkArena(64 * 1024, 2);
+        arena.park(coord, chunk);
+
+        assertFalse(arena.unpark(coord, new Chunk(coord)), "only the parked instance is dropped");
+        assertTrue(arena.unpark(coord, chunk));
+
+        assertNull(arena.take(coord));
+        assertEquals(0L, arena.getStoreCount());
+    }
+
+    @Test
+    void clear_ShouldReleaseSlabs() {
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        blocks.set(0, 10, 0, BlockTypes.MY_STONE);
+        OffHeapChunkArena arena = new OffHeapChunkArena(64 * 1024, 2);
+        arena.store(new ChunkCoord(0, 0), blocks);
+
+        arena.clear();
+
+        assertEquals(0L, arena.getReservedBytes());
+        assertTrue(arena.store(new ChunkCoord(1, 0), blocks), "slabs are allocated again on demand");
+    }
+}
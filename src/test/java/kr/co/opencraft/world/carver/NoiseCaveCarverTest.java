@@ -0,0 +1,50 @@
+package kr.co.opencraft.world.carver;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import kr.co.voxelite.world.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoiseCaveCarverTest {
+
+    @Test
+    void carve_ShouldKeepSurfaceLayersAndBedrockIntact() {
+        NoiseCaveCarver carver = new NoiseCaveCarver(1234L);
+        int carved = 0;
+
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            ChunkBlockBuffer blocks = solidColumn(100);
+            ChunkHeightmap heightmap = ChunkHeightmap.scan(blocks, OpenCraftBlockRegistry.blocks());
+            carved += carver.carve(blocks, heightmap, chunkX, 0);
+
+            for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                    assertEquals(BlockTypes.BEDROCK, blocks.get(localX, 0, localZ));
+                    for (int y = 97; y <= 100; y++) {
+                        assertEquals(BlockTypes.MY_STONE, blocks.get(localX, y, localZ));
+                    }
+                }
+            }
+        }
+
+        assertTrue(carved > 0, "a solid 4-chunk strip should contain at least one tunnel");
+    }
+
+    private ChunkBlockBuffer solidColumn(int height) {
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                blocks.set(localX, 0, localZ, BlockTypes.BEDROCK);
+                for (int y = 1; y <= height; y++) {
+                    blocks.set(localX, y, localZ, BlockTypes.MY_STONE);
+                }
+            }
+        }
+        return blocks;
+    }
+}
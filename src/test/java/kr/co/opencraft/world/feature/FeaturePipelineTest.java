@@ -0,0 +1,82 @@
+package kr.co.opencraft.world.feature;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.opencraft.world.Biome;
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.OpenCraftBlockRegistry;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import kr.co.opencraft.world.section.ChunkHeightmap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FeaturePipelineTest {
+
+    @Test
+    void collect_ShouldOnlyPlaceFeaturesInTheirBiomes() {
+        FeaturePipeline pipeline = new FeaturePipeline(1234L, List.of(new PillarFeature()));
+
+        assertEquals(256, pipeline.collect(0, 0, flatSurface(Biome.PLAINS)).length);
+        assertEquals(0, pipeline.collect(0, 0, flatSurface(Biome.MOUNTAIN)).length);
+    }
+
+    @Test
+    void decorate_ShouldClipFeaturesRootedInNeighbourChunk() {
+        FeaturePipeline pipeline = new FeaturePipeline(1234L, List.of(new PillarFeature()));
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        ChunkHeightmap heightmap = new ChunkHeightmap();
+        List<FeaturePlacement> gathered = new ArrayList<>(List.of(pipeline.collect(-1, 0, flatSurface(Biome.PLAINS))));
+
+        pipeline.decorate(gathered, new DecorationTarget(blocks, heightmap, OpenCraftBlockRegistry.blocks(), 0, 0));
+
+        assertEquals(16, gathered.size(), "only the column next to the border reaches this chunk");
+        assertEquals(BlockTypes.OAK_LOG, blocks.get(0, 71, 5));
+        assertEquals(BlockTypes.AIR, blocks.get(1, 71, 5));
+        assertEquals(71, heightmap.getWorldSurfaceY(0, 5));
+    }
+
+    private FeaturePipeline.ColumnSurface flatSurface(Biome biome) {
+        return new FeaturePipeline.ColumnSurface() {
+            @Override
+            public Biome biomeAt(int worldX, int worldZ) {
+                return biome;
+            }
+
+            @Override
+            public int surfaceY(int localX, int localZ) {
+                return 70;
+            }
+
+            @Override
+            public int surfaceBlock(int localX, int surfaceY, int localZ) {
+                return BlockTypes.GRASS;
+            }
+        };
+    }
+
+    /**
+     * One log on every plains column, plus one to the east so it crosses borders.
+     */
+    private static final class PillarFeature implements FeatureDecorator {
+        @Override
+        public double density(Biome biome) {
+            return biome == Biome.PLAINS ? 1.0D : 0.0D;
+        }
+
+        @Override
+        public int reach() {
+            return 1;
+        }
+
+        @Override
+        public boolean canPlace(int surfaceBlock, int surfaceY) {
+            return surfaceBlock == BlockTypes.GRASS;
+        }
+
+        @Override
+        public void place(FeaturePlacement placement, DecorationTarget target) {
+            target.setBlock(placement.getWorldX() + 1, placement.getSurfaceY() + 1, placement.getWorldZ(), BlockTypes.OAK_LOG);
+        }
+    }
+}
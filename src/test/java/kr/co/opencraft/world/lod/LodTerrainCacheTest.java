@@ -0,0 +1,46 @@
+package kr.co.opencraft.world.lod;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LodTerrainCacheTest {
+
+    @Test
+    void retarget_ShouldSkipQueuedChunksOutsideTheRing() throws Exception {
+        try (LodTerrainCache cache = new LodTerrainCache(42L, 64)) {
+            cache.retarget(0, 0, 1, 3);
+
+            assertNull(cache.getOrRequest(40, 40), "outside the ring");
+            assertNull(cache.getOrRequest(0, 0), "inside the full-detail distance");
+            assertNull(cache.getOrRequest(2, -3));
+            awaitIdle(cache);
+
+            assertEquals(1, cache.size());
+            assertNotNull(cache.getOrRequest(2, -3));
+        }
+    }
+
+    @Test
+    void getOrRequest_ShouldQueueEachChunkOnce() throws Exception {
+        try (LodTerrainCache cache = new LodTerrainCache(42L, 64)) {
+            for (int i = 0; i < 10; i++) {
+                cache.getOrRequest(5, 5);
+            }
+            awaitIdle(cache);
+
+            assertEquals(1, cache.getVersion());
+            assertEquals(1, cache.size());
+        }
+    }
+
+    private void awaitIdle(LodTerrainCache cache) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (cache.getPendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5L);
+        }
+        assertEquals(0, cache.getPendingCount());
+    }
+}
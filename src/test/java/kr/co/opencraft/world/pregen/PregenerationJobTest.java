@@ -0,0 +1,105 @@
+package kr.co.opencraft.world.pregen;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.GeneratedChunk;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.opencraft.world.store.RegionChunkStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PregenerationJobTest {
+
+    @TempDir
+    Path worldPath;
+
+    @Test
+    void spiralOffset_ShouldCoverSquareRingByRing() {
+        int radius = 5;
+        Set<Long> seen = new HashSet<>();
+        int[] offset = new int[2];
+        for (int index = 0; index < PregenerationJob.chunkCount(radius); index++) {
+            PregenerationJob.spiralOffset(index, offset);
+            int ring = Math.max(Math.abs(offset[0]), Math.abs(offset[1]));
+            int expectedRing = index == 0 ? 0 : (int) Math.ceil((Math.sqrt(index + 1) - 1) / 2);
+
+            assertEquals(expectedRing, ring, "index " + index + " left its ring");
+            assertTrue(seen.add(((long) offset[0] << 32) | (offset[1] & 0xFFFFFFFFL)), "duplicate at " + index);
+        }
+        assertEquals(121, seen.size());
+    }
+
+    @Test
+    void start_ShouldWriteEveryChunkOnceAndSkipThemOnRerun() throws Exception {
+        long seed = 31337L;
+        try (RegionChunkStore store = RegionChunkStore.open(worldPath.toString())) {
+            PregenerationJob first = new PregenerationJob(seed, store, 30, -2, 2, 3).start();
+            assertTrue(first.awaitCompletion(60, TimeUnit.SECONDS));
+            assertEquals(25, first.getProgress().generated());
+            assertEquals(25, first.getProgress().completed());
+            assertEquals(25, first.getLeadingCompleted());
+
+            PregenerationJob second = new PregenerationJob(seed, store, 30, -2, 2, 2).start();
+            assertTrue(second.awaitCompletion(60, TimeUnit.SECONDS));
+            assertEquals(0, second.getProgress().generated());
+            assertEquals(25, second.getProgress().skipped());
+        }
+
+        try (RegionChunkStore reopened = RegionChunkStore.open(worldPath.toString())) {
+            GeneratedChunk stored = reopened.read(32, 0);
+            GeneratedChunk expected = new TerrainGenerator(seed).generateColumn(32, 0);
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    assertEquals(
+                        expected.heightmap().getWorldSurfaceY(localX, localZ),
+                        stored.heightmap().getWorldSurfaceY(localX, localZ)
+                    );
+                    assertEquals(expected.blocks().get(localX, 40, localZ), stored.blocks().get(localX, 40, localZ));
+                }
+            }
+            assertNull(reopened.read(33, 0), "chunks outside the radius are not stored");
+        }
+    }
+
+    @Test
+    void start_ShouldKeepChunksSavedWhileItRuns() throws Exception {
+        long seed = 8L;
+        try (RegionChunkStore store = RegionChunkStore.open(worldPath.toString())) {
+            GeneratedChunk edited = new TerrainGenerator(seed).generateColumn(0, 0);
+            edited.blocks().set(3, 200, 3, BlockTypes.ORIGIN_STONE);
+            store.write(0, 0, edited.blocks());
+
+            PregenerationJob job = new PregenerationJob(seed, store, 0, 0, 1, 2).start();
+            assertTrue(job.awaitCompletion(60, TimeUnit.SECONDS));
+
+            assertEquals(8, job.getProgress().generated());
+            assertEquals(BlockTypes.ORIGIN_STONE, store.read(0, 0).blocks().get(3, 200, 3));
+        }
+    }
+
+    @Test
+    void awaitLeading_ShouldReturnOnceCenterChunksAreStored() throws Exception {
+        try (RegionChunkStore store = RegionChunkStore.open(worldPath.toString())) {
+            PregenerationJob job = new PregenerationJob(5L, store, 0, 0, 4, 4).start();
+            int required = PregenerationJob.chunkCount(1);
+
+            assertTrue(job.awaitLeading(required, 60, TimeUnit.SECONDS));
+            assertTrue(job.getLeadingCompleted() >= required);
+            int[] offset = new int[2];
+            for (int index = 0; index < required; index++) {
+                PregenerationJob.spiralOffset(index, offset);
+                assertTrue(store.contains(offset[0], offset[1]), "index " + index + " not stored yet");
+            }
+            job.cancel();
+            assertTrue(job.awaitCompletion(60, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.opencraft.world.pregen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PregenerationThrottleTest {
+
+    @Test
+    void recordFrame_ShouldIgnoreIsolatedSlowFrames() {
+        PregenerationThrottle throttle = new PregenerationThrottle();
+
+        for (int frame = 0; frame < 100; frame++) {
+            assertFalse(throttle.recordFrame(frame % 20 == 0), "frame " + frame);
+        }
+    }
+
+    @Test
+    void recordFrame_ShouldHoldThrottleUntilAWholeWindowIsFast() {
+        PregenerationThrottle throttle = new PregenerationThrottle();
+        throttle.recordFrame(true);
+        throttle.recordFrame(false);
+        throttle.recordFrame(true);
+        assertTrue(throttle.recordFrame(true));
+
+        for (int frame = 0; frame < PregenerationThrottle.WINDOW_FRAMES - 1; frame++) {
+            assertTrue(throttle.recordFrame(false), "released after " + frame + " fast frames");
+        }
+        assertFalse(throttle.recordFrame(false));
+    }
+}
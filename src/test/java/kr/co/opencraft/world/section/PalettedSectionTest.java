@@ -0,0 +1,69 @@
+package kr.co.opencraft.world.section;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.TerrainGenerator;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PalettedSectionTest {
+
+    @Test
+    void set_ShouldGrowBitsOnlyWhenPaletteOverflows() {
+        PalettedSection section = new PalettedSection();
+        assertEquals(1, section.getBitsPerEntry());
+
+        section.set(0, 0, 0, BlockTypes.MY_STONE);
+        assertEquals(1, section.getBitsPerEntry());
+
+        section.set(1, 0, 0, BlockTypes.DIRT);
+        section.set(2, 0, 0, BlockTypes.GRASS);
+        assertEquals(2, section.getBitsPerEntry());
+
+        section.set(3, 0, 0, BlockTypes.BEDROCK);
+        assertEquals(3, section.getBitsPerEntry());
+
+        assertEquals(BlockTypes.MY_STONE, section.get(0, 0, 0));
+        assertEquals(BlockTypes.DIRT, section.get(1, 0, 0));
+        assertEquals(BlockTypes.GRASS, section.get(2, 0, 0));
+        assertEquals(BlockTypes.BEDROCK, section.get(3, 0, 0));
+        assertEquals(BlockTypes.AIR, section.get(15, 15, 15));
+        assertEquals(4, section.getNonAirCount());
+    }
+
+    @Test
+    void set_ShouldTrackAirCount() {
+        PalettedSection section = new PalettedSection();
+        for (int index = 0; index < ChunkSections.BLOCKS_PER_SECTION; index++) {
+            section.set(index, BlockTypes.MY_STONE);
+        }
+        assertEquals(ChunkSections.BLOCKS_PER_SECTION, section.getNonAirCount());
+
+        assertEquals(BlockTypes.MY_STONE, section.set(7, 7, 7, BlockTypes.WATER));
+
+        section.set(7, 7, 7, BlockTypes.AIR);
+        assertEquals(ChunkSections.BLOCKS_PER_SECTION - 1, section.getNonAirCount());
+    }
+
+    @Test
+    void generatedChunk_ShouldRoundTripThroughEngineChunk() {
+        ChunkBlockBuffer generated = new TerrainGenerator(1234L).generateBlocks(0, 0);
+        Chunk chunk = new Chunk(new ChunkCoord(0, 0));
+        generated.copyTo(chunk);
+
+        ChunkBlockBuffer decoded = ChunkBlockBuffer.copyOf(chunk);
+
+        for (int y = 0; y < ChunkSections.CHUNK_HEIGHT; y++) {
+            for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+                for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                    assertEquals(generated.get(localX, y, localZ), decoded.get(localX, y, localZ));
+                }
+            }
+        }
+        assertTrue(generated.isSectionEmpty(ChunkSections.SECTION_COUNT - 1));
+        assertTrue(generated.estimateMemoryBytes() < 64 * 1024, "palette storage should stay compact");
+    }
+}
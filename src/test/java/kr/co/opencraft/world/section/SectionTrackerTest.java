@@ -0,0 +1,54 @@
+package kr.co.opencraft.world.section;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.voxelite.world.Chunk;
+import kr.co.voxelite.world.ChunkCoord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SectionTrackerTest {
+
+    @Test
+    void track_ShouldBuildHeightmapFromEngineChunk() {
+        SectionTracker tracker = new SectionTracker();
+        Chunk chunk = filledChunk(new ChunkCoord(0, 0), 64);
+        chunk.addBlockLocal(2, 80, 2, BlockTypes.WATER);
+
+        tracker.track(chunk);
+
+        assertEquals(63, tracker.getSurfaceY(0, 0));
+        assertEquals(80, tracker.getSurfaceY(2, 2));
+        assertEquals(BlockTypes.AIR, tracker.getBlockType(0, 64, 0));
+    }
+
+    @Test
+    void onBlockChanged_ShouldUpdateSurfaceAndMarkModified() {
+        SectionTracker tracker = new SectionTracker();
+        Chunk chunk = filledChunk(new ChunkCoord(0, 0), 64);
+        ChunkSectionState state = tracker.track(chunk);
+        assertFalse(state.isModified());
+
+        chunk.addBlockLocal(5, 64, 5, BlockTypes.ORIGIN_STONE);
+        tracker.onBlockChanged(5, 64, 5);
+
+        assertTrue(state.isModified());
+        assertEquals(BlockTypes.ORIGIN_STONE, tracker.getBlockType(5, 64, 5));
+        assertEquals(64, tracker.getSurfaceY(5, 5));
+        assertEquals(63, tracker.getSurfaceY(6, 5));
+    }
+
+    private Chunk filledChunk(ChunkCoord coord, int height) {
+        Chunk chunk = new Chunk(coord);
+        for (int localX = 0; localX < Chunk.CHUNK_SIZE; localX++) {
+            for (int localZ = 0; localZ < Chunk.CHUNK_SIZE; localZ++) {
+                for (int y = 0; y < height; y++) {
+                    chunk.addBlockLocal(localX, y, localZ, BlockTypes.MY_STONE);
+                }
+            }
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,78 @@
+package kr.co.opencraft.world.store;
+
+import kr.co.opencraft.world.BlockTypes;
+import kr.co.opencraft.world.section.ChunkBlockBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionChunkStoreTest {
+    private static final int[] TYPES = {
+        BlockTypes.AIR, BlockTypes.MY_STONE, BlockTypes.DIRT, BlockTypes.GRASS, BlockTypes.OAK_LOG
+    };
+
+    @TempDir
+    Path worldPath;
+
+    @Test
+    void writeIfAbsent_ShouldNotReplaceStoredChunk() throws Exception {
+        try (RegionChunkStore store = RegionChunkStore.open(worldPath.toString())) {
+            assertTrue(store.writeIfAbsent(3, 4, noisyChunk(1L)));
+            assertFalse(store.writeIfAbsent(3, 4, noisyChunk(2L)));
+
+            assertChunkEquals(noisyChunk(1L), store.read(3, 4).blocks());
+        }
+    }
+
+    @Test
+    void close_ShouldCompactRewrittenChunksAndKeepLatestCopy() throws Exception {
+        Path region = worldPath.resolve(RegionChunkStore.DIRECTORY).resolve("r.0.0.ocr");
+        long sizeBeforeClose;
+        int rewrites = 0;
+        try (RegionChunkStore store = RegionChunkStore.open(worldPath.toString())) {
+            store.write(1, 1, noisyChunk(-1L));
+            do {
+                store.write(0, 0, noisyChunk(rewrites++));
+            } while (Files.size(region) < 1024L * 1024L);
+            sizeBeforeClose = Files.size(region);
+        }
+
+        long sizeAfterClose = Files.size(region);
+        assertTrue(sizeAfterClose < sizeBeforeClose / 4, sizeBeforeClose + " -> " + sizeAfterClose);
+        try (RegionChunkStore reopened = RegionChunkStore.open(worldPath.toString())) {
+            assertChunkEquals(noisyChunk(rewrites - 1), reopened.read(0, 0).blocks());
+            assertChunkEquals(noisyChunk(-1L), reopened.read(1, 1).blocks());
+        }
+    }
+
+    private static ChunkBlockBuffer noisyChunk(long seed) {
+        Random random = new Random(seed);
+        ChunkBlockBuffer blocks = new ChunkBlockBuffer();
+        for (int y = 0; y < 64; y++) {
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    blocks.set(localX, y, localZ, TYPES[random.nextInt(TYPES.length)]);
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private static void assertChunkEquals(ChunkBlockBuffer expected, ChunkBlockBuffer actual) {
+        for (int y = 0; y < 64; y++) {
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    assertEquals(expected.get(localX, y, localZ), actual.get(localX, y, localZ),
+                        "block at " + localX + "," + y + "," + localZ);
+                }
+            }
+        }
+    }
+}